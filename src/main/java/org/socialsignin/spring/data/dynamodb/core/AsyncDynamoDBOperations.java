@@ -0,0 +1,142 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link DynamoDBOperations}. Every operation
+ * returns immediately with a {@link CompletableFuture} that is completed once
+ * DynamoDB answered. Failures are reported by completing the future
+ * exceptionally with the same exception the blocking variant would throw.
+ *
+ * Unlike {@link DynamoDBOperations}, query and scan results are fully
+ * materialized {@link List}s instead of lazy loading lists.
+ */
+public interface AsyncDynamoDBOperations {
+
+	<T> CompletableFuture<Integer> count(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+	<T> CompletableFuture<Integer> count(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+	<T> CompletableFuture<Integer> count(Class<T> clazz, QueryRequest queryRequest);
+
+	<T> CompletableFuture<List<T>> query(Class<T> clazz, QueryRequest queryRequest);
+	<T> CompletableFuture<List<T>> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+	<T> CompletableFuture<List<T>> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	/**
+	 * Fetches exactly one page of results, starting at the exclusive start key of
+	 * the given request.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryRequest
+	 *            The request to execute - not modified
+	 * @return the page of results including the key to continue with
+	 */
+	<T> CompletableFuture<QueryResultPage<T>> queryPage(Class<T> domainClass, QueryRequest queryRequest);
+	<T> CompletableFuture<QueryResultPage<T>> queryPage(Class<T> domainClass,
+			DynamoDBQueryExpression<T> queryExpression);
+	<T> CompletableFuture<ScanResultPage<T>> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	<T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, Object rangeKey);
+	<T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey);
+	<T> CompletableFuture<Boolean> exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey);
+	<T> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet);
+	default <T> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet,
+			@Nullable DynamoDBMapperConfig.ConsistentReads consistentReads) {
+		return batchLoad(itemsToGet);
+	}
+
+	<T> CompletableFuture<T> save(T entity);
+	<T> CompletableFuture<T> update(T entity, Collection<String> attributeNames);
+	CompletableFuture<List<FailedBatch>> batchSave(Iterable<?> entities);
+
+	<T> CompletableFuture<T> delete(T entity);
+
+	/**
+	 * Non-blocking counterpart of
+	 * {@link DynamoDBOperations#deleteByKey(Class, Object, Object)}. The default
+	 * implementation loads the entity and deletes it via {@link #delete(Object)}.
+	 *
+	 * @param domainClass
+	 *            the entity type
+	 * @param hashKey
+	 *            must not be {@code null}
+	 * @param rangeKey
+	 *            the range key - {@code null} if the entity has a hash key only
+	 * @param <T>
+	 *            the entity type
+	 * @return a future completed with {@code true} if an item was deleted,
+	 *         {@code false} if no item with the given key exists
+	 */
+	default <T> CompletableFuture<Boolean> deleteByKey(Class<T> domainClass, Object hashKey,
+			@Nullable Object rangeKey) {
+		CompletableFuture<T> entity = rangeKey == null
+				? load(domainClass, hashKey)
+				: load(domainClass, hashKey, rangeKey);
+		return entity.thenCompose(loaded -> loaded == null
+				? CompletableFuture.completedFuture(false)
+				: delete(loaded).thenApply(deleted -> true));
+	}
+
+	/**
+	 * @param domainClass
+	 *            the entity type
+	 * @param <T>
+	 *            the entity type
+	 * @return {@code true} if the entity has to be read before it is deleted
+	 * @see DynamoDBOperations#isEntityRequiredForDelete(Class)
+	 */
+	default <T> boolean isEntityRequiredForDelete(Class<T> domainClass) {
+		return true;
+	}
+	CompletableFuture<List<FailedBatch>> batchDelete(Iterable<?> entities);
+
+	CompletableFuture<Void> transactWrite(TransactionWriteRequest transactionWriteRequest);
+	CompletableFuture<List<Object>> transactGet(TransactionLoadRequest transactionLoadRequest);
+
+	<T> String getOverriddenTableName(Class<T> domainClass, String tableName);
+
+	/**
+	 * Provides access to the DynamoDB mapper table model of the underlying domain
+	 * type.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @return Corresponding DynamoDB table model
+	 */
+	<T> DynamoDBMapperTableModel<T> getTableModel(Class<T> domainClass);
+}
@@ -0,0 +1,547 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsyncClient;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * {@link AsyncDynamoDBOperations} implementation backed by
+ * {@link AmazonDynamoDBAsync}.
+ *
+ * Key based loads as well as {@link QueryRequest} and
+ * {@link DynamoDBScanExpression} based reads are issued directly against the
+ * asynchronous client and never block a thread while waiting for DynamoDB.
+ * Operations that depend on {@link DynamoDBMapper} behaviour (versioning,
+ * auto-generated keys, batch retries) are executed by a {@link DynamoDBTemplate}
+ * on the configured {@link Executor}, so the calling thread is released in any
+ * case and the usual mapping events are still published. Reads that go
+ * directly against the client publish an {@link AfterScanEvent} or
+ * {@link AfterQueryEvent} for every result, like the lazy lists of
+ * {@link DynamoDBTemplate} do.
+ */
+public class AsyncDynamoDBTemplate implements AsyncDynamoDBOperations, ApplicationContextAware, DisposableBean {
+	private final AmazonDynamoDBAsync amazonDynamoDB;
+	private final DynamoDBMapper dynamoDBMapper;
+	private final DynamoDBMapperConfig dynamoDBMapperConfig;
+	private final DynamoDBTemplate dynamoDBTemplate;
+	private final Executor executor;
+	@Nullable
+	private final ExecutorService defaultExecutor;
+	private ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Initializes a new {@code AsyncDynamoDBTemplate} that runs mapper based
+	 * operations on the executor of the given client if it exposes one, otherwise
+	 * on a fixed thread pool of its own, which is shut down by
+	 * {@link #destroy()}.
+	 *
+	 * @param amazonDynamoDB
+	 *            must not be {@code null}
+	 * @param dynamoDBTemplate
+	 *            must not be {@code null} - the template whose entity cache, load
+	 *            batching, retry policy and listeners are shared
+	 */
+	public AsyncDynamoDBTemplate(AmazonDynamoDBAsync amazonDynamoDB, DynamoDBTemplate dynamoDBTemplate) {
+		this(amazonDynamoDB, dynamoDBTemplate, null, true);
+	}
+
+	/**
+	 * Initializes a new {@code AsyncDynamoDBTemplate}.
+	 *
+	 * @param amazonDynamoDB
+	 *            must not be {@code null}
+	 * @param dynamoDBTemplate
+	 *            must not be {@code null} - the template whose entity cache, load
+	 *            batching, retry policy and listeners are shared
+	 * @param executor
+	 *            must not be {@code null} - runs the operations that have to go
+	 *            through the (blocking) {@link DynamoDBMapper}
+	 */
+	public AsyncDynamoDBTemplate(AmazonDynamoDBAsync amazonDynamoDB, DynamoDBTemplate dynamoDBTemplate,
+			Executor executor) {
+		this(amazonDynamoDB, dynamoDBTemplate, executor, false);
+	}
+
+	private AsyncDynamoDBTemplate(AmazonDynamoDBAsync amazonDynamoDB, DynamoDBTemplate dynamoDBTemplate,
+			@Nullable Executor executor, boolean defaultExecutor) {
+		Assert.notNull(amazonDynamoDB, "amazonDynamoDB must not be null!");
+		Assert.notNull(dynamoDBTemplate, "dynamoDBTemplate must not be null!");
+		Assert.isTrue(defaultExecutor || executor != null, "executor must not be null!");
+
+		this.amazonDynamoDB = amazonDynamoDB;
+		this.dynamoDBTemplate = dynamoDBTemplate;
+		this.dynamoDBMapper = dynamoDBTemplate.getDynamoDBMapper();
+		this.dynamoDBMapperConfig = dynamoDBTemplate.getDynamoDBMapperConfig();
+		if (!defaultExecutor) {
+			this.executor = executor;
+			this.defaultExecutor = null;
+		} else if (amazonDynamoDB instanceof AmazonDynamoDBAsyncClient) {
+			// Owned and shut down by the client
+			this.executor = ((AmazonDynamoDBAsyncClient) amazonDynamoDB).getExecutorService();
+			this.defaultExecutor = null;
+		} else {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dynamodb-async-");
+			threadFactory.setDaemon(true);
+			this.defaultExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+					threadFactory);
+			this.executor = this.defaultExecutor;
+		}
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.eventPublisher = applicationContext;
+	}
+
+	/**
+	 * Shuts down the thread pool this template created as no executor was
+	 * given. The shared {@link DynamoDBTemplate} is destroyed on its own.
+	 */
+	@Override
+	public void destroy() {
+		if (defaultExecutor != null) {
+			defaultExecutor.shutdown();
+		}
+	}
+
+	@Override
+	public <T> CompletableFuture<Integer> count(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.count(domainClass, queryExpression), executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<Integer> count(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		ScanRequest scanRequest = createScanRequest(domainClass, scanExpression).withSelect(Select.COUNT);
+		return scanAll(scanRequest, new ArrayList<>()).thenApply(results -> {
+			int count = 0;
+			for (ScanResult result : results) {
+				count += result.getCount();
+			}
+			return count;
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<Integer> count(Class<T> clazz, QueryRequest queryRequest) {
+		// The request is paged through asynchronously, so the one of the caller is
+		// left untouched
+		QueryRequest request = queryRequest.clone().withSelect(Select.COUNT);
+
+		// Count queries can also be truncated for large datasets
+		return queryAll(request, new ArrayList<>()).thenApply(results -> {
+			int count = 0;
+			for (QueryResult result : results) {
+				count += result.getCount();
+			}
+			return count;
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> query(Class<T> clazz, QueryRequest queryRequest) {
+		QueryRequest request = queryRequest.clone();
+
+		// If a limit is set, do not fetch (matching) items after the first page -
+		// this mirrors DynamoDBTemplate#query(Class, QueryRequest)
+		if (request.getLimit() != null) {
+			return this.<QueryRequest, QueryResult>call(handler -> amazonDynamoDB.queryAsync(request, handler))
+					.thenApply(result -> emitQueryEvents(clazz,
+							dynamoDBMapper.marshallIntoObjects(clazz, result.getItems(), dynamoDBMapperConfig)));
+		}
+
+		return queryAll(request, new ArrayList<>()).thenApply(results -> {
+			List<Map<String, AttributeValue>> items = new ArrayList<>();
+			for (QueryResult result : results) {
+				items.addAll(result.getItems());
+			}
+			return emitQueryEvents(clazz, dynamoDBMapper.marshallIntoObjects(clazz, items, dynamoDBMapperConfig));
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		return CompletableFuture.supplyAsync(() -> new ArrayList<>(dynamoDBTemplate.query(domainClass, queryExpression)),
+				executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		ScanRequest scanRequest = createScanRequest(domainClass, scanExpression);
+		return scanAll(scanRequest, new ArrayList<>()).thenApply(results -> {
+			List<Map<String, AttributeValue>> items = new ArrayList<>();
+			for (ScanResult result : results) {
+				items.addAll(result.getItems());
+			}
+			return emitScanEvents(domainClass,
+					dynamoDBMapper.marshallIntoObjects(domainClass, items, dynamoDBMapperConfig));
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<QueryResultPage<T>> queryPage(Class<T> domainClass, QueryRequest queryRequest) {
+		QueryRequest request = queryRequest.clone();
+		return this.<QueryRequest, QueryResult>call(handler -> amazonDynamoDB.queryAsync(request, handler))
+				.thenApply(result -> {
+					QueryResultPage<T> page = new QueryResultPage<>();
+					page.setResults(emitQueryEvents(domainClass,
+							dynamoDBMapper.marshallIntoObjects(domainClass, result.getItems(), dynamoDBMapperConfig)));
+					page.setLastEvaluatedKey(result.getLastEvaluatedKey());
+					page.setCount(result.getCount());
+					page.setScannedCount(result.getScannedCount());
+					page.setConsumedCapacity(result.getConsumedCapacity());
+					return page;
+				});
+	}
+
+	@Override
+	public <T> CompletableFuture<QueryResultPage<T>> queryPage(Class<T> domainClass,
+			DynamoDBQueryExpression<T> queryExpression) {
+		return CompletableFuture.supplyAsync(() -> {
+			QueryResultPage<T> page = dynamoDBMapper.queryPage(domainClass, queryExpression, dynamoDBMapperConfig);
+			emitQueryEvents(domainClass, page.getResults());
+			return page;
+		}, executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<ScanResultPage<T>> scanPage(Class<T> domainClass,
+			DynamoDBScanExpression scanExpression) {
+		ScanRequest scanRequest = createScanRequest(domainClass, scanExpression);
+		return this.<ScanRequest, ScanResult>call(handler -> amazonDynamoDB.scanAsync(scanRequest, handler))
+				.thenApply(result -> {
+					ScanResultPage<T> page = new ScanResultPage<>();
+					page.setResults(emitScanEvents(domainClass,
+							dynamoDBMapper.marshallIntoObjects(domainClass, result.getItems(), dynamoDBMapperConfig)));
+					page.setLastEvaluatedKey(result.getLastEvaluatedKey());
+					page.setCount(result.getCount());
+					page.setScannedCount(result.getScannedCount());
+					page.setConsumedCapacity(result.getConsumedCapacity());
+					return page;
+				});
+	}
+
+	@Override
+	public <T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, Object rangeKey) {
+		return load(domainClass, getTableModel(domainClass), hashKey, rangeKey);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey) {
+		return load(domainClass, getTableModel(domainClass), hashKey, null);
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		Assert.notNull(hashKey, "hashKey must not be null!");
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Map<String, AttributeValue> key = tableModel.convertKey(hashKey, rangeKey);
+		EntityCacheHandler entityCacheHandler = dynamoDBTemplate.getEntityCacheHandler();
+		if (entityCacheHandler.isCacheable(domainClass)
+				&& entityCacheHandler.get(domainClass, tableModel, key) != null) {
+			return CompletableFuture.completedFuture(true);
+		}
+
+		GetItemRequest getItemRequest = dynamoDBTemplate.createKeyOnlyGetItemRequest(getTableName(domainClass), key);
+		return this.<GetItemRequest, GetItemResult>call(handler -> amazonDynamoDB.getItemAsync(getItemRequest, handler))
+				.thenApply(result -> result.getItem() != null);
+	}
+
+	private <T> CompletableFuture<T> load(Class<T> domainClass, DynamoDBMapperTableModel<T> tableModel,
+			Object hashKey, @Nullable Object rangeKey) {
+		Map<String, AttributeValue> key = tableModel.convertKey(hashKey, rangeKey);
+		EntityCacheHandler entityCacheHandler = dynamoDBTemplate.getEntityCacheHandler();
+		boolean cacheable = entityCacheHandler.isCacheable(domainClass);
+		long generation = cacheable ? entityCacheHandler.generation(domainClass) : 0;
+		if (cacheable) {
+			T cached = entityCacheHandler.get(domainClass, tableModel, key);
+			if (cached != null) {
+				maybeEmitLoadEvent(cached);
+				return CompletableFuture.completedFuture(cached);
+			}
+		}
+
+		LoadBatcher loadBatcher = dynamoDBTemplate.getLoadBatcher();
+		if (loadBatcher != null) {
+			return loadBatcher.load(domainClass, hashKey, rangeKey).thenApply(entity -> {
+				if (entity != null) {
+					if (cacheable) {
+						entityCacheHandler.put(domainClass, tableModel, entity, generation);
+					}
+					maybeEmitLoadEvent(entity);
+				}
+				return entity;
+			});
+		}
+
+		GetItemRequest getItemRequest = new GetItemRequest().withTableName(getTableName(domainClass)).withKey(key)
+				.withConsistentRead(
+						dynamoDBMapperConfig.getConsistentReads() == DynamoDBMapperConfig.ConsistentReads.CONSISTENT);
+
+		return this.<GetItemRequest, GetItemResult>call(handler -> amazonDynamoDB.getItemAsync(getItemRequest, handler))
+				.thenApply(result -> {
+					if (result.getItem() == null) {
+						return null;
+					}
+					T entity = tableModel.unconvert(result.getItem());
+					if (cacheable) {
+						entityCacheHandler.put(domainClass, tableModel, entity, generation);
+					}
+					maybeEmitLoadEvent(entity);
+					return entity;
+				});
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.batchLoad(itemsToGet), executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet,
+			@Nullable DynamoDBMapperConfig.ConsistentReads consistentReads) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.batchLoad(itemsToGet, consistentReads), executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> save(T entity) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.save(entity), executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> update(T entity, Collection<String> attributeNames) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.update(entity, attributeNames), executor);
+	}
+
+	@Override
+	public CompletableFuture<List<FailedBatch>> batchSave(Iterable<?> entities) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.batchSave(entities), executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> delete(T entity) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.delete(entity), executor);
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> deleteByKey(Class<T> domainClass, Object hashKey,
+			@Nullable Object rangeKey) {
+		Assert.notNull(hashKey, "hashKey must not be null!");
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Map<String, AttributeValue> key = tableModel.convertKey(hashKey, rangeKey);
+		DeleteItemRequest deleteItemRequest = dynamoDBTemplate.createDeleteByKeyRequest(domainClass, tableModel, key);
+
+		return this.<DeleteItemRequest, DeleteItemResult>call(
+				handler -> amazonDynamoDB.deleteItemAsync(deleteItemRequest, handler)).handle((result, failure) -> {
+					EntityCacheHandler entityCacheHandler = dynamoDBTemplate.getEntityCacheHandler();
+					if (entityCacheHandler.isCacheable(domainClass)) {
+						entityCacheHandler.evict(domainClass, key);
+					}
+					if (failure == null) {
+						return true;
+					} else if (failure instanceof ConditionalCheckFailedException) {
+						return false;
+					}
+					throw failure instanceof CompletionException
+							? (CompletionException) failure
+							: new CompletionException(failure);
+				});
+	}
+
+	@Override
+	public <T> boolean isEntityRequiredForDelete(Class<T> domainClass) {
+		return dynamoDBTemplate.isEntityRequiredForDelete(domainClass);
+	}
+
+	@Override
+	public CompletableFuture<List<FailedBatch>> batchDelete(Iterable<?> entities) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.batchDelete(entities), executor);
+	}
+
+	@Override
+	public CompletableFuture<Void> transactWrite(TransactionWriteRequest transactionWriteRequest) {
+		return CompletableFuture.runAsync(() -> dynamoDBTemplate.transactWrite(transactionWriteRequest), executor);
+	}
+
+	@Override
+	public CompletableFuture<List<Object>> transactGet(TransactionLoadRequest transactionLoadRequest) {
+		return CompletableFuture.supplyAsync(() -> dynamoDBTemplate.transactGet(transactionLoadRequest), executor);
+	}
+
+	@Override
+	public <T> String getOverriddenTableName(Class<T> domainClass, String tableName) {
+		return dynamoDBTemplate.getOverriddenTableName(domainClass, tableName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T> DynamoDBMapperTableModel<T> getTableModel(Class<T> domainClass) {
+		return dynamoDBMapper.getTableModel(domainClass, dynamoDBMapperConfig);
+	}
+
+	private CompletableFuture<List<QueryResult>> queryAll(QueryRequest queryRequest, List<QueryResult> results) {
+		return this.<QueryRequest, QueryResult>call(handler -> amazonDynamoDB.queryAsync(queryRequest, handler))
+				.thenCompose(result -> {
+					results.add(result);
+					if (result.getLastEvaluatedKey() == null) {
+						return CompletableFuture.completedFuture(results);
+					}
+					queryRequest.setExclusiveStartKey(result.getLastEvaluatedKey());
+					return queryAll(queryRequest, results);
+				});
+	}
+
+	private CompletableFuture<List<ScanResult>> scanAll(ScanRequest scanRequest, List<ScanResult> results) {
+		return this.<ScanRequest, ScanResult>call(handler -> amazonDynamoDB.scanAsync(scanRequest, handler))
+				.thenCompose(result -> {
+					results.add(result);
+					if (result.getLastEvaluatedKey() == null) {
+						return CompletableFuture.completedFuture(results);
+					}
+					scanRequest.setExclusiveStartKey(result.getLastEvaluatedKey());
+					return scanAll(scanRequest, results);
+				});
+	}
+
+	<T> ScanRequest createScanRequest(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		return new ScanRequest(getTableName(domainClass)).withIndexName(scanExpression.getIndexName())
+				.withScanFilter(scanExpression.getScanFilter())
+				.withConditionalOperator(scanExpression.getConditionalOperator())
+				.withFilterExpression(scanExpression.getFilterExpression())
+				.withExpressionAttributeNames(scanExpression.getExpressionAttributeNames())
+				.withExpressionAttributeValues(scanExpression.getExpressionAttributeValues())
+				.withProjectionExpression(scanExpression.getProjectionExpression())
+				.withSelect(scanExpression.getSelect()).withLimit(scanExpression.getLimit())
+				.withSegment(scanExpression.getSegment()).withTotalSegments(scanExpression.getTotalSegments())
+				.withExclusiveStartKey(scanExpression.getExclusiveStartKey())
+				.withConsistentRead(scanExpression.isConsistentRead())
+				.withReturnConsumedCapacity(scanExpression.getReturnConsumedCapacity());
+	}
+
+	<T> String getTableName(Class<T> domainClass) {
+		DynamoDBMapperConfig.TableNameResolver tableNameResolver = dynamoDBMapperConfig.getTableNameResolver();
+		if (tableNameResolver == null) {
+			tableNameResolver = DynamoDBMapperConfig.DefaultTableNameResolver.INSTANCE;
+		}
+		return tableNameResolver.getTableName(domainClass, dynamoDBMapperConfig);
+	}
+
+	private <T> void maybeEmitLoadEvent(T entity) {
+		if (eventPublisher != null && entity != null) {
+			eventPublisher.publishEvent(new AfterLoadEvent<>(entity));
+		}
+	}
+
+	private <T> List<T> emitScanEvents(Class<T> domainClass, List<T> results) {
+		if (eventPublisher != null) {
+			for (T entity : results) {
+				PaginatedScanList<T> source = EventEmittingScanList.singleResult(dynamoDBMapper, domainClass, entity);
+				eventPublisher.publishEvent(new AfterScanEvent<>(source));
+			}
+		}
+		return results;
+	}
+
+	private <T> List<T> emitQueryEvents(Class<T> domainClass, List<T> results) {
+		if (eventPublisher != null) {
+			for (T entity : results) {
+				PaginatedQueryList<T> source = EventEmittingQueryList.singleResult(dynamoDBMapper, domainClass, entity);
+				eventPublisher.publishEvent(new AfterQueryEvent<>(source));
+			}
+		}
+		return results;
+	}
+
+	private <Q extends AmazonWebServiceRequest, R> CompletableFuture<R> call(
+			Consumer<AsyncHandler<Q, R>> invocation) {
+		CompletableFutureHandler<Q, R> handler = new CompletableFutureHandler<>();
+		try {
+			invocation.accept(handler);
+		} catch (RuntimeException e) {
+			handler.completeExceptionally(e);
+		}
+		return handler;
+	}
+
+	/**
+	 * Bridges the callback style {@link AsyncHandler} of the AWS SDK into a
+	 * {@link CompletableFuture}.
+	 */
+	private static class CompletableFutureHandler<Q extends AmazonWebServiceRequest, R> extends CompletableFuture<R>
+			implements
+				AsyncHandler<Q, R> {
+
+		@Override
+		public void onError(Exception exception) {
+			completeExceptionally(exception);
+		}
+
+		@Override
+		public void onSuccess(Q request, R result) {
+			complete(result);
+		}
+	}
+}
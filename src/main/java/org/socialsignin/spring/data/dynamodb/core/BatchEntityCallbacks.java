@@ -0,0 +1,99 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.mapping.event.BatchEntityCallback;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Dispatches batch operations to the {@link BatchEntityCallback}s of the
+ * domain types of the entities. The matching callbacks are resolved once per
+ * domain type.
+ */
+class BatchEntityCallbacks {
+
+	static final BatchEntityCallbacks NONE = new BatchEntityCallbacks(Collections.emptyList());
+
+	private final Map<BatchEntityCallback<?>, Class<?>> domainClasses = new LinkedHashMap<>();
+	private final ConcurrentMap<Class<?>, List<BatchEntityCallback<Object>>> callbacksByDomainClass = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("rawtypes")
+	BatchEntityCallbacks(Collection<BatchEntityCallback> callbacks) {
+		List<BatchEntityCallback<?>> sorted = new ArrayList<>();
+		for (BatchEntityCallback callback : callbacks) {
+			sorted.add(callback);
+		}
+		AnnotationAwareOrderComparator.sort(sorted);
+		for (BatchEntityCallback<?> callback : sorted) {
+			Class<?> typeArgument = GenericTypeResolver.resolveTypeArgument(callback.getClass(),
+					BatchEntityCallback.class);
+			domainClasses.put(callback, typeArgument == null ? Object.class : typeArgument);
+		}
+	}
+
+	boolean isEmpty() {
+		return domainClasses.isEmpty();
+	}
+
+	boolean hasCallbacks(Class<?> domainClass) {
+		return !isEmpty() && !callbacksFor(domainClass).isEmpty();
+	}
+
+	/**
+	 * Invokes the hook once per domain type of the given entities for every
+	 * callback registered for that type.
+	 */
+	void invoke(Iterable<?> entities, BiConsumer<BatchEntityCallback<Object>, List<Object>> hook) {
+		if (isEmpty()) {
+			return;
+		}
+
+		Map<Class<?>, List<Object>> entitiesByDomainClass = new LinkedHashMap<>();
+		for (Object entity : entities) {
+			entitiesByDomainClass.computeIfAbsent(entity.getClass(), c -> new ArrayList<>()).add(entity);
+		}
+		entitiesByDomainClass.forEach((domainClass, domainEntities) -> {
+			List<Object> unmodifiableEntities = Collections.unmodifiableList(domainEntities);
+			for (BatchEntityCallback<Object> callback : callbacksFor(domainClass)) {
+				hook.accept(callback, unmodifiableEntities);
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<BatchEntityCallback<Object>> callbacksFor(Class<?> domainClass) {
+		return callbacksByDomainClass.computeIfAbsent(domainClass, c -> {
+			List<BatchEntityCallback<Object>> matching = new ArrayList<>();
+			domainClasses.forEach((callback, callbackDomainClass) -> {
+				if (callbackDomainClass.isAssignableFrom(c)) {
+					matching.add((BatchEntityCallback<Object>) callback);
+				}
+			});
+			return matching;
+		});
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the retries of unprocessed batch write items, e.g. to be exposed
+ * as gauges of a metrics registry.
+ *
+ * @see BatchRetryPolicy
+ */
+public class BatchRetryMetrics {
+
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong retriedItems = new AtomicLong();
+	private final AtomicLong failedItems = new AtomicLong();
+
+	void recordRetry(int items) {
+		retries.incrementAndGet();
+		retriedItems.addAndGet(items);
+	}
+
+	void recordFailure(int items) {
+		failedItems.addAndGet(items);
+	}
+
+	/**
+	 * @return the number of retry rounds of unprocessed items
+	 */
+	public long getRetries() {
+		return retries.get();
+	}
+
+	/**
+	 * @return the number of items that have been re-submitted, counted once per
+	 *         retry round
+	 */
+	public long getRetriedItems() {
+		return retriedItems.get();
+	}
+
+	/**
+	 * @return the number of items that remained unprocessed after all retries
+	 */
+	public long getFailedItems() {
+		return failedItems.get();
+	}
+
+	@Override
+	public String toString() {
+		return "BatchRetryMetrics [retries=" + getRetries() + ", retriedItems=" + getRetriedItems()
+				+ ", failedItems=" + getFailedItems() + "]";
+	}
+}
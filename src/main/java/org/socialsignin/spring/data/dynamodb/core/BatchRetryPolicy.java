@@ -0,0 +1,119 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * Configures how {@link DynamoDBTemplate} re-submits items that DynamoDB left
+ * unprocessed during {@code batchSave} / {@code batchDelete}, e.g. due to
+ * throttling. Retries use exponential backoff with full jitter: before retry
+ * {@code n} the template sleeps a random duration between zero and
+ * {@code min(maxDelay, baseDelay * 2^(n-1))}.
+ *
+ * Retrying stops once {@code maxAttempts} (including the initial attempt) are
+ * reached or the next backoff would exceed the {@code timeBudget}. Only the
+ * items still unprocessed at that point are reported as
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch}.
+ */
+public class BatchRetryPolicy {
+
+	/**
+	 * The policy of {@link DynamoDBTemplate} unless configured otherwise: up to
+	 * {@code 5} attempts, backoffs between {@code 50ms} and {@code 1s} and at most
+	 * {@code 5s} spent retrying
+	 */
+	public static final BatchRetryPolicy DEFAULT = new BatchRetryPolicy(5, Duration.ofMillis(50),
+			Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+	/**
+	 * Does not retry at all - failed batches are returned as reported by the
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper}
+	 */
+	public static final BatchRetryPolicy NONE = new BatchRetryPolicy(1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+	private final int maxAttempts;
+	private final Duration baseDelay;
+	private final Duration maxDelay;
+	private final Duration timeBudget;
+
+	/**
+	 * @param maxAttempts
+	 *            maximum number of attempts per item including the initial one -
+	 *            must be at least {@code 1}
+	 * @param baseDelay
+	 *            upper bound of the backoff before the first retry
+	 * @param maxDelay
+	 *            upper bound of any single backoff
+	 * @param timeBudget
+	 *            maximum total time spent retrying
+	 */
+	public BatchRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Duration timeBudget) {
+		Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than zero!");
+		Assert.notNull(baseDelay, "baseDelay must not be null!");
+		Assert.notNull(maxDelay, "maxDelay must not be null!");
+		Assert.notNull(timeBudget, "timeBudget must not be null!");
+		Assert.isTrue(!baseDelay.isNegative() && !maxDelay.isNegative() && !timeBudget.isNegative(),
+				"Durations must not be negative!");
+
+		this.maxAttempts = maxAttempts;
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+		this.timeBudget = timeBudget;
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Duration getBaseDelay() {
+		return baseDelay;
+	}
+
+	public Duration getMaxDelay() {
+		return maxDelay;
+	}
+
+	public Duration getTimeBudget() {
+		return timeBudget;
+	}
+
+	/**
+	 * @param retry
+	 *            the number of the retry, starting at {@code 1}
+	 * @return the upper bound of the backoff in milliseconds before the given
+	 *         retry
+	 */
+	long getMaxBackoffMillis(int retry) {
+		long base = baseDelay.toMillis();
+		long max = maxDelay.toMillis();
+		// Avoid overflows for large retry counts
+		int shift = Math.min(retry - 1, 30);
+		long backoff = base << shift;
+		if (backoff < 0 || backoff >> shift != base) {
+			return max;
+		}
+		return Math.min(max, backoff);
+	}
+
+	@Override
+	public String toString() {
+		return "BatchRetryPolicy [maxAttempts=" + maxAttempts + ", baseDelay=" + baseDelay + ", maxDelay="
+				+ maxDelay + ", timeBudget=" + timeBudget + "]";
+	}
+}
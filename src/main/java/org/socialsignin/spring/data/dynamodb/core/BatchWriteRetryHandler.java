@@ -0,0 +1,204 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.RequestLimitExceededException;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Re-submits the unprocessed items of
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper#batchWrite(Iterable, Iterable)}
+ * according to a {@link BatchRetryPolicy}.
+ */
+class BatchWriteRetryHandler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(BatchWriteRetryHandler.class);
+
+	/**
+	 * Maximum number of items of a single BatchWriteItem request
+	 */
+	private static final int MAX_BATCH_WRITE_SIZE = 25;
+
+	interface Sleeper {
+		void sleep(long millis) throws InterruptedException;
+	}
+
+	private final AmazonDynamoDB amazonDynamoDB;
+	private final BatchRetryPolicy policy;
+	private final BatchRetryMetrics metrics;
+	private final Sleeper sleeper;
+	private final LongSupplier clock;
+
+	BatchWriteRetryHandler(AmazonDynamoDB amazonDynamoDB, BatchRetryPolicy policy, BatchRetryMetrics metrics) {
+		this(amazonDynamoDB, policy, metrics, Thread::sleep, System::currentTimeMillis);
+	}
+
+	BatchWriteRetryHandler(AmazonDynamoDB amazonDynamoDB, BatchRetryPolicy policy, BatchRetryMetrics metrics,
+			Sleeper sleeper, LongSupplier clock) {
+		this.amazonDynamoDB = amazonDynamoDB;
+		this.policy = policy;
+		this.metrics = metrics;
+		this.sleeper = sleeper;
+		this.clock = clock;
+	}
+
+	/**
+	 * Sends the given items in a single BatchWriteItem request and retries the
+	 * unprocessed ones.
+	 *
+	 * @param requestItems
+	 *            at most {@value #MAX_BATCH_WRITE_SIZE} write requests per table
+	 * @return the batches that still failed after retrying
+	 */
+	List<FailedBatch> write(Map<String, List<WriteRequest>> requestItems) {
+		List<FailedBatch> failedBatches = new ArrayList<>(1);
+		try {
+			Map<String, List<WriteRequest>> unprocessedItems = amazonDynamoDB
+					.batchWriteItem(new BatchWriteItemRequest().withRequestItems(requestItems)).getUnprocessedItems();
+			if (unprocessedItems != null && !unprocessedItems.isEmpty()) {
+				failedBatches.add(failedBatch(unprocessedItems, new AmazonClientException(
+						flatten(unprocessedItems).size() + " items remained unprocessed")));
+			}
+		} catch (AmazonClientException e) {
+			failedBatches.add(failedBatch(requestItems, e));
+		}
+		return retry(failedBatches);
+	}
+
+	/**
+	 * @param failedBatches
+	 *            as returned by the mapper
+	 * @return the batches that still failed after retrying
+	 */
+	List<FailedBatch> retry(List<FailedBatch> failedBatches) {
+		if (failedBatches.isEmpty() || policy.getMaxAttempts() <= 1) {
+			return failedBatches;
+		}
+
+		List<FailedBatch> result = new ArrayList<>();
+		List<Entry<String, WriteRequest>> pending = new ArrayList<>();
+		Exception lastException = null;
+		for (FailedBatch failedBatch : failedBatches) {
+			if (isRetryable(failedBatch.getException()) && failedBatch.getUnprocessedItems() != null) {
+				pending.addAll(flatten(failedBatch.getUnprocessedItems()));
+				lastException = failedBatch.getException();
+			} else {
+				result.add(failedBatch);
+			}
+		}
+
+		long start = clock.getAsLong();
+		long budget = policy.getTimeBudget().toMillis();
+		for (int attempt = 1; !pending.isEmpty() && attempt < policy.getMaxAttempts(); attempt++) {
+			long backoff = ThreadLocalRandom.current().nextLong(policy.getMaxBackoffMillis(attempt) + 1);
+			if (clock.getAsLong() - start + backoff > budget) {
+				LOGGER.debug("Time budget of {} exhausted after {} attempts", policy.getTimeBudget(), attempt);
+				break;
+			}
+			try {
+				sleeper.sleep(backoff);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			metrics.recordRetry(pending.size());
+			List<Entry<String, WriteRequest>> stillPending = new ArrayList<>();
+			for (int i = 0; i < pending.size(); i += MAX_BATCH_WRITE_SIZE) {
+				Map<String, List<WriteRequest>> chunk = group(
+						pending.subList(i, Math.min(i + MAX_BATCH_WRITE_SIZE, pending.size())));
+				try {
+					BatchWriteItemResult batchResult = amazonDynamoDB
+							.batchWriteItem(new BatchWriteItemRequest().withRequestItems(chunk));
+					if (batchResult.getUnprocessedItems() != null) {
+						stillPending.addAll(flatten(batchResult.getUnprocessedItems()));
+					}
+				} catch (AmazonClientException e) {
+					if (isRetryable(e)) {
+						stillPending.addAll(flatten(chunk));
+						lastException = e;
+					} else {
+						result.add(failedBatch(chunk, e));
+					}
+				}
+			}
+			pending = stillPending;
+		}
+
+		if (!pending.isEmpty()) {
+			metrics.recordFailure(pending.size());
+			if (lastException == null) {
+				lastException = new AmazonClientException(
+						pending.size() + " items remained unprocessed after " + policy.getMaxAttempts() + " attempts");
+			}
+			result.add(failedBatch(group(pending), lastException));
+		}
+		return result;
+	}
+
+	private static boolean isRetryable(Exception exception) {
+		if (exception == null || exception instanceof ProvisionedThroughputExceededException
+				|| exception instanceof RequestLimitExceededException) {
+			return true;
+		} else if (exception instanceof AmazonServiceException) {
+			AmazonServiceException serviceException = (AmazonServiceException) exception;
+			return RetryUtils.isThrottlingException(serviceException)
+					|| RetryUtils.isRetryableServiceException(serviceException);
+		} else if (exception instanceof AmazonClientException) {
+			return ((AmazonClientException) exception).isRetryable();
+		} else {
+			return false;
+		}
+	}
+
+	private static FailedBatch failedBatch(Map<String, List<WriteRequest>> unprocessedItems, Exception exception) {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setUnprocessedItems(unprocessedItems);
+		failedBatch.setException(exception);
+		return failedBatch;
+	}
+
+	private static List<Entry<String, WriteRequest>> flatten(Map<String, List<WriteRequest>> requestItems) {
+		List<Entry<String, WriteRequest>> result = new ArrayList<>();
+		requestItems.forEach((tableName, writeRequests) -> writeRequests
+				.forEach(writeRequest -> result.add(new SimpleEntry<>(tableName, writeRequest))));
+		return result;
+	}
+
+	private static Map<String, List<WriteRequest>> group(List<Entry<String, WriteRequest>> requests) {
+		Map<String, List<WriteRequest>> result = new HashMap<>();
+		requests.forEach(entry -> result.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue()));
+		return result;
+	}
+}
@@ -16,16 +16,27 @@
 package org.socialsignin.spring.data.dynamodb.core;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import org.springframework.lang.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Interface to DynmaoDB - as seen from the Spring-Data world
@@ -38,18 +49,359 @@ public interface DynamoDBOperations {
 
 	<T> PaginatedQueryList<T> query(Class<T> clazz, QueryRequest queryRequest);
 	<T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+
+	/**
+	 * Runs the given queries and concatenates their results in the order of the
+	 * expressions. This is used to resolve {@code IN} conditions on the hash key
+	 * with one Query per hash key instead of a Scan of the whole table. The default
+	 * implementation runs the queries one after the other.
+	 *
+	 * @param domainClass
+	 *            the entity type
+	 * @param queryExpressions
+	 *            the queries to run, one for each hash key
+	 * @param <T>
+	 *            the entity type
+	 * @return all results of all queries
+	 */
+	default <T> List<T> batchQuery(Class<T> domainClass, List<DynamoDBQueryExpression<T>> queryExpressions) {
+		List<T> results = new ArrayList<>();
+		for (DynamoDBQueryExpression<T> queryExpression : queryExpressions) {
+			results.addAll(query(domainClass, queryExpression));
+		}
+		return results;
+	}
+
+	/**
+	 * Runs independent reads, e.g. the branches of a query method combining its
+	 * conditions with {@code Or}, and returns their results in the order of the
+	 * reads. The reads are executed concurrently on the batch load executor if one
+	 * is configured, otherwise one after the other. The default implementation
+	 * always runs them one after the other.
+	 *
+	 * @param reads
+	 *            the reads to run
+	 * @param <R>
+	 *            the result type of a read
+	 * @return the result of every read
+	 */
+	default <R> List<R> batchRead(List<Supplier<R>> reads) {
+		List<R> results = new ArrayList<>(reads.size());
+		for (Supplier<R> read : reads) {
+			results.add(read.get());
+		}
+		return results;
+	}
+
 	<T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression);
 
+	/**
+	 * Fetches exactly one page of results, starting at the exclusive start key of
+	 * the given request and honoring its limit.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryRequest
+	 *            The request to execute - not modified
+	 * @return the page of results including the key to continue with
+	 */
+	<T> QueryResultPage<T> queryPage(Class<T> domainClass, QueryRequest queryRequest);
+
+	/**
+	 * Fetches exactly one page of results, starting at the exclusive start key of
+	 * the given expression and honoring its limit.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param queryExpression
+	 *            The query to execute
+	 * @return the page of results including the key to continue with
+	 */
+	<T> QueryResultPage<T> queryPage(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression);
+
+	/**
+	 * Fetches exactly one page of results, starting at the exclusive start key of
+	 * the given expression and honoring its limit.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute
+	 * @return the page of results including the key to continue with
+	 */
+	<T> ScanResultPage<T> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression);
+
+	/**
+	 * Scans the table in {@code totalSegments} segments concurrently. The default
+	 * implementation scans sequentially.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute - its segment settings are ignored
+	 * @param totalSegments
+	 *            The number of segments to scan in parallel
+	 * @return lazy loading list of the results of all segments
+	 */
+	default <T> PaginatedList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments) {
+		return scan(domainClass, scanExpression);
+	}
+
+	/**
+	 * Counts the items of a scan in {@code totalSegments} segments concurrently.
+	 * The default implementation counts sequentially.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param scanExpression
+	 *            The scan to execute - its segment settings are ignored
+	 * @param totalSegments
+	 *            The number of segments to scan in parallel
+	 * @return the total number of matching items of all segments
+	 */
+	default <T> int count(Class<T> domainClass, DynamoDBScanExpression scanExpression, int totalSegments) {
+		return count(domainClass, scanExpression);
+	}
+
 	<T> T load(Class<T> domainClass, Object hashKey, Object rangeKey);
 	<T> T load(Class<T> domainClass, Object hashKey);
+
+	/**
+	 * Checks whether an item with the given key exists by reading only its key
+	 * attributes, so the item is neither transferred nor unmarshalled. No
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent}
+	 * is published. The default implementation loads the whole entity.
+	 *
+	 * @param domainClass
+	 *            the entity type
+	 * @param hashKey
+	 *            must not be {@code null}
+	 * @param rangeKey
+	 *            the range key - {@code null} if the entity has a hash key only
+	 * @param <T>
+	 *            the entity type
+	 * @return {@code true} if the item exists
+	 */
+	default <T> boolean exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		return (rangeKey == null ? load(domainClass, hashKey) : load(domainClass, hashKey, rangeKey)) != null;
+	}
+
 	<T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet);
 
+	/**
+	 * Loads the items like {@link #batchLoad(Map)}, with the given read
+	 * consistency.
+	 *
+	 * @param itemsToGet
+	 *            the keys to load per entity type
+	 * @param consistentReads
+	 *            the read consistency - {@code null} to use the one of the mapper
+	 * @param <T>
+	 *            the entity type
+	 * @return the loaded entities
+	 */
+	default <T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet,
+			@Nullable DynamoDBMapperConfig.ConsistentReads consistentReads) {
+		return batchLoad(itemsToGet);
+	}
+
 	<T> T save(T entity);
+
+	/**
+	 * Writes only the given attributes of the entity with an UpdateItem request
+	 * instead of replacing the whole item. Attributes whose value is
+	 * {@code null} are removed from the item. If the entity has a
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBVersionAttribute},
+	 * the update is conditional on the current version and increments it.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param entity
+	 *            The entity to update
+	 * @param attributeNames
+	 *            The DynamoDB attribute names to write - must not contain key
+	 *            attributes
+	 * @return the entity with the incremented version
+	 * @throws com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException
+	 *             if the version of the item changed concurrently
+	 */
+	<T> T update(T entity, Collection<String> attributeNames);
+
 	List<FailedBatch> batchSave(Iterable<?> entities);
 
+	/**
+	 * Atomically adds {@code delta} to a number attribute with a single
+	 * UpdateItem request, without reading the item first. A missing attribute
+	 * or item is treated as {@code 0}. A version attribute of the entity is
+	 * incremented as well.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the item
+	 * @param rangeKey
+	 *            The range key of the item - {@code null} if the table has none
+	 * @param attributeName
+	 *            The DynamoDB attribute name of the counter
+	 * @param delta
+	 *            The value to add - negative to decrement
+	 * @return the new value of the attribute
+	 */
+	<T> Number increment(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey, String attributeName,
+			Number delta);
+
+	/**
+	 * Atomically appends the values to a list attribute with a single UpdateItem
+	 * request, without reading the item first. A missing attribute is treated as
+	 * an empty list. A version attribute of the entity is incremented as well.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the item
+	 * @param rangeKey
+	 *            The range key of the item - {@code null} if the table has none
+	 * @param attributeName
+	 *            The DynamoDB attribute name of the list
+	 * @param values
+	 *            The values to append - converted like the list property itself
+	 */
+	<T> void appendToList(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey, String attributeName,
+			List<?> values);
+
+	/**
+	 * Atomically adds the values to a set attribute with a single UpdateItem
+	 * request, without reading the item first. A missing attribute is treated as
+	 * an empty set. A version attribute of the entity is incremented as well.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param domainClass
+	 *            A domain type
+	 * @param hashKey
+	 *            The hash key of the item
+	 * @param rangeKey
+	 *            The range key of the item - {@code null} if the table has none
+	 * @param attributeName
+	 *            The DynamoDB attribute name of the set
+	 * @param values
+	 *            The values to add - converted like the set property itself
+	 */
+	<T> void addToSet(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey, String attributeName,
+			Set<?> values);
+
 	<T> T delete(T entity);
+
+	/**
+	 * Deletes the item with the given key with a single DeleteItem request,
+	 * conditional on the item being present. The item is not read beforehand,
+	 * hence no delete events are published and version attributes are not
+	 * checked. The default implementation loads the entity and deletes it via
+	 * {@link #delete(Object)}.
+	 *
+	 * @param domainClass
+	 *            the entity type
+	 * @param hashKey
+	 *            must not be {@code null}
+	 * @param rangeKey
+	 *            the range key - {@code null} if the entity has a hash key only
+	 * @param <T>
+	 *            the entity type
+	 * @return {@code true} if an item was deleted, {@code false} if no item with
+	 *         the given key exists
+	 */
+	default <T> boolean deleteByKey(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		T entity = rangeKey == null ? load(domainClass, hashKey) : load(domainClass, hashKey, rangeKey);
+		if (entity == null) {
+			return false;
+		}
+		delete(entity);
+		return true;
+	}
+
+	/**
+	 * Tells whether deleting an entity of the given type needs the entity itself,
+	 * because delete events are published for it,
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.BatchEntityCallback}s
+	 * are registered for its type or it has a version attribute to check. If not,
+	 * it can be deleted by its key without reading it first.
+	 *
+	 * @param domainClass
+	 *            the entity type
+	 * @param <T>
+	 *            the entity type
+	 * @return {@code true} if the entity has to be read before it is deleted
+	 */
+	default <T> boolean isEntityRequiredForDelete(Class<T> domainClass) {
+		return true;
+	}
+
 	List<FailedBatch> batchDelete(Iterable<?> entities);
 
+	/**
+	 * Deletes all items of the table of the given domain type. Only the key
+	 * attributes are scanned, and the keys of each page are deleted in
+	 * BatchWriteItem requests of at most 25 items before the next page is read,
+	 * so memory use does not grow with the table. Unprocessed items are retried
+	 * according to the {@link BatchRetryPolicy}, {@link BatchRetryPolicy#DEFAULT}
+	 * unless configured otherwise. If
+	 * {@link #isEntityRequiredForDelete(Class)}, whole entities are scanned instead
+	 * and each page is deleted via {@link #batchDelete(Iterable)}, so delete events
+	 * are published and batch callbacks invoked. The default implementation
+	 * deletes the results of {@link #parallelScan} with one
+	 * {@link #batchDelete(Iterable)} call.
+	 *
+	 * @param domainClass
+	 *            the entity type
+	 * @param totalSegments
+	 *            the number of segments scanned and deleted concurrently
+	 * @param <T>
+	 *            the entity type
+	 * @return the batches that failed after retrying
+	 */
+	default <T> List<FailedBatch> deleteAll(Class<T> domainClass, int totalSegments) {
+		return batchDelete(parallelScan(domainClass, new DynamoDBScanExpression(), totalSegments));
+	}
+
+	/**
+	 * Executes the puts, updates, deletes and condition checks of the given
+	 * request as one TransactWriteItems request - either all of them succeed or
+	 * none.
+	 *
+	 * @param transactionWriteRequest
+	 *            The operations to execute - of up to 25 items
+	 * @throws com.amazonaws.services.dynamodbv2.model.TransactionCanceledException
+	 *             if a condition check failed or the transaction conflicted with
+	 *             another request
+	 */
+	void transactWrite(TransactionWriteRequest transactionWriteRequest);
+
+	/**
+	 * Loads the items of the given request as one TransactGetItems request -
+	 * isolated from concurrent transactional writes.
+	 *
+	 * @param transactionLoadRequest
+	 *            The items to load - of up to 25 items
+	 * @return the entities in the order of the request - {@code null} for items
+	 *         that do not exist
+	 */
+	List<Object> transactGet(TransactionLoadRequest transactionLoadRequest);
+
 	<T> String getOverriddenTableName(Class<T> domainClass, String tableName);
 
 	/**
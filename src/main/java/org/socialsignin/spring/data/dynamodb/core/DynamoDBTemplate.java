@@ -19,41 +19,118 @@ import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest.TransactionWriteOperation;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest.TransactionWriteOperationType;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
 import com.amazonaws.services.dynamodbv2.model.Select;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BatchEntityCallback;
 import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextAware {
+public class DynamoDBTemplate
+		implements
+			DynamoDBOperations,
+			ApplicationContextAware,
+			ApplicationListener<ContextRefreshedEvent>,
+			DisposableBean {
+	/**
+	 * Maximum number of keys of a single BatchGetItem request
+	 */
+	private static final int MAX_BATCH_GET_SIZE = 100;
+	/**
+	 * Maximum number of items of a single BatchWriteItem request
+	 */
+	private static final int MAX_BATCH_WRITE_SIZE = 25;
+	/**
+	 * Overrides the strategy of the mapper lists wrapped to publish events while
+	 * iterating, so the results are only kept by the wrapping list
+	 */
+	private static final DynamoDBMapperConfig ITERATION_ONLY = DynamoDBMapperConfig.builder()
+			.withPaginationLoadingStrategy(DynamoDBMapperConfig.PaginationLoadingStrategy.ITERATION_ONLY).build();
+
 	private final DynamoDBMapper dynamoDBMapper;
 	private final AmazonDynamoDB amazonDynamoDB;
 	private final DynamoDBMapperConfig dynamoDBMapperConfig;
 	private ApplicationEventPublisher eventPublisher;
+	private ApplicationContext applicationContext;
+	private volatile BatchEntityCallbacks batchEntityCallbacks;
+	private volatile MappingEventListeners mappingEventListeners;
+	@Nullable
+	private volatile Boolean publishBatchEvents;
+	private Executor parallelScanExecutor;
+	private volatile ExecutorService defaultParallelScanExecutor;
+	private Executor batchLoadExecutor;
+	private boolean batchLoadInInputOrder;
+	private volatile LoadBatcher loadBatcher;
+	private final BatchRetryMetrics batchRetryMetrics = new BatchRetryMetrics();
+	private BatchWriteRetryHandler batchWriteRetryHandler;
+	private final EntityCacheMetrics entityCacheMetrics = new EntityCacheMetrics();
+	private final EntityCacheHandler entityCacheHandler = new EntityCacheHandler(new LocalEntityCache(),
+			entityCacheMetrics, this::getTableName);
 
 	/**
 	 * Initializes a new {@code DynamoDBTemplate}. The following combinations are
@@ -79,11 +156,224 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 		this.amazonDynamoDB = amazonDynamoDB;
 		this.dynamoDBMapper = dynamoDBMapper;
 		this.dynamoDBMapperConfig = dynamoDBMapperConfig;
+		this.batchWriteRetryHandler = new BatchWriteRetryHandler(amazonDynamoDB, BatchRetryPolicy.DEFAULT,
+				batchRetryMetrics);
+	}
+
+	/**
+	 * Sets the {@link Executor} the segments of parallel scans are executed on. If
+	 * not set, the segments of parallel counts and of {@link #deleteAll(Class, int)}
+	 * share a thread pool bounded by the number of available processors, which is
+	 * shut down with the template.
+	 *
+	 * @param parallelScanExecutor
+	 *            can be {@code null}
+	 */
+	public void setParallelScanExecutor(@Nullable Executor parallelScanExecutor) {
+		this.parallelScanExecutor = parallelScanExecutor;
+	}
+
+	/**
+	 * Sets the {@link Executor} the chunks of {@link #batchLoad(Map)} are executed
+	 * on. Keys are split into chunks of at most 100 keys, the limit of a single
+	 * BatchGetItem request, and the chunks are loaded concurrently. If not set, all
+	 * chunks are loaded one after the other on the calling thread. The same
+	 * executor runs the per hash key queries of {@link #batchQuery(Class, List)}
+	 * and the reads of {@link #batchRead(List)}.
+	 *
+	 * Independent of the executor, unprocessed keys - including those left over
+	 * because a response hit the 16MB limit - are retried by the
+	 * {@link DynamoDBMapperConfig.BatchLoadRetryStrategy} of the mapper.
+	 *
+	 * @param batchLoadExecutor
+	 *            can be {@code null}
+	 */
+	public void setBatchLoadExecutor(@Nullable Executor batchLoadExecutor) {
+		this.batchLoadExecutor = batchLoadExecutor;
+	}
+
+	/**
+	 * Defines whether {@link #batchLoad(Map)} returns the entities in the order
+	 * of the requested keys. BatchGetItem does not guarantee any order, so by
+	 * default the entities are returned in the order DynamoDB answered.
+	 *
+	 * @param batchLoadInInputOrder
+	 *            {@code true} to return the entities in the order of the keys
+	 */
+	public void setBatchLoadInInputOrder(boolean batchLoadInInputOrder) {
+		this.batchLoadInInputOrder = batchLoadInInputOrder;
+	}
+
+	/**
+	 * Enables batching of concurrent {@link #load(Class, Object)} and
+	 * {@link #load(Class, Object, Object)} calls: single key loads of the same
+	 * entity type issued within the given window are dispatched as one
+	 * BatchGetItem request of up to 100 keys, and every caller is completed with
+	 * its own item. Each load is delayed by at most the window. The batches are
+	 * loaded by a pool of one thread per processor, which is stopped by
+	 * {@link #destroy()}.
+	 *
+	 * @param loadBatchingWindow
+	 *            {@code null} or zero to load every key with its own GetItem
+	 *            request (the default)
+	 */
+	public void setLoadBatchingWindow(@Nullable Duration loadBatchingWindow) {
+		Assert.isTrue(loadBatchingWindow == null || !loadBatchingWindow.isNegative(),
+				"loadBatchingWindow must not be negative!");
+		LoadBatcher previous = loadBatcher;
+		if (loadBatchingWindow == null || loadBatchingWindow.isZero()) {
+			loadBatcher = null;
+		} else {
+			CustomizableThreadFactory schedulerThreadFactory = new CustomizableThreadFactory(
+					"dynamodb-load-batcher-scheduler-");
+			schedulerThreadFactory.setDaemon(true);
+			CustomizableThreadFactory dispatchThreadFactory = new CustomizableThreadFactory("dynamodb-load-batcher-");
+			dispatchThreadFactory.setDaemon(true);
+			loadBatcher = new LoadBatcher(this, loadBatchingWindow.toMillis(),
+					Executors.newSingleThreadScheduledExecutor(schedulerThreadFactory),
+					Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), dispatchThreadFactory));
+		}
+		if (previous != null) {
+			previous.shutdown();
+		}
+	}
+
+	@Nullable
+	LoadBatcher getLoadBatcher() {
+		return loadBatcher;
+	}
+
+	DynamoDBMapper getDynamoDBMapper() {
+		return dynamoDBMapper;
+	}
+
+	DynamoDBMapperConfig getDynamoDBMapperConfig() {
+		return dynamoDBMapperConfig;
+	}
+
+	/**
+	 * Sets the policy used to re-submit items left unprocessed by
+	 * {@link #batchSave(Iterable)} and {@link #batchDelete(Iterable)}. Defaults to
+	 * {@link BatchRetryPolicy#DEFAULT}, {@link BatchRetryPolicy#NONE} returns the
+	 * unprocessed items right away.
+	 *
+	 * @param batchRetryPolicy
+	 *            must not be {@code null}
+	 */
+	public void setBatchRetryPolicy(BatchRetryPolicy batchRetryPolicy) {
+		Assert.notNull(batchRetryPolicy, "batchRetryPolicy must not be null!");
+		this.batchWriteRetryHandler = new BatchWriteRetryHandler(amazonDynamoDB, batchRetryPolicy,
+				batchRetryMetrics);
+	}
+
+	/**
+	 * @return the counters of the retries done according to the
+	 *         {@link BatchRetryPolicy}
+	 */
+	public BatchRetryMetrics getBatchRetryMetrics() {
+		return batchRetryMetrics;
+	}
+
+	/**
+	 * Sets the {@link EntityCache} items of entity types annotated with
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.DynamoDBCacheable}
+	 * are cached in. Defaults to a {@link LocalEntityCache}.
+	 *
+	 * @param entityCache
+	 *            must not be {@code null}
+	 */
+	public void setEntityCache(EntityCache entityCache) {
+		entityCacheHandler.setEntityCache(entityCache);
+	}
+
+	/**
+	 * @return the counters of the {@link EntityCache} lookups
+	 */
+	public EntityCacheMetrics getEntityCacheMetrics() {
+		return entityCacheMetrics;
+	}
+
+	EntityCacheHandler getEntityCacheHandler() {
+		return entityCacheHandler;
+	}
+
+	/**
+	 * Defines whether {@link #batchSave(Iterable)} and
+	 * {@link #batchDelete(Iterable)} publish a {@link DynamoDBMappingEvent} per
+	 * entity. If not set, an event is only published if an
+	 * {@link org.springframework.context.ApplicationListener} bean for its type and
+	 * the domain type of the entity is registered. Set it to {@code true} if the
+	 * events are consumed by {@link org.springframework.context.event.EventListener}
+	 * methods, which are not detected.
+	 *
+	 * The setting also decides whether deletes by key - {@code deleteById},
+	 * {@code deleteAll()} and delete query methods - read the entities first to
+	 * publish their {@link BeforeDeleteEvent}s and {@link AfterDeleteEvent}s, see
+	 * {@link #isEntityRequiredForDelete(Class)}. {@link #delete(Object)} always
+	 * publishes them as it already holds the entity.
+	 *
+	 * Independent of this setting, the {@link BatchEntityCallback} beans of the
+	 * domain types are invoked once per batch.
+	 *
+	 * @param publishBatchEvents
+	 *            {@code null} to detect the listeners (the default)
+	 */
+	public void setPublishBatchEvents(@Nullable Boolean publishBatchEvents) {
+		this.publishBatchEvents = publishBatchEvents;
 	}
 
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.eventPublisher = applicationContext;
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Resolves the {@link BatchEntityCallback}s and the listeners of the batch
+	 * events again once the context is (re)freshed, as beans may have been added
+	 * since their first use.
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		batchEntityCallbacks = null;
+		mappingEventListeners = null;
+	}
+
+	private BatchEntityCallbacks getBatchEntityCallbacks() {
+		BatchEntityCallbacks callbacks = batchEntityCallbacks;
+		if (callbacks == null) {
+			// Resolved on first use as the callbacks may depend on this template
+			callbacks = applicationContext == null ? BatchEntityCallbacks.NONE
+					: new BatchEntityCallbacks(applicationContext.getBeansOfType(BatchEntityCallback.class).values());
+			batchEntityCallbacks = callbacks;
+		}
+		return callbacks;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private MappingEventListeners getMappingEventListeners() {
+		MappingEventListeners listeners = mappingEventListeners;
+		if (listeners == null) {
+			// Resolved on first use as the listeners may depend on this template
+			listeners = applicationContext == null ? MappingEventListeners.NONE
+					: new MappingEventListeners(applicationContext.getBeansOfType(ApplicationListener.class).values());
+			mappingEventListeners = listeners;
+		}
+		return listeners;
+	}
+
+	private boolean isPublishBatchEvents(Class<?> eventType, Class<?> domainClass) {
+		if (eventPublisher == null) {
+			return false;
+		}
+		Boolean publish = publishBatchEvents;
+		return publish == null ? getMappingEventListeners().hasListener(eventType, domainClass) : publish;
+	}
+
+	private <T> void maybeEmitBatchEvent(T entity, Class<?> eventType, Function<T, DynamoDBMappingEvent<T>> factory) {
+		if (isPublishBatchEvents(eventType, entity.getClass())) {
+			maybeEmitEvent(entity, factory);
+		}
 	}
 
 	@Override
@@ -93,8 +383,61 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
 	@Override
 	public <T> PaginatedQueryList<T> query(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
-		PaginatedQueryList<T> results = dynamoDBMapper.query(domainClass, queryExpression);
-		maybeEmitEvent(results, AfterQueryEvent::new);
+		if (!isEmittingLazily()) {
+			PaginatedQueryList<T> results = dynamoDBMapper.query(domainClass, queryExpression);
+			emitQueryEvents(domainClass, results);
+			return results;
+		}
+		PaginatedQueryList<T> results = dynamoDBMapper.query(domainClass, queryExpression, ITERATION_ONLY);
+		if (results == null) {
+			return null;
+		}
+		// Publishes an AfterQueryEvent for every result once the consumer reaches it
+		return new EventEmittingQueryList<>(dynamoDBMapper, domainClass, dynamoDBMapperConfig, results,
+				entity -> this.<PaginatedQueryList<T>>maybeEmitEvent(
+						EventEmittingQueryList.singleResult(dynamoDBMapper, domainClass, entity),
+						AfterQueryEvent::new));
+	}
+
+	/**
+	 * Whether the events of a query or scan are published once the consumer
+	 * reaches a result. The results of eager loading lists are all loaded right
+	 * away, so their events are published right away as well.
+	 */
+	private boolean isEmittingLazily() {
+		return eventPublisher != null && dynamoDBMapperConfig
+				.getPaginationLoadingStrategy() != DynamoDBMapperConfig.PaginationLoadingStrategy.EAGER_LOADING;
+	}
+
+	@Override
+	public <T> List<T> batchQuery(Class<T> domainClass, List<DynamoDBQueryExpression<T>> queryExpressions) {
+		List<Supplier<List<T>>> queries = new ArrayList<>(queryExpressions.size());
+		for (DynamoDBQueryExpression<T> queryExpression : queryExpressions) {
+			// Drain every result list within its read, so the pages are fetched concurrently
+			queries.add(() -> new ArrayList<>(query(domainClass, queryExpression)));
+		}
+		List<T> results = new ArrayList<>();
+		batchRead(queries).forEach(results::addAll);
+		return results;
+	}
+
+	@Override
+	public <R> List<R> batchRead(List<Supplier<R>> reads) {
+		List<R> results = new ArrayList<>(reads.size());
+		if (batchLoadExecutor == null) {
+			for (Supplier<R> read : reads) {
+				results.add(read.get());
+			}
+			return results;
+		}
+
+		List<CompletableFuture<R>> futures = new ArrayList<>(reads.size());
+		for (Supplier<R> read : reads) {
+			futures.add(CompletableFuture.supplyAsync(read, batchLoadExecutor));
+		}
+		for (CompletableFuture<R> future : futures) {
+			results.add(ParallelScanList.join(future));
+		}
 		return results;
 	}
 
@@ -105,7 +448,8 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
 	@Override
 	public <T> T load(Class<T> domainClass, Object hashKey, Object rangeKey) {
-		T entity = dynamoDBMapper.load(domainClass, hashKey, rangeKey);
+		T entity = loadThroughCache(domainClass, hashKey, rangeKey,
+				() -> dynamoDBMapper.load(domainClass, hashKey, rangeKey));
 		maybeEmitEvent(entity, AfterLoadEvent::new);
 
 		return entity;
@@ -113,45 +457,620 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
 	@Override
 	public <T> T load(Class<T> domainClass, Object hashKey) {
-		T entity = dynamoDBMapper.load(domainClass, hashKey);
+		T entity = loadThroughCache(domainClass, hashKey, null, () -> dynamoDBMapper.load(domainClass, hashKey));
 		maybeEmitEvent(entity, AfterLoadEvent::new);
 
 		return entity;
 	}
 
 	@Override
-	public <T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
-		PaginatedScanList<T> results = dynamoDBMapper.scan(domainClass, scanExpression);
-		maybeEmitEvent(results, AfterScanEvent::new);
-		return results;
+	public <T> boolean exists(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		Assert.notNull(hashKey, "hashKey must not be null!");
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Map<String, AttributeValue> key = tableModel.convertKey(hashKey, rangeKey);
+		if (entityCacheHandler.isCacheable(domainClass)
+				&& entityCacheHandler.get(domainClass, tableModel, key) != null) {
+			return true;
+		}
+		return amazonDynamoDB.getItem(createKeyOnlyGetItemRequest(getTableName(domainClass), key)).getItem() != null;
+	}
+
+	/**
+	 * Creates a {@link GetItemRequest} that projects the key attributes only.
+	 */
+	GetItemRequest createKeyOnlyGetItemRequest(String tableName, Map<String, AttributeValue> key) {
+		Map<String, String> names = keyAttributeNames(key.keySet());
+		return new GetItemRequest().withTableName(tableName).withKey(key)
+				.withConsistentRead(
+						dynamoDBMapperConfig.getConsistentReads() == DynamoDBMapperConfig.ConsistentReads.CONSISTENT)
+				.withProjectionExpression(String.join(",", names.keySet())).withExpressionAttributeNames(names);
+	}
+
+	/**
+	 * @return the given key attribute names by their {@code #kN} placeholders
+	 */
+	private static Map<String, String> keyAttributeNames(Collection<String> attributeNames) {
+		Map<String, String> names = new LinkedHashMap<>();
+		for (String attributeName : attributeNames) {
+			names.put("#k" + names.size(), attributeName);
+		}
+		return names;
+	}
+
+	private <T> T loadThroughCache(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey,
+			Supplier<T> loader) {
+		if (!entityCacheHandler.isCacheable(domainClass)) {
+			return loadBatched(domainClass, hashKey, rangeKey, loader);
+		}
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		long generation = entityCacheHandler.generation(domainClass);
+		T entity = entityCacheHandler.get(domainClass, tableModel, tableModel.convertKey(hashKey, rangeKey));
+		if (entity == null) {
+			entity = loadBatched(domainClass, hashKey, rangeKey, loader);
+			if (entity != null) {
+				entityCacheHandler.put(domainClass, tableModel, entity, generation);
+			}
+		}
+		return entity;
+	}
+
+	private <T> T loadBatched(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey, Supplier<T> loader) {
+		LoadBatcher batcher = loadBatcher;
+		if (batcher == null) {
+			return loader.get();
+		}
+		return ParallelScanList.join(batcher.load(domainClass, hashKey, rangeKey));
+	}
+
+	private void evictFromCache(Class<?> domainClass, Map<String, AttributeValue> key) {
+		if (entityCacheHandler.isCacheable(domainClass)) {
+			entityCacheHandler.evict(domainClass, key);
+		}
 	}
 
 	@SuppressWarnings("unchecked")
+	private <T> void evictFromCache(T entity) {
+		Class<T> domainClass = (Class<T>) entity.getClass();
+		if (entityCacheHandler.isCacheable(domainClass)) {
+			entityCacheHandler.evict(domainClass, getTableModel(domainClass), entity);
+		}
+	}
+
+	@Override
+	public <T> PaginatedScanList<T> scan(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		if (!isEmittingLazily()) {
+			PaginatedScanList<T> results = dynamoDBMapper.scan(domainClass, scanExpression);
+			emitScanEvents(domainClass, results);
+			return results;
+		}
+		PaginatedScanList<T> results = dynamoDBMapper.scan(domainClass, scanExpression, ITERATION_ONLY);
+		if (results == null) {
+			return null;
+		}
+		return emitScanEventsLazily(domainClass, results);
+	}
+
+	@Override
+	public <T> QueryResultPage<T> queryPage(Class<T> domainClass, QueryRequest queryRequest) {
+		QueryResult queryResult = amazonDynamoDB.query(queryRequest);
+
+		QueryResultPage<T> page = new QueryResultPage<>();
+		page.setResults(dynamoDBMapper.marshallIntoObjects(domainClass, queryResult.getItems(), dynamoDBMapperConfig));
+		page.setLastEvaluatedKey(queryResult.getLastEvaluatedKey());
+		page.setCount(queryResult.getCount());
+		page.setScannedCount(queryResult.getScannedCount());
+		page.setConsumedCapacity(queryResult.getConsumedCapacity());
+		emitQueryEvents(domainClass, page.getResults());
+		return page;
+	}
+
+	@Override
+	public <T> QueryResultPage<T> queryPage(Class<T> domainClass, DynamoDBQueryExpression<T> queryExpression) {
+		QueryResultPage<T> page = dynamoDBMapper.queryPage(domainClass, queryExpression);
+		emitQueryEvents(domainClass, page.getResults());
+		return page;
+	}
+
+	@Override
+	public <T> ScanResultPage<T> scanPage(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		ScanResultPage<T> page = dynamoDBMapper.scanPage(domainClass, scanExpression);
+		emitScanEvents(domainClass, page.getResults());
+		return page;
+	}
+
+	/**
+	 * Publishes an {@link AfterQueryEvent} for every result of a single page or of
+	 * an eager loading list, in the same shape as the events of
+	 * {@link #query(Class, DynamoDBQueryExpression)}.
+	 */
+	private <T> void emitQueryEvents(Class<T> domainClass, @Nullable List<T> results) {
+		if (eventPublisher == null || results == null) {
+			return;
+		}
+		for (T entity : results) {
+			this.<PaginatedQueryList<T>>maybeEmitEvent(
+					EventEmittingQueryList.singleResult(dynamoDBMapper, domainClass, entity), AfterQueryEvent::new);
+		}
+	}
+
+	/**
+	 * Publishes an {@link AfterScanEvent} for every result of a single page or of
+	 * an eager loading list, in the same shape as the events of
+	 * {@link #scan(Class, DynamoDBScanExpression)}.
+	 */
+	private <T> void emitScanEvents(Class<T> domainClass, @Nullable List<T> results) {
+		if (eventPublisher == null || results == null) {
+			return;
+		}
+		for (T entity : results) {
+			this.<PaginatedScanList<T>>maybeEmitEvent(
+					EventEmittingScanList.singleResult(dynamoDBMapper, domainClass, entity), AfterScanEvent::new);
+		}
+	}
+
+	@Override
+	public <T> PaginatedList<T> parallelScan(Class<T> domainClass, DynamoDBScanExpression scanExpression,
+			int totalSegments) {
+		Assert.isTrue(totalSegments > 0, "totalSegments must be greater than zero!");
+		boolean emittingLazily = isEmittingLazily();
+		DynamoDBMapperConfig config = emittingLazily
+				? new DynamoDBMapperConfig(dynamoDBMapperConfig, ITERATION_ONLY)
+				: dynamoDBMapperConfig;
+		PaginatedList<T> results;
+		if (parallelScanExecutor == null) {
+			results = dynamoDBMapper.parallelScan(domainClass, scanExpression, totalSegments, config);
+		} else {
+			results = new ParallelScanList<>(dynamoDBMapper, domainClass, amazonDynamoDB, scanExpression,
+					totalSegments, config, parallelScanExecutor);
+		}
+		if (!emittingLazily || results == null) {
+			emitScanEvents(domainClass, results);
+			return results;
+		}
+		return emitScanEventsLazily(domainClass, results);
+	}
+
+	/**
+	 * Publishes an {@link AfterScanEvent} for every result once the consumer
+	 * reaches it instead of for the whole list, which would load all pages. The
+	 * given results are expected to be
+	 * {@link DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}, only
+	 * the returned list keeps them according to the configured strategy.
+	 */
+	private <T> PaginatedScanList<T> emitScanEventsLazily(Class<T> domainClass, PaginatedList<T> results) {
+		return new EventEmittingScanList<>(dynamoDBMapper, domainClass, dynamoDBMapperConfig, results,
+				entity -> this.<PaginatedScanList<T>>maybeEmitEvent(
+						EventEmittingScanList.singleResult(dynamoDBMapper, domainClass, entity),
+						AfterScanEvent::new));
+	}
+
+	@Override
+	public <T> int count(Class<T> domainClass, DynamoDBScanExpression scanExpression, int totalSegments) {
+		Assert.isTrue(totalSegments > 0, "totalSegments must be greater than zero!");
+		Executor executor = getParallelScanExecutor();
+		List<CompletableFuture<Integer>> counts = new ArrayList<>(totalSegments);
+		for (int segment = 0; segment < totalSegments; segment++) {
+			DynamoDBScanExpression segmentExpression = ParallelScanList.segment(scanExpression, segment, totalSegments);
+			counts.add(CompletableFuture.supplyAsync(() -> dynamoDBMapper.count(domainClass, segmentExpression),
+					executor));
+		}
+
+		int count = 0;
+		for (CompletableFuture<Integer> segmentCount : counts) {
+			count += ParallelScanList.join(segmentCount);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the configured parallel scan executor or the shared default pool,
+	 * which is created on first use.
+	 */
+	private Executor getParallelScanExecutor() {
+		if (parallelScanExecutor != null) {
+			return parallelScanExecutor;
+		}
+		ExecutorService executor = defaultParallelScanExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = defaultParallelScanExecutor;
+				if (executor == null) {
+					CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dynamodb-parallel-scan-");
+					threadFactory.setDaemon(true);
+					executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+							threadFactory);
+					defaultParallelScanExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	@Override
+	public void destroy() {
+		ExecutorService executor = defaultParallelScanExecutor;
+		if (executor != null) {
+			executor.shutdown();
+		}
+		LoadBatcher batcher = loadBatcher;
+		if (batcher != null) {
+			batcher.shutdown();
+		}
+	}
+
 	@Override
 	public <T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet) {
-		return dynamoDBMapper.batchLoad(itemsToGet).values().stream().flatMap(v -> v.stream()).map(e -> (T) e)
-				.map(entity -> {
-					maybeEmitEvent(entity, AfterLoadEvent::new);
-					return entity;
-				}).collect(Collectors.toList());
+		return batchLoad(itemsToGet, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> List<T> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet,
+			@Nullable DynamoDBMapperConfig.ConsistentReads consistentReads) {
+		Map<Class<?>, List<KeyPair>> distinctItemsToGet = distinctKeys(itemsToGet);
+
+		List<Object> cachedEntities = new ArrayList<>();
+		// A consistent read must not be answered from the cache
+		Map<Class<?>, List<KeyPair>> uncachedItemsToGet = consistentReads == DynamoDBMapperConfig.ConsistentReads.CONSISTENT
+				? distinctItemsToGet
+				: takeCached(distinctItemsToGet, cachedEntities);
+
+		Map<Class<?>, Long> generations = new HashMap<>();
+		for (Class<?> domainClass : uncachedItemsToGet.keySet()) {
+			if (entityCacheHandler.isCacheable(domainClass)) {
+				generations.put(domainClass, entityCacheHandler.generation(domainClass));
+			}
+		}
+		List<Object> entities = uncachedItemsToGet.isEmpty()
+				? new ArrayList<>()
+				: loadUncached(uncachedItemsToGet, consistentReads);
+		entities.forEach(entity -> putIntoCache(entity, generations));
+		entities.addAll(cachedEntities);
+
+		if (batchLoadInInputOrder) {
+			entities = sortByKeys(distinctItemsToGet, entities);
+		}
+
+		return entities.stream().map(e -> (T) e).map(entity -> {
+			maybeEmitEvent(entity, AfterLoadEvent::new);
+			return entity;
+		}).collect(Collectors.toList());
+	}
+
+	/**
+	 * Loads the given distinct keys from DynamoDB, bypassing the cache and
+	 * without emitting events.
+	 */
+	List<Object> loadUncached(Map<Class<?>, List<KeyPair>> itemsToGet) {
+		return loadUncached(itemsToGet, null);
+	}
+
+	private List<Object> loadUncached(Map<Class<?>, List<KeyPair>> itemsToGet,
+			@Nullable DynamoDBMapperConfig.ConsistentReads consistentReads) {
+		DynamoDBMapperConfig config = consistentReads == null
+				? null
+				: DynamoDBMapperConfig.builder().withConsistentReads(consistentReads).build();
+		Function<Map<Class<?>, List<KeyPair>>, Map<String, List<Object>>> batchLoad = config == null
+				? items -> dynamoDBMapper.batchLoad(items)
+				: items -> dynamoDBMapper.batchLoad(items, config);
+		if (batchLoadExecutor == null) {
+			return flatten(batchLoad.apply(itemsToGet));
+		}
+
+		List<CompletableFuture<Map<String, List<Object>>>> chunks = new ArrayList<>();
+		for (Map<Class<?>, List<KeyPair>> chunk : chunk(itemsToGet, MAX_BATCH_GET_SIZE)) {
+			chunks.add(CompletableFuture.supplyAsync(() -> batchLoad.apply(chunk), batchLoadExecutor));
+		}
+		List<Object> entities = new ArrayList<>();
+		for (CompletableFuture<Map<String, List<Object>>> chunk : chunks) {
+			entities.addAll(flatten(ParallelScanList.join(chunk)));
+		}
+		return entities;
+	}
+
+	/**
+	 * Removes repeated keys, so every item is requested from DynamoDB only once.
+	 */
+	static Map<Class<?>, List<KeyPair>> distinctKeys(Map<Class<?>, List<KeyPair>> itemsToGet) {
+		Map<Class<?>, List<KeyPair>> distinctItemsToGet = new LinkedHashMap<>();
+		for (Map.Entry<Class<?>, List<KeyPair>> entry : itemsToGet.entrySet()) {
+			Set<List<Object>> seen = new HashSet<>();
+			List<KeyPair> distinctKeyPairs = entry.getValue().stream()
+					.filter(keyPair -> seen.add(Arrays.asList(keyPair.getHashKey(), keyPair.getRangeKey())))
+					.collect(Collectors.toList());
+			distinctItemsToGet.put(entry.getKey(), distinctKeyPairs);
+		}
+		return distinctItemsToGet;
+	}
+
+	/**
+	 * Collects the cached entities of cacheable types into {@code cachedEntities}.
+	 *
+	 * @return the keys that are not cached
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Class<?>, List<KeyPair>> takeCached(Map<Class<?>, List<KeyPair>> itemsToGet,
+			List<Object> cachedEntities) {
+		Map<Class<?>, List<KeyPair>> uncachedItemsToGet = new LinkedHashMap<>();
+		for (Map.Entry<Class<?>, List<KeyPair>> entry : itemsToGet.entrySet()) {
+			Class<Object> domainClass = (Class<Object>) entry.getKey();
+			if (!entityCacheHandler.isCacheable(domainClass)) {
+				uncachedItemsToGet.put(domainClass, entry.getValue());
+				continue;
+			}
+
+			DynamoDBMapperTableModel<Object> tableModel = getTableModel(domainClass);
+			List<KeyPair> uncachedKeyPairs = new ArrayList<>();
+			for (KeyPair keyPair : entry.getValue()) {
+				Object entity = entityCacheHandler.get(domainClass, tableModel,
+						tableModel.convertKey(keyPair.getHashKey(), keyPair.getRangeKey()));
+				if (entity == null) {
+					uncachedKeyPairs.add(keyPair);
+				} else {
+					cachedEntities.add(entity);
+				}
+			}
+			if (!uncachedKeyPairs.isEmpty()) {
+				uncachedItemsToGet.put(domainClass, uncachedKeyPairs);
+			}
+		}
+		return uncachedItemsToGet;
+	}
+
+	/**
+	 * Caches the loaded entity, given its table saw no eviction since the
+	 * {@code generations} were taken before loading.
+	 */
+	@SuppressWarnings("unchecked")
+	private void putIntoCache(Object entity, Map<Class<?>, Long> generations) {
+		Class<Object> domainClass = (Class<Object>) entity.getClass();
+		Long generation = generations.get(domainClass);
+		if (generation != null) {
+			entityCacheHandler.put(domainClass, getTableModel(domainClass), entity, generation);
+		}
+	}
+
+	/**
+	 * Splits the keys into chunks of at most {@code chunkSize} keys in total.
+	 */
+	static List<Map<Class<?>, List<KeyPair>>> chunk(Map<Class<?>, List<KeyPair>> itemsToGet, int chunkSize) {
+		List<Map<Class<?>, List<KeyPair>>> chunks = new ArrayList<>();
+		Map<Class<?>, List<KeyPair>> chunk = new LinkedHashMap<>();
+		int keysInChunk = 0;
+		for (Map.Entry<Class<?>, List<KeyPair>> entry : itemsToGet.entrySet()) {
+			for (KeyPair keyPair : entry.getValue()) {
+				if (keysInChunk == chunkSize) {
+					chunks.add(chunk);
+					chunk = new LinkedHashMap<>();
+					keysInChunk = 0;
+				}
+				chunk.computeIfAbsent(entry.getKey(), c -> new ArrayList<>()).add(keyPair);
+				keysInChunk++;
+			}
+		}
+		if (keysInChunk > 0) {
+			chunks.add(chunk);
+		}
+		return chunks;
+	}
+
+	private static List<Object> flatten(Map<String, List<Object>> results) {
+		return results.values().stream().flatMap(List::stream).collect(Collectors.toList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> sortByKeys(Map<Class<?>, List<KeyPair>> itemsToGet, List<Object> entities) {
+		Map<List<Object>, Integer> positions = new HashMap<>();
+		for (Map.Entry<Class<?>, List<KeyPair>> entry : itemsToGet.entrySet()) {
+			DynamoDBMapperTableModel<Object> tableModel = (DynamoDBMapperTableModel<Object>) getTableModel(
+					entry.getKey());
+			for (KeyPair keyPair : entry.getValue()) {
+				positions.putIfAbsent(
+						Arrays.asList(entry.getKey(), tableModel.convertKey(keyPair.getHashKey(), keyPair.getRangeKey())),
+						positions.size());
+			}
+		}
+
+		Map<Object, Integer> entityPositions = new IdentityHashMap<>();
+		for (Object entity : entities) {
+			DynamoDBMapperTableModel<Object> tableModel = (DynamoDBMapperTableModel<Object>) getTableModel(
+					entity.getClass());
+			Integer position = positions.get(Arrays.asList(entity.getClass(), tableModel.convertKey(entity)));
+			entityPositions.put(entity, position == null ? Integer.MAX_VALUE : position);
+		}
+
+		List<Object> sorted = new ArrayList<>(entities);
+		sorted.sort(Comparator.comparing(entityPositions::get));
+		return sorted;
 	}
 
 	@Override
 	public <T> T save(T entity) {
 		maybeEmitEvent(entity, BeforeSaveEvent::new);
 		dynamoDBMapper.save(entity);
+		evictFromCache(entity);
 		maybeEmitEvent(entity, AfterSaveEvent::new);
 		return entity;
 
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T update(T entity, Collection<String> attributeNames) {
+		Assert.notEmpty(attributeNames, "attributeNames must not be empty!");
+		maybeEmitEvent(entity, BeforeSaveEvent::new);
+
+		Class<T> domainClass = (Class<T>) entity.getClass();
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		UpdateItemRequest updateItemRequest = new UpdateItemRequest().withTableName(getTableName(domainClass))
+				.withKey(tableModel.convertKey(entity));
+		List<String> setActions = new ArrayList<>();
+		List<String> removeActions = new ArrayList<>();
+		int index = 0;
+		for (String attributeName : attributeNames) {
+			DynamoDBMapperFieldModel<T, Object> field = tableModel.field(attributeName);
+			Assert.isTrue(field.keyType() == null, "Key attribute " + attributeName + " can not be updated!");
+			Assert.isTrue(!field.versioned(), "Version attribute " + attributeName + " is updated implicitly!");
+
+			String name = "#a" + index;
+			updateItemRequest.addExpressionAttributeNamesEntry(name, attributeName);
+			Object value = field.get(entity);
+			AttributeValue attributeValue = value == null ? null : field.convert(value);
+			if (attributeValue == null) {
+				removeActions.add(name);
+			} else {
+				String placeholder = ":a" + index;
+				updateItemRequest.addExpressionAttributeValuesEntry(placeholder, attributeValue);
+				setActions.add(name + " = " + placeholder);
+			}
+			index++;
+		}
+
+		// Optimistic locking just like DynamoDBMapper.save
+		DynamoDBMapperFieldModel<T, Object> versionField = null;
+		Object nextVersion = null;
+		for (DynamoDBMapperFieldModel<T, Object> field : tableModel.fields()) {
+			if (field.versioned()) {
+				versionField = field;
+				Object currentVersion = field.get(entity);
+				nextVersion = field.generate(currentVersion);
+				updateItemRequest.addExpressionAttributeNamesEntry("#v", field.name());
+				updateItemRequest.addExpressionAttributeValuesEntry(":nv", field.convert(nextVersion));
+				setActions.add("#v = :nv");
+				if (currentVersion == null) {
+					updateItemRequest.setConditionExpression("attribute_not_exists(#v)");
+				} else {
+					updateItemRequest.addExpressionAttributeValuesEntry(":cv", field.convert(currentVersion));
+					updateItemRequest.setConditionExpression("#v = :cv");
+				}
+				break;
+			}
+		}
+
+		StringBuilder updateExpression = new StringBuilder();
+		if (!setActions.isEmpty()) {
+			updateExpression.append("SET ").append(String.join(", ", setActions));
+		}
+		if (!removeActions.isEmpty()) {
+			updateExpression.append(updateExpression.length() == 0 ? "" : " ").append("REMOVE ")
+					.append(String.join(", ", removeActions));
+		}
+		updateItemRequest.setUpdateExpression(updateExpression.toString());
+
+		amazonDynamoDB.updateItem(updateItemRequest);
+		if (versionField != null) {
+			versionField.set(entity, nextVersion);
+		}
+		evictFromCache(entity);
+		maybeEmitEvent(entity, AfterSaveEvent::new);
+		return entity;
+	}
+
+	@Override
+	public <T> Number increment(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey,
+			String attributeName, Number delta) {
+		Assert.notNull(delta, "delta must not be null!");
+		UpdateItemRequest updateItemRequest = createAttributeUpdateRequest(domainClass, hashKey, rangeKey,
+				attributeName, null, "#a :v")
+						.addExpressionAttributeValuesEntry(":v", new AttributeValue().withN(delta.toString()))
+						.withReturnValues(ReturnValue.UPDATED_NEW);
+
+		UpdateItemResult updateItemResult = amazonDynamoDB.updateItem(updateItemRequest);
+		evictFromCache(domainClass, updateItemRequest.getKey());
+		return new BigDecimal(updateItemResult.getAttributes().get(attributeName).getN());
+	}
+
+	@Override
+	public <T> void appendToList(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey,
+			String attributeName, List<?> values) {
+		Assert.notEmpty(values, "values must not be empty!");
+		UpdateItemRequest updateItemRequest = createAttributeUpdateRequest(domainClass, hashKey, rangeKey,
+				attributeName, "#a = list_append(if_not_exists(#a, :e), :v)", null)
+						.addExpressionAttributeValuesEntry(":e", new AttributeValue().withL(Collections.emptyList()))
+						.addExpressionAttributeValuesEntry(":v",
+								getTableModel(domainClass).field(attributeName).convert(values));
+
+		amazonDynamoDB.updateItem(updateItemRequest);
+		evictFromCache(domainClass, updateItemRequest.getKey());
+	}
+
+	@Override
+	public <T> void addToSet(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey, String attributeName,
+			Set<?> values) {
+		Assert.notEmpty(values, "values must not be empty!");
+		UpdateItemRequest updateItemRequest = createAttributeUpdateRequest(domainClass, hashKey, rangeKey,
+				attributeName, null, "#a :v").addExpressionAttributeValuesEntry(":v",
+						getTableModel(domainClass).field(attributeName).convert(values));
+
+		amazonDynamoDB.updateItem(updateItemRequest);
+		evictFromCache(domainClass, updateItemRequest.getKey());
+	}
+
+	/**
+	 * Creates the UpdateItem request of a single attribute update. If the entity
+	 * has a version attribute, it is incremented just like by
+	 * {@link DynamoDBMapper#save(Object)}, so that concurrent optimistic locking
+	 * writes of a previously read version fail.
+	 */
+	private <T> UpdateItemRequest createAttributeUpdateRequest(Class<T> domainClass, Object hashKey,
+			@Nullable Object rangeKey, String attributeName, @Nullable String setAction, @Nullable String addAction) {
+		Assert.notNull(hashKey, "hashKey must not be null!");
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		DynamoDBMapperFieldModel<T, Object> field = tableModel.field(attributeName);
+		Assert.isTrue(field.keyType() == null, "Key attribute " + attributeName + " can not be updated!");
+		Assert.isTrue(!field.versioned(), "Version attribute " + attributeName + " is updated implicitly!");
+		UpdateItemRequest updateItemRequest = new UpdateItemRequest().withTableName(getTableName(domainClass))
+				.withKey(tableModel.convertKey(hashKey, rangeKey))
+				.addExpressionAttributeNamesEntry("#a", attributeName);
+
+		List<String> addActions = new ArrayList<>(2);
+		if (addAction != null) {
+			addActions.add(addAction);
+		}
+		if (tableModel.versioned()) {
+			for (DynamoDBMapperFieldModel<T, Object> versionField : tableModel.fields()) {
+				if (versionField.versioned()) {
+					updateItemRequest.addExpressionAttributeNamesEntry("#v", versionField.name())
+							.addExpressionAttributeValuesEntry(":one", new AttributeValue().withN("1"));
+					addActions.add("#v :one");
+					break;
+				}
+			}
+		}
+
+		StringBuilder updateExpression = new StringBuilder();
+		if (setAction != null) {
+			updateExpression.append("SET ").append(setAction);
+		}
+		if (!addActions.isEmpty()) {
+			updateExpression.append(updateExpression.length() == 0 ? "" : " ").append("ADD ")
+					.append(String.join(", ", addActions));
+		}
+		return updateItemRequest.withUpdateExpression(updateExpression.toString());
+	}
+
+	<T> String getTableName(Class<T> domainClass) {
+		DynamoDBMapperConfig.TableNameResolver tableNameResolver = dynamoDBMapperConfig.getTableNameResolver();
+		if (tableNameResolver == null) {
+			tableNameResolver = DynamoDBMapperConfig.DefaultTableNameResolver.INSTANCE;
+		}
+		return tableNameResolver.getTableName(domainClass, dynamoDBMapperConfig);
+	}
+
 	@Override
 	public List<FailedBatch> batchSave(Iterable<?> entities) {
-		entities.forEach(it -> maybeEmitEvent(it, BeforeSaveEvent::new));
+		BatchEntityCallbacks callbacks = getBatchEntityCallbacks();
+		callbacks.invoke(entities, BatchEntityCallback::beforeBatchSave);
+		entities.forEach(it -> maybeEmitBatchEvent(it, BeforeSaveEvent.class, BeforeSaveEvent::new));
 
-		List<FailedBatch> result = dynamoDBMapper.batchSave(entities);
+		List<FailedBatch> result = batchWriteRetryHandler.retry(dynamoDBMapper.batchSave(entities));
+		for (Object entity : entities) {
+			evictFromCache(entity);
+			maybeEmitBatchEvent(entity, AfterSaveEvent.class, AfterSaveEvent::new);
+		}
 
-		entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
+		callbacks.invoke(entities, BatchEntityCallback::afterBatchSave);
 		return result;
 	}
 
@@ -159,20 +1078,190 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 	public <T> T delete(T entity) {
 		maybeEmitEvent(entity, BeforeDeleteEvent::new);
 		dynamoDBMapper.delete(entity);
+		evictFromCache(entity);
 		maybeEmitEvent(entity, AfterDeleteEvent::new);
 		return entity;
 	}
 
+	@Override
+	public <T> boolean deleteByKey(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		Assert.notNull(hashKey, "hashKey must not be null!");
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		Map<String, AttributeValue> key = tableModel.convertKey(hashKey, rangeKey);
+		try {
+			amazonDynamoDB.deleteItem(createDeleteByKeyRequest(domainClass, tableModel, key));
+			return true;
+		} catch (ConditionalCheckFailedException e) {
+			return false;
+		} finally {
+			evictFromCache(domainClass, key);
+		}
+	}
+
+	/**
+	 * Creates a {@link DeleteItemRequest} that only succeeds if the item exists.
+	 */
+	<T> DeleteItemRequest createDeleteByKeyRequest(Class<T> domainClass, DynamoDBMapperTableModel<T> tableModel,
+			Map<String, AttributeValue> key) {
+		return new DeleteItemRequest().withTableName(getTableName(domainClass)).withKey(key)
+				.withConditionExpression("attribute_exists(#h)")
+				.addExpressionAttributeNamesEntry("#h", tableModel.hashKey().name());
+	}
+
+	@Override
+	public <T> boolean isEntityRequiredForDelete(Class<T> domainClass) {
+		return isPublishBatchEvents(BeforeDeleteEvent.class, domainClass)
+				|| isPublishBatchEvents(AfterDeleteEvent.class, domainClass)
+				|| getBatchEntityCallbacks().hasCallbacks(domainClass) || getTableModel(domainClass).versioned();
+	}
+
+	@Override
+	public <T> List<FailedBatch> deleteAll(Class<T> domainClass, int totalSegments) {
+		Assert.isTrue(totalSegments > 0, "totalSegments must be greater than zero!");
+		if (isEntityRequiredForDelete(domainClass)) {
+			DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+			return deleteSegments(totalSegments,
+					segment -> deleteScannedEntities(domainClass, totalSegments == 1
+							? scanExpression
+							: ParallelScanList.segment(scanExpression, segment, totalSegments)));
+		}
+
+		DynamoDBMapperTableModel<T> tableModel = getTableModel(domainClass);
+		List<String> keyAttributes = new ArrayList<>(2);
+		keyAttributes.add(tableModel.hashKey().name());
+		if (tableModel.rangeKeyIfExists() != null) {
+			keyAttributes.add(tableModel.rangeKeyIfExists().name());
+		}
+		Map<String, String> names = keyAttributeNames(keyAttributes);
+		ScanRequest scanRequest = new ScanRequest().withTableName(getTableName(domainClass))
+				.withProjectionExpression(String.join(",", names.keySet())).withExpressionAttributeNames(names);
+		return deleteSegments(totalSegments, segment -> deleteScannedKeys(domainClass, totalSegments == 1
+				? scanRequest
+				: scanRequest.clone().withSegment(segment).withTotalSegments(totalSegments)));
+	}
+
+	/**
+	 * Runs the deletion of each segment on the parallel scan executor, or on the
+	 * calling thread if there is only one segment.
+	 */
+	private List<FailedBatch> deleteSegments(int totalSegments, IntFunction<List<FailedBatch>> segmentDeletion) {
+		if (totalSegments == 1) {
+			return segmentDeletion.apply(0);
+		}
+
+		Executor executor = getParallelScanExecutor();
+		List<CompletableFuture<List<FailedBatch>>> segments = new ArrayList<>(totalSegments);
+		for (int segment = 0; segment < totalSegments; segment++) {
+			int currentSegment = segment;
+			segments.add(CompletableFuture.supplyAsync(() -> segmentDeletion.apply(currentSegment), executor));
+		}
+
+		List<FailedBatch> result = new ArrayList<>();
+		for (CompletableFuture<List<FailedBatch>> segment : segments) {
+			result.addAll(ParallelScanList.join(segment));
+		}
+		return result;
+	}
+
+	/**
+	 * Deletes the entities of each page of the given scan via
+	 * {@link #batchDelete(Iterable)} before the next page is read, so delete events
+	 * are published and batch callbacks invoked.
+	 */
+	private <T> List<FailedBatch> deleteScannedEntities(Class<T> domainClass, DynamoDBScanExpression scanExpression) {
+		List<FailedBatch> result = new ArrayList<>();
+		Map<String, AttributeValue> lastEvaluatedKey = null;
+		do {
+			ScanResultPage<T> page = dynamoDBMapper.scanPage(domainClass,
+					scanExpression.withExclusiveStartKey(lastEvaluatedKey), dynamoDBMapperConfig);
+			if (!page.getResults().isEmpty()) {
+				result.addAll(batchDelete(page.getResults()));
+			}
+			lastEvaluatedKey = page.getLastEvaluatedKey();
+		} while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+		return result;
+	}
+
+	/**
+	 * Deletes the keys of each page of the given key-only scan before the next
+	 * page is read, so only a single page of keys is held in memory.
+	 */
+	private <T> List<FailedBatch> deleteScannedKeys(Class<T> domainClass, ScanRequest scanRequest) {
+		List<FailedBatch> result = new ArrayList<>();
+		Map<String, AttributeValue> lastEvaluatedKey = null;
+		do {
+			ScanResult scanResult = amazonDynamoDB.scan(scanRequest.withExclusiveStartKey(lastEvaluatedKey));
+			List<Map<String, AttributeValue>> keys = scanResult.getItems();
+			for (int i = 0; i < keys.size(); i += MAX_BATCH_WRITE_SIZE) {
+				List<Map<String, AttributeValue>> chunk = keys.subList(i,
+						Math.min(i + MAX_BATCH_WRITE_SIZE, keys.size()));
+				List<WriteRequest> deleteRequests = new ArrayList<>(chunk.size());
+				for (Map<String, AttributeValue> key : chunk) {
+					deleteRequests.add(new WriteRequest(new DeleteRequest(key)));
+					evictFromCache(domainClass, key);
+				}
+				result.addAll(batchWriteRetryHandler
+						.write(Collections.singletonMap(scanRequest.getTableName(), deleteRequests)));
+			}
+			lastEvaluatedKey = scanResult.getLastEvaluatedKey();
+		} while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+		return result;
+	}
+
 	@Override
 	public List<FailedBatch> batchDelete(Iterable<?> entities) {
-		entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
+		BatchEntityCallbacks callbacks = getBatchEntityCallbacks();
+		callbacks.invoke(entities, BatchEntityCallback::beforeBatchDelete);
+		entities.forEach(it -> maybeEmitBatchEvent(it, BeforeDeleteEvent.class, BeforeDeleteEvent::new));
 
-		List<FailedBatch> result = dynamoDBMapper.batchDelete(entities);
+		List<FailedBatch> result = batchWriteRetryHandler.retry(dynamoDBMapper.batchDelete(entities));
+		for (Object entity : entities) {
+			evictFromCache(entity);
+			maybeEmitBatchEvent(entity, AfterDeleteEvent.class, AfterDeleteEvent::new);
+		}
 
-		entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
+		callbacks.invoke(entities, BatchEntityCallback::afterBatchDelete);
 		return result;
 	}
 
+	@Override
+	public void transactWrite(TransactionWriteRequest transactionWriteRequest) {
+		List<TransactionWriteOperation> operations = transactionWriteRequest.getTransactionWriteOperations();
+		operations.forEach(it -> maybeEmitWriteEvent(it, BeforeSaveEvent::new, BeforeDeleteEvent::new));
+
+		dynamoDBMapper.transactionWrite(transactionWriteRequest);
+
+		for (TransactionWriteOperation operation : operations) {
+			if (operation.getTransactionWriteOperationType() != TransactionWriteOperationType.ConditionCheck) {
+				evictFromCache(operation.getObject());
+			}
+			maybeEmitWriteEvent(operation, AfterSaveEvent::new, AfterDeleteEvent::new);
+		}
+	}
+
+	private void maybeEmitWriteEvent(TransactionWriteOperation operation,
+			Function<Object, DynamoDBMappingEvent<Object>> saveEventFactory,
+			Function<Object, DynamoDBMappingEvent<Object>> deleteEventFactory) {
+		switch (operation.getTransactionWriteOperationType()) {
+			case Put :
+			case Update :
+				maybeEmitEvent(operation.getObject(), saveEventFactory);
+				break;
+			case Delete :
+				maybeEmitEvent(operation.getObject(), deleteEventFactory);
+				break;
+			default :
+				// Condition checks do not modify the item
+		}
+	}
+
+	@Override
+	public List<Object> transactGet(TransactionLoadRequest transactionLoadRequest) {
+		List<Object> results = dynamoDBMapper.transactionLoad(transactionLoadRequest);
+		results.forEach(it -> maybeEmitEvent(it, AfterLoadEvent::new));
+		return results;
+	}
+
 	@Override
 	public <T> PaginatedQueryList<T> query(Class<T> clazz, QueryRequest queryRequest) {
 		QueryResult queryResult = amazonDynamoDB.query(queryRequest);
@@ -0,0 +1,63 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * Second-level cache of items of entity types annotated with
+ * {@link org.socialsignin.spring.data.dynamodb.mapping.DynamoDBCacheable}.
+ * Items are stored by table in their attribute value representation, so every
+ * cache hit returns a new entity instance and entity types sharing a table
+ * share their cached items.
+ *
+ * Implementations must be thread-safe.
+ *
+ * @see LocalEntityCache
+ * @see DynamoDBTemplate#setEntityCache(EntityCache)
+ */
+public interface EntityCache {
+
+	/**
+	 * @param tableName
+	 *            the table of the item
+	 * @param key
+	 *            the hash and range key of the item
+	 * @return the cached item, {@code null} if not cached or expired
+	 */
+	@Nullable
+	Map<String, AttributeValue> get(String tableName, Map<String, AttributeValue> key);
+
+	/**
+	 * @param tableName
+	 *            the table of the item
+	 * @param domainClass
+	 *            the entity type the item was loaded as - its
+	 *            {@link org.socialsignin.spring.data.dynamodb.mapping.DynamoDBCacheable}
+	 *            settings may configure how the table's items are cached
+	 * @param key
+	 *            the hash and range key of the item
+	 * @param item
+	 *            the item to cache
+	 */
+	void put(String tableName, Class<?> domainClass, Map<String, AttributeValue> key,
+			Map<String, AttributeValue> item);
+
+	void evict(String tableName, Map<String, AttributeValue> key);
+}
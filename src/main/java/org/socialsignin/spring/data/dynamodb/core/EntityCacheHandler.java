@@ -0,0 +1,120 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBCacheable;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Reads and invalidates the {@link EntityCache} on behalf of the templates for
+ * entity types annotated with {@link DynamoDBCacheable}, converting between
+ * entities and their cached attribute value representation.
+ *
+ * Evictions are counted per table. A read-through put passes the count taken
+ * before the item was loaded and is dropped if an eviction happened in the
+ * meantime, so a concurrently saved item is not overwritten in the cache by
+ * the stale one.
+ */
+class EntityCacheHandler {
+
+	private final ConcurrentMap<Class<?>, Boolean> cacheableTypes = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, AtomicLong> evictions = new ConcurrentHashMap<>();
+	private final EntityCacheMetrics metrics;
+	private final Function<Class<?>, String> tableNames;
+	private volatile EntityCache entityCache;
+
+	EntityCacheHandler(EntityCache entityCache, EntityCacheMetrics metrics, Function<Class<?>, String> tableNames) {
+		setEntityCache(entityCache);
+		this.metrics = metrics;
+		this.tableNames = tableNames;
+	}
+
+	void setEntityCache(EntityCache entityCache) {
+		Assert.notNull(entityCache, "entityCache must not be null!");
+		this.entityCache = entityCache;
+	}
+
+	boolean isCacheable(Class<?> domainClass) {
+		return cacheableTypes.computeIfAbsent(domainClass,
+				c -> AnnotationUtils.findAnnotation(c, DynamoDBCacheable.class) != null);
+	}
+
+	/**
+	 * @return a new instance of the cached entity, {@code null} on a cache miss
+	 */
+	@Nullable
+	<T> T get(Class<T> domainClass, DynamoDBMapperTableModel<T> tableModel, Map<String, AttributeValue> key) {
+		Map<String, AttributeValue> item = entityCache.get(tableNames.apply(domainClass), key);
+		if (item == null) {
+			metrics.recordMiss();
+			return null;
+		}
+		metrics.recordHit();
+		return tableModel.unconvert(item);
+	}
+
+	/**
+	 * @return the number of evictions of the entity's table - to be taken before
+	 *         loading an item that is put into the cache afterwards
+	 */
+	long generation(Class<?> domainClass) {
+		return evictions(tableNames.apply(domainClass)).get();
+	}
+
+	/**
+	 * Caches the loaded entity unless its table saw an eviction since the given
+	 * {@link #generation(Class)} was taken.
+	 */
+	<T> void put(Class<T> domainClass, DynamoDBMapperTableModel<T> tableModel, T entity, long generation) {
+		String tableName = tableNames.apply(domainClass);
+		AtomicLong tableEvictions = evictions(tableName);
+		if (tableEvictions.get() != generation) {
+			return;
+		}
+		Map<String, AttributeValue> key = tableModel.convertKey(entity);
+		entityCache.put(tableName, domainClass, key, tableModel.convert(entity));
+		if (tableEvictions.get() != generation) {
+			// Evicted while the entity was put, it may be stale already
+			entityCache.evict(tableName, key);
+		}
+	}
+
+	<T> void evict(Class<T> domainClass, DynamoDBMapperTableModel<T> tableModel, T entity) {
+		evict(domainClass, tableModel.convertKey(entity));
+	}
+
+	void evict(Class<?> domainClass, Map<String, AttributeValue> key) {
+		String tableName = tableNames.apply(domainClass);
+		// Counted before evicting, so a concurrent put either sees the count or is evicted
+		evictions(tableName).incrementAndGet();
+		entityCache.evict(tableName, key);
+		metrics.recordInvalidation();
+	}
+
+	private AtomicLong evictions(String tableName) {
+		return evictions.computeIfAbsent(tableName, t -> new AtomicLong());
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the {@link EntityCache} lookups, e.g. to be exposed as gauges of
+ * a metrics registry.
+ */
+public class EntityCacheMetrics {
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	void recordHit() {
+		hits.incrementAndGet();
+	}
+
+	void recordMiss() {
+		misses.incrementAndGet();
+	}
+
+	void recordInvalidation() {
+		invalidations.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of entities served from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of entities that had to be loaded from DynamoDB
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return the number of cached items invalidated by saves and deletes
+	 */
+	public long getInvalidations() {
+		return invalidations.get();
+	}
+
+	@Override
+	public String toString() {
+		return "EntityCacheMetrics [hits=" + getHits() + ", misses=" + getMisses() + ", invalidations="
+				+ getInvalidations() + "]";
+	}
+}
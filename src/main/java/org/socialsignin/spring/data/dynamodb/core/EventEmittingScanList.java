@@ -0,0 +1,93 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * List that hands out the results of the given scan results and reports every
+ * result to a listener once the consumer reaches it. Thus publishing events for
+ * the results never loads more pages than the consumer itself iterates.
+ *
+ * The list keeps the results according to the configured pagination loading
+ * strategy: lazy loading keeps the results reached so far, iteration only none
+ * of them. The given results should therefore be iterated only, e.g. by a
+ * mapper list loaded with
+ * {@link DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}, so they
+ * are not held twice. Eager loading is not supported - the results of an eager
+ * list are complete already and can be reported right away.
+ *
+ * @param <T>
+ *            the type of the entities
+ */
+class EventEmittingScanList<T> extends PaginatedScanList<T> {
+
+	private final Iterator<T> delegate;
+	private final Consumer<T> listener;
+
+	EventEmittingScanList(DynamoDBMapper mapper, Class<T> clazz, DynamoDBMapperConfig config,
+			Iterable<T> results, Consumer<T> listener) {
+		// Starts empty - all results are taken from the delegate
+		super(mapper, clazz, null, new ScanRequest(), new ScanResult().withItems(Collections.emptyList()),
+				notEagerLoading(config.getPaginationLoadingStrategy()), config);
+		this.delegate = results.iterator();
+		this.listener = listener;
+	}
+
+	/**
+	 * Wraps a single scan result as the source of an
+	 * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent}.
+	 * It is always lazy loading, so listeners may iterate it more than once.
+	 */
+	static <T> PaginatedScanList<T> singleResult(DynamoDBMapper mapper, Class<T> clazz, T result) {
+		return new EventEmittingScanList<>(mapper, clazz, DynamoDBMapperConfig.DEFAULT,
+				Collections.singletonList(result), it -> {
+				});
+	}
+
+	/**
+	 * Checked before the super constructor, which loads all results if eager
+	 * loading is configured
+	 */
+	static DynamoDBMapperConfig.PaginationLoadingStrategy notEagerLoading(
+			DynamoDBMapperConfig.PaginationLoadingStrategy paginationLoadingStrategy) {
+		Assert.isTrue(paginationLoadingStrategy != DynamoDBMapperConfig.PaginationLoadingStrategy.EAGER_LOADING,
+				"Eager loading is not supported");
+		return paginationLoadingStrategy;
+	}
+
+	@Override
+	protected boolean atEndOfResults() {
+		return !delegate.hasNext();
+	}
+
+	@Override
+	protected synchronized List<T> fetchNextPage() {
+		T result = delegate.next();
+		listener.accept(result);
+		return Collections.singletonList(result);
+	}
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects concurrent single key loads of the same entity type and dispatches
+ * them as one BatchGetItem request, either once the batching window elapsed or
+ * once 100 keys - the limit of a single BatchGetItem request - are pending.
+ *
+ * Every caller receives its own entity instance, even if the same key was
+ * requested several times within one batch.
+ *
+ * The scheduler only times the windows, batches are dispatched on the given
+ * executor, so batches of different entity types are loaded concurrently.
+ * Loads issued while a batch is dispatched on the same thread - e.g. by a
+ * callback of a completed load - are dispatched right away, as waiting for a
+ * batch dispatched by the blocked thread pool could deadlock.
+ */
+class LoadBatcher {
+
+	/**
+	 * Maximum number of keys of a single BatchGetItem request
+	 */
+	static final int MAX_BATCH_GET_SIZE = 100;
+
+	private final DynamoDBTemplate dynamoDBTemplate;
+	private final long windowMillis;
+	private final ScheduledExecutorService scheduler;
+	private final ExecutorService dispatchExecutor;
+
+	private final ThreadLocal<Boolean> dispatching = ThreadLocal.withInitial(() -> Boolean.FALSE);
+	private final Object lock = new Object();
+	private final Map<Class<?>, PendingBatch<?>> pendingBatches = new HashMap<>();
+	private boolean shutdown;
+
+	LoadBatcher(DynamoDBTemplate dynamoDBTemplate, long windowMillis, ScheduledExecutorService scheduler,
+			ExecutorService dispatchExecutor) {
+		this.dynamoDBTemplate = dynamoDBTemplate;
+		this.windowMillis = windowMillis;
+		this.scheduler = scheduler;
+		this.dispatchExecutor = dispatchExecutor;
+	}
+
+	/**
+	 * @return a future that completes with the entity, or {@code null} if no item
+	 *         with the given key exists
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, @Nullable Object rangeKey) {
+		DynamoDBMapperTableModel<T> tableModel = dynamoDBTemplate.getTableModel(domainClass);
+		Map<String, AttributeValue> key = tableModel.convertKey(hashKey, rangeKey);
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		KeyPair keyPair = new KeyPair().withHashKey(hashKey).withRangeKey(rangeKey);
+		boolean dispatchInline;
+		synchronized (lock) {
+			dispatchInline = shutdown || dispatching.get();
+		}
+		if (dispatchInline) {
+			PendingBatch<T> batch = new PendingBatch<>(domainClass, tableModel);
+			batch.add(key, keyPair, future);
+			dispatch(batch);
+			return future;
+		}
+
+		PendingBatch<T> fullBatch = null;
+		synchronized (lock) {
+			PendingBatch<T> batch = (PendingBatch<T>) pendingBatches.get(domainClass);
+			if (batch == null) {
+				PendingBatch<T> newBatch = new PendingBatch<>(domainClass, tableModel);
+				pendingBatches.put(domainClass, newBatch);
+				scheduler.schedule(() -> dispatchAsync(newBatch), windowMillis, TimeUnit.MILLISECONDS);
+				batch = newBatch;
+			}
+			batch.add(key, keyPair, future);
+			if (batch.size() >= MAX_BATCH_GET_SIZE) {
+				pendingBatches.remove(domainClass);
+				fullBatch = batch;
+			}
+		}
+		if (fullBatch != null) {
+			dispatchAsync(fullBatch);
+		}
+		return future;
+	}
+
+	/**
+	 * Stops the background dispatching. Pending batches are dispatched by the
+	 * calling thread, loads issued afterwards are dispatched right away.
+	 */
+	void shutdown() {
+		List<PendingBatch<?>> pending;
+		synchronized (lock) {
+			shutdown = true;
+			pending = new ArrayList<>(pendingBatches.values());
+			pendingBatches.clear();
+		}
+		scheduler.shutdownNow();
+		dispatchExecutor.shutdown();
+		for (PendingBatch<?> batch : pending) {
+			dispatch(batch);
+		}
+	}
+
+	private void dispatchAsync(PendingBatch<?> batch) {
+		try {
+			dispatchExecutor.execute(() -> dispatch(batch));
+		} catch (RejectedExecutionException e) {
+			// Shut down meanwhile
+			dispatch(batch);
+		}
+	}
+
+	private <T> void dispatch(PendingBatch<T> batch) {
+		synchronized (lock) {
+			if (batch.dispatched) {
+				return;
+			}
+			batch.dispatched = true;
+			pendingBatches.remove(batch.domainClass, batch);
+		}
+
+		boolean nested = dispatching.get();
+		dispatching.set(Boolean.TRUE);
+		try {
+			List<Object> entities = dynamoDBTemplate
+					.loadUncached(Collections.singletonMap(batch.domainClass, new ArrayList<>(batch.keyPairs.values())));
+			Map<Map<String, AttributeValue>, T> entitiesByKey = new HashMap<>();
+			for (Object entity : entities) {
+				T typedEntity = batch.domainClass.cast(entity);
+				entitiesByKey.put(batch.tableModel.convertKey(typedEntity), typedEntity);
+			}
+
+			for (Map.Entry<Map<String, AttributeValue>, List<CompletableFuture<T>>> waiting : batch.futures
+					.entrySet()) {
+				T entity = entitiesByKey.get(waiting.getKey());
+				List<CompletableFuture<T>> futures = waiting.getValue();
+				for (int i = 0; i < futures.size(); i++) {
+					// Callers of the same key must not share one mutable instance
+					futures.get(i).complete(entity == null || i == 0
+							? entity
+							: batch.tableModel.unconvert(batch.tableModel.convert(entity)));
+				}
+			}
+		} catch (RuntimeException e) {
+			batch.futures.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+		} finally {
+			if (!nested) {
+				dispatching.remove();
+			}
+		}
+	}
+
+	private static final class PendingBatch<T> {
+		private final Class<T> domainClass;
+		private final DynamoDBMapperTableModel<T> tableModel;
+		private final Map<Map<String, AttributeValue>, KeyPair> keyPairs = new LinkedHashMap<>();
+		private final Map<Map<String, AttributeValue>, List<CompletableFuture<T>>> futures = new HashMap<>();
+		private boolean dispatched;
+
+		PendingBatch(Class<T> domainClass, DynamoDBMapperTableModel<T> tableModel) {
+			this.domainClass = domainClass;
+			this.tableModel = tableModel;
+		}
+
+		void add(Map<String, AttributeValue> key, KeyPair keyPair, CompletableFuture<T> future) {
+			keyPairs.putIfAbsent(key, keyPair);
+			futures.computeIfAbsent(key, k -> new ArrayList<>()).add(future);
+		}
+
+		int size() {
+			return keyPairs.size();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBCacheable;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory {@link EntityCache} with one region per table. Each region holds at
+ * most {@link DynamoDBCacheable#maxSize()} items, evicting the least recently
+ * used first, and drops items older than {@link DynamoDBCacheable#ttl()} - as
+ * configured on the first entity type put into the table's region.
+ */
+public class LocalEntityCache implements EntityCache {
+
+	private final ConcurrentMap<String, Region> regions = new ConcurrentHashMap<>();
+	private final LongSupplier clock;
+
+	public LocalEntityCache() {
+		this(System::currentTimeMillis);
+	}
+
+	LocalEntityCache(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public Map<String, AttributeValue> get(String tableName, Map<String, AttributeValue> key) {
+		Region region = regions.get(tableName);
+		return region == null ? null : region.get(key, clock.getAsLong());
+	}
+
+	@Override
+	public void put(String tableName, Class<?> domainClass, Map<String, AttributeValue> key,
+			Map<String, AttributeValue> item) {
+		regions.computeIfAbsent(tableName, t -> {
+			DynamoDBCacheable cacheable = AnnotationUtils.findAnnotation(domainClass, DynamoDBCacheable.class);
+			Assert.notNull(cacheable, domainClass + " is not annotated with @DynamoDBCacheable");
+			return new Region(cacheable.timeUnit().toMillis(cacheable.ttl()), cacheable.maxSize());
+		}).put(key, item, clock.getAsLong());
+	}
+
+	@Override
+	public void evict(String tableName, Map<String, AttributeValue> key) {
+		Region region = regions.get(tableName);
+		if (region != null) {
+			region.evict(key);
+		}
+	}
+
+	private static final class Region {
+		private final long ttlMillis;
+		private final Map<Map<String, AttributeValue>, Entry> entries;
+
+		Region(long ttlMillis, int maxSize) {
+			this.ttlMillis = ttlMillis;
+			this.entries = new LinkedHashMap<Map<String, AttributeValue>, Entry>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Map<String, AttributeValue>, Entry> eldest) {
+					return size() > maxSize;
+				}
+			};
+		}
+
+		synchronized Map<String, AttributeValue> get(Map<String, AttributeValue> key, long now) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt <= now) {
+				entries.remove(key);
+				return null;
+			}
+			return entry.item;
+		}
+
+		synchronized void put(Map<String, AttributeValue> key, Map<String, AttributeValue> item, long now) {
+			entries.put(key, new Entry(item, now + ttlMillis));
+		}
+
+		synchronized void evict(Map<String, AttributeValue> key) {
+			entries.remove(key);
+		}
+	}
+
+	private static final class Entry {
+		private final Map<String, AttributeValue> item;
+		private final long expiresAt;
+
+		Entry(Map<String, AttributeValue> item, long expiresAt) {
+			this.item = item;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
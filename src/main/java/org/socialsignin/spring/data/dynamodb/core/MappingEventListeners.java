@@ -0,0 +1,121 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.mapping.event.AbstractDynamoDBEventListener;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tells whether a {@link DynamoDBMappingEvent} of a domain type is consumed by
+ * any {@link ApplicationListener} bean, so that no event is created - and no
+ * entity is read just to be published - if nobody listens. The answer is
+ * resolved once per event type and domain type.
+ *
+ * An {@link AbstractDynamoDBEventListener} only counts for the domain type it
+ * is declared for and for the events whose hook it overrides, e.g. an
+ * auditing listener implementing {@code onBeforeSave} does not observe
+ * deletes. {@link org.springframework.context.event.EventListener} methods are
+ * not beans and therefore not detected.
+ */
+class MappingEventListeners {
+
+	static final MappingEventListeners NONE = new MappingEventListeners(Collections.emptyList());
+
+	/**
+	 * The hooks of {@link AbstractDynamoDBEventListener} per event type
+	 */
+	private static final Map<Class<?>, String> HOOKS = new HashMap<>();
+	static {
+		HOOKS.put(BeforeSaveEvent.class, "onBeforeSave");
+		HOOKS.put(AfterSaveEvent.class, "onAfterSave");
+		HOOKS.put(BeforeDeleteEvent.class, "onBeforeDelete");
+		HOOKS.put(AfterDeleteEvent.class, "onAfterDelete");
+		HOOKS.put(AfterLoadEvent.class, "onAfterLoad");
+		HOOKS.put(AfterScanEvent.class, "onAfterScan");
+		HOOKS.put(AfterQueryEvent.class, "onAfterQuery");
+	}
+
+	private final List<ApplicationListener<?>> listeners = new ArrayList<>();
+	private final ConcurrentMap<List<Class<?>>, Boolean> listenedEvents = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("rawtypes")
+	MappingEventListeners(Collection<ApplicationListener> listeners) {
+		for (ApplicationListener<?> listener : listeners) {
+			this.listeners.add(listener);
+		}
+	}
+
+	boolean hasListener(Class<?> eventType, Class<?> domainClass) {
+		if (listeners.isEmpty()) {
+			return false;
+		}
+		return listenedEvents.computeIfAbsent(Arrays.asList(eventType, domainClass), key -> {
+			for (ApplicationListener<?> listener : listeners) {
+				if (isListening(listener, eventType, domainClass)) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	private static boolean isListening(ApplicationListener<?> listener, Class<?> eventType, Class<?> domainClass) {
+		if (!(listener instanceof AbstractDynamoDBEventListener)) {
+			return new GenericApplicationListenerAdapter(listener).supportsEventType(ResolvableType.forClass(eventType));
+		}
+
+		Class<?> listenerClass = ClassUtils.getUserClass(listener);
+		Class<?> listenerDomainClass = GenericTypeResolver.resolveTypeArgument(listenerClass,
+				AbstractDynamoDBEventListener.class);
+		if (listenerDomainClass != null && !listenerDomainClass.isAssignableFrom(domainClass)) {
+			return false;
+		}
+		String hook = HOOKS.get(eventType);
+		return hook == null || isOverridden(listenerClass, "onApplicationEvent", DynamoDBMappingEvent.class)
+				|| isOverridden(listenerClass, hook, Object.class);
+	}
+
+	private static boolean isOverridden(Class<?> listenerClass, String methodName, Class<?> parameterType) {
+		// Overriding a hook of a generic listener declares a bridge method with the
+		// erased parameter type
+		Method method = ReflectionUtils.findMethod(listenerClass, methodName, parameterType);
+		return method != null && method.getDeclaringClass() != AbstractDynamoDBEventListener.class;
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Lazy loading list of a parallel (segmented) scan that fetches the next page
+ * of all unfinished segments concurrently on the given {@link Executor}.
+ *
+ * This is the counterpart of
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.PaginatedParallelScanList}
+ * which always spawns its own thread pool per scan.
+ *
+ * @param <T>
+ *            the type of the scanned entities
+ */
+class ParallelScanList<T> extends PaginatedList<T> {
+
+	private final DynamoDBScanExpression scanExpression;
+	private final DynamoDBMapperConfig config;
+	private final Executor executor;
+	private final List<Map<String, AttributeValue>> lastEvaluatedKeys;
+	private final boolean[] segmentFinished;
+
+	ParallelScanList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+			DynamoDBScanExpression scanExpression, int totalSegments, DynamoDBMapperConfig config,
+			Executor executor) {
+		super(mapper, clazz, dynamo, config.getPaginationLoadingStrategy());
+		this.scanExpression = scanExpression;
+		this.config = config;
+		this.executor = executor;
+		this.segmentFinished = new boolean[totalSegments];
+		this.lastEvaluatedKeys = new ArrayList<>(totalSegments);
+		for (int segment = 0; segment < totalSegments; segment++) {
+			lastEvaluatedKeys.add(scanExpression.getExclusiveStartKey());
+		}
+
+		allResults.addAll(fetchNextPage());
+
+		if (config.getPaginationLoadingStrategy() == DynamoDBMapperConfig.PaginationLoadingStrategy.EAGER_LOADING) {
+			loadAllResults();
+		}
+	}
+
+	@Override
+	protected boolean atEndOfResults() {
+		for (boolean finished : segmentFinished) {
+			if (!finished) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected synchronized List<T> fetchNextPage() {
+		int totalSegments = segmentFinished.length;
+		List<CompletableFuture<ScanResultPage<T>>> pages = new ArrayList<>(totalSegments);
+		for (int segment = 0; segment < totalSegments; segment++) {
+			if (segmentFinished[segment]) {
+				pages.add(null);
+			} else {
+				DynamoDBScanExpression segmentExpression = segment(scanExpression, segment, totalSegments)
+						.withExclusiveStartKey(lastEvaluatedKeys.get(segment));
+				pages.add(CompletableFuture.supplyAsync(() -> mapper.scanPage(clazz, segmentExpression, config),
+						executor));
+			}
+		}
+
+		List<T> results = new ArrayList<>();
+		for (int segment = 0; segment < totalSegments; segment++) {
+			if (pages.get(segment) != null) {
+				ScanResultPage<T> page = join(pages.get(segment));
+				results.addAll(page.getResults());
+				lastEvaluatedKeys.set(segment, page.getLastEvaluatedKey());
+				segmentFinished[segment] = page.getLastEvaluatedKey() == null;
+			}
+		}
+		return results;
+	}
+
+	static <R> R join(CompletableFuture<R> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Copies the given expression restricted to a single segment of a parallel
+	 * scan.
+	 */
+	static DynamoDBScanExpression segment(DynamoDBScanExpression scanExpression, int segment, int totalSegments) {
+		return new DynamoDBScanExpression().withIndexName(scanExpression.getIndexName())
+				.withScanFilter(scanExpression.getScanFilter())
+				.withConditionalOperator(scanExpression.getConditionalOperator())
+				.withFilterExpression(scanExpression.getFilterExpression())
+				.withExpressionAttributeNames(scanExpression.getExpressionAttributeNames())
+				.withExpressionAttributeValues(scanExpression.getExpressionAttributeValues())
+				.withProjectionExpression(scanExpression.getProjectionExpression())
+				.withSelect(scanExpression.getSelect()).withLimit(scanExpression.getLimit())
+				.withConsistentRead(scanExpression.isConsistentRead())
+				.withReturnConsumedCapacity(scanExpression.getReturnConsumedCapacity())
+				.withExclusiveStartKey(scanExpression.getExclusiveStartKey()).withSegment(segment)
+				.withTotalSegments(totalSegments);
+	}
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts the {@code LastEvaluatedKey} of a DynamoDB Query or Scan into an
+ * opaque, URL safe continuation token and back, so it can be handed to clients
+ * and used as {@code ExclusiveStartKey} of the next request.
+ * <p>
+ * Only the scalar types DynamoDB allows for key attributes (S, N and B) are
+ * supported.
+ */
+public final class ContinuationToken {
+
+	private static final byte VERSION = 1;
+	private static final byte VERSION_SEGMENTED = 2;
+
+	private ContinuationToken() {
+	}
+
+	/**
+	 * @param lastEvaluatedKey
+	 *            the key to continue with - can be {@code null}
+	 * @return the continuation token, {@code null} if there is nothing to continue
+	 *         with
+	 */
+	@Nullable
+	public static String encode(@Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+		if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+			return null;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			writeKey(out, lastEvaluatedKey);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * Encodes the position within a segment of a parallel scan.
+	 *
+	 * @param lastEvaluatedKey
+	 *            the key to continue with - {@code null} to start at the
+	 *            beginning of the segment
+	 * @param segment
+	 *            the segment to continue with
+	 * @return the continuation token
+	 */
+	public static String encode(@Nullable Map<String, AttributeValue> lastEvaluatedKey, int segment) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION_SEGMENTED);
+			out.writeShort(segment);
+			writeKey(out, lastEvaluatedKey == null ? Collections.emptyMap() : lastEvaluatedKey);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @param continuationToken
+	 *            a token created by one of the {@code encode} methods - can be
+	 *            {@code null}
+	 * @return the key to continue with, {@code null} to start from the beginning
+	 *         (of the segment)
+	 * @throws IllegalArgumentException
+	 *             if the token is malformed
+	 */
+	@Nullable
+	public static Map<String, AttributeValue> decode(@Nullable String continuationToken) {
+		if (StringUtils.isEmpty(continuationToken)) {
+			return null;
+		}
+
+		try (DataInputStream in = open(continuationToken)) {
+			if (in.readByte() == VERSION_SEGMENTED) {
+				in.readShort();
+			}
+			int size = in.readShort();
+			if (size == 0) {
+				return null;
+			}
+			Map<String, AttributeValue> key = new LinkedHashMap<>(size * 2);
+			for (int i = 0; i < size; i++) {
+				key.put(in.readUTF(), readAttributeValue(in));
+			}
+			return key;
+		} catch (IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid continuation token " + continuationToken, e);
+		}
+	}
+
+	/**
+	 * @param continuationToken
+	 *            a token created by one of the {@code encode} methods - can be
+	 *            {@code null}
+	 * @return the segment of a parallel scan to continue with, {@code 0} if the
+	 *         token does not point into a segment
+	 * @throws IllegalArgumentException
+	 *             if the token is malformed
+	 */
+	public static int decodeSegment(@Nullable String continuationToken) {
+		if (StringUtils.isEmpty(continuationToken)) {
+			return 0;
+		}
+
+		try (DataInputStream in = open(continuationToken)) {
+			return in.readByte() == VERSION_SEGMENTED ? in.readShort() : 0;
+		} catch (IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid continuation token " + continuationToken, e);
+		}
+	}
+
+	private static DataInputStream open(String continuationToken) throws IOException {
+		DataInputStream in = new DataInputStream(
+				new ByteArrayInputStream(Base64.getUrlDecoder().decode(continuationToken)));
+		in.mark(1);
+		byte version = in.readByte();
+		if (version != VERSION && version != VERSION_SEGMENTED) {
+			throw new IllegalArgumentException("Unsupported continuation token version " + version);
+		}
+		in.reset();
+		return in;
+	}
+
+	private static void writeKey(DataOutputStream out, Map<String, AttributeValue> key) throws IOException {
+		out.writeShort(key.size());
+		for (Map.Entry<String, AttributeValue> entry : key.entrySet()) {
+			out.writeUTF(entry.getKey());
+			writeAttributeValue(out, entry.getKey(), entry.getValue());
+		}
+	}
+
+	private static void writeAttributeValue(DataOutputStream out, String name, AttributeValue value)
+			throws IOException {
+		if (value.getS() != null) {
+			out.writeByte('S');
+			out.writeUTF(value.getS());
+		} else if (value.getN() != null) {
+			out.writeByte('N');
+			out.writeUTF(value.getN());
+		} else if (value.getB() != null) {
+			ByteBuffer buffer = value.getB().duplicate();
+			byte[] binary = new byte[buffer.remaining()];
+			buffer.get(binary);
+			out.writeByte('B');
+			out.writeInt(binary.length);
+			out.write(binary);
+		} else {
+			throw new IllegalArgumentException("Key attribute " + name + " is not of type S, N or B: " + value);
+		}
+	}
+
+	private static AttributeValue readAttributeValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		switch (type) {
+			case 'S' :
+				return new AttributeValue().withS(in.readUTF());
+			case 'N' :
+				return new AttributeValue().withN(in.readUTF());
+			case 'B' :
+				byte[] binary = new byte[in.readInt()];
+				in.readFully(binary);
+				return new AttributeValue().withB(ByteBuffer.wrap(binary));
+			default :
+				throw new IllegalArgumentException("Unknown attribute type " + (char) type);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link org.springframework.data.domain.Page} read for a
+ * {@link KeysetPageRequest} that carries the {@link ContinuationToken} of the
+ * following page.
+ *
+ * @param <T>
+ *            The type of the list's elements
+ */
+public class KeysetPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final KeysetPageRequest pageable;
+	private final String continuationToken;
+
+	public KeysetPage(List<T> content, KeysetPageRequest pageable, long total, @Nullable String continuationToken) {
+		super(content, pageable, total);
+		this.pageable = pageable;
+		this.continuationToken = continuationToken;
+	}
+
+	/**
+	 * @return the token of the following page, {@code null} if this is the last
+	 *         one
+	 */
+	@Nullable
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return continuationToken != null;
+	}
+
+	@Override
+	public boolean isLast() {
+		return !hasNext();
+	}
+
+	@Override
+	public Pageable nextPageable() {
+		return hasNext() ? pageable.next(continuationToken) : Pageable.unpaged();
+	}
+
+	@Override
+	public <U> KeysetPage<U> map(Function<? super T, ? extends U> converter) {
+		return new KeysetPage<>(getConvertedContent(converter), pageable, getTotalElements(), continuationToken);
+	}
+}
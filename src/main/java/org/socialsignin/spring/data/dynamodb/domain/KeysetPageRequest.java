@@ -0,0 +1,161 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.AbstractPageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+
+/**
+ * {@link Pageable} that continues a DynamoDB Query or Scan at the
+ * {@link ContinuationToken} of the previous page instead of reading and
+ * skipping {@link #getOffset()} items, so every page costs the same as the
+ * first one.
+ * <p>
+ * The token of the following page is returned by {@link KeysetSlice} or
+ * {@link KeysetPage} - use their {@code nextPageable()} to move on. As tokens
+ * only point forward, {@link #next()} and {@link #previous()} are not
+ * supported.
+ */
+public class KeysetPageRequest extends AbstractPageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Sort sort;
+	private final String continuationToken;
+
+	protected KeysetPageRequest(int page, int size, Sort sort, @Nullable String continuationToken) {
+		super(page, size);
+
+		Assert.notNull(sort, "Sort must not be null!");
+
+		this.sort = sort;
+		this.continuationToken = continuationToken;
+	}
+
+	/**
+	 * Creates a request for the first page.
+	 *
+	 * @param size
+	 *            the size of the page to be returned
+	 * @return the request
+	 */
+	public static KeysetPageRequest of(int size) {
+		return of(size, Sort.unsorted());
+	}
+
+	/**
+	 * Creates a request for the first page.
+	 *
+	 * @param size
+	 *            the size of the page to be returned
+	 * @param sort
+	 *            must not be {@code null}, use {@link Sort#unsorted()} instead
+	 * @return the request
+	 */
+	public static KeysetPageRequest of(int size, Sort sort) {
+		return new KeysetPageRequest(0, size, sort, null);
+	}
+
+	/**
+	 * Creates a request for the page the given token points to.
+	 *
+	 * @param page
+	 *            the zero based number of the page - only used for
+	 *            {@link #getOffset()} and top/first restrictions, the position is
+	 *            determined by the token
+	 * @param size
+	 *            the size of the page to be returned
+	 * @param continuationToken
+	 *            the token returned with the previous page, {@code null} for the
+	 *            first page
+	 * @return the request
+	 */
+	public static KeysetPageRequest of(int page, int size, @Nullable String continuationToken) {
+		return new KeysetPageRequest(page, size, Sort.unsorted(), continuationToken);
+	}
+
+	/**
+	 * @return the token to continue with, {@code null} for the first page
+	 */
+	@Nullable
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	/**
+	 * @param continuationToken
+	 *            the token returned with this page
+	 * @return the request for the page following this one
+	 */
+	public KeysetPageRequest next(String continuationToken) {
+		Assert.notNull(continuationToken, "continuationToken must not be null!");
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), sort, continuationToken);
+	}
+
+	@Override
+	public Sort getSort() {
+		return sort;
+	}
+
+	@Override
+	public Pageable next() {
+		throw new UnsupportedOperationException(
+				"The continuation token of the next page is only known after this page has been read - use nextPageable() of the returned slice");
+	}
+
+	@Override
+	public Pageable previous() {
+		throw new UnsupportedOperationException("Continuation tokens only allow to move forward");
+	}
+
+	@Override
+	public Pageable first() {
+		return new KeysetPageRequest(0, getPageSize(), sort, null);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetPageRequest)) {
+			return false;
+		}
+
+		KeysetPageRequest that = (KeysetPageRequest) obj;
+
+		return super.equals(that) && this.sort.equals(that.sort)
+				&& Objects.equals(this.continuationToken, that.continuationToken);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * super.hashCode() + sort.hashCode()) + Objects.hashCode(continuationToken);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Keyset page request [number: %d, size %d, sort: %s, token: %s]", getPageNumber(),
+				getPageSize(), sort, continuationToken);
+	}
+}
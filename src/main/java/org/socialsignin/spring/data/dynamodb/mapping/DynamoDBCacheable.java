@@ -0,0 +1,55 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks an entity type whose items are cached by
+ * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate} once
+ * loaded by key, e.g. reference data that rarely changes. Saves and deletes
+ * through the template invalidate the cached item.
+ *
+ * @see org.socialsignin.spring.data.dynamodb.core.EntityCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+@Inherited
+@Documented
+public @interface DynamoDBCacheable {
+
+	/**
+	 * @return how long a loaded item is served from the cache
+	 */
+	long ttl() default 60;
+
+	/**
+	 * @return the unit of {@link #ttl()}
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * @return the maximum number of items of this type's table that are cached -
+	 *         the least recently used items are evicted first
+	 */
+	int maxSize() default 1000;
+}
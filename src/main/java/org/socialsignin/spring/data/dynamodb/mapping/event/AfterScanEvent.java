@@ -18,6 +18,10 @@ package org.socialsignin.spring.data.dynamodb.mapping.event;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
 
 /**
+ * Published for the results of a (parallel) scan as they are iterated - one
+ * event per result, whose source is a list holding just that result, so that
+ * listeners never load more pages than the consumer of the scan.
+ *
  * @author Michael Lavelle
  * @author Sebastian Just
  */
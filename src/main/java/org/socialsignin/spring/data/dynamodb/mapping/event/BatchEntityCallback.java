@@ -0,0 +1,67 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.mapping.event;
+
+import java.util.List;
+
+/**
+ * Callback invoked once per batch operation with all entities of its domain
+ * type, instead of once per entity like the {@link DynamoDBMappingEvent}s.
+ * Implementations are picked up as beans and matched to the entities by the
+ * type argument {@code T}. Entity types without a matching callback are not
+ * processed at all.
+ *
+ * @param <T>
+ *            the domain type the callback applies to
+ */
+public interface BatchEntityCallback<T> {
+
+	/**
+	 * Invoked before the entities are written by a batch save.
+	 *
+	 * @param entities
+	 *            the entities of the domain type - never empty
+	 */
+	default void beforeBatchSave(List<T> entities) {
+	}
+
+	/**
+	 * Invoked after the entities were written by a batch save.
+	 *
+	 * @param entities
+	 *            the entities of the domain type - never empty
+	 */
+	default void afterBatchSave(List<T> entities) {
+	}
+
+	/**
+	 * Invoked before the entities are deleted by a batch delete.
+	 *
+	 * @param entities
+	 *            the entities of the domain type - never empty
+	 */
+	default void beforeBatchDelete(List<T> entities) {
+	}
+
+	/**
+	 * Invoked after the entities were deleted by a batch delete.
+	 *
+	 * @param entities
+	 *            the entities of the domain type - never empty
+	 */
+	default void afterBatchDelete(List<T> entities) {
+	}
+}
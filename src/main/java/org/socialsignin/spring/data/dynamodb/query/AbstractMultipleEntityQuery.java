@@ -15,10 +15,12 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 
@@ -33,7 +35,33 @@ public abstract class AbstractMultipleEntityQuery<T> extends AbstractDynamicQuer
 
 	@Override
 	public T getSingleResult() {
-		List<T> results = getResultList();
+		return singleResult(getResultList());
+	}
+
+	/**
+	 * Without a filter every evaluated item matches, so a single page limited to
+	 * one item answers the question. A filter is applied after the limit, so
+	 * filtered queries read whole pages until one contains a match.
+	 */
+	@Override
+	public boolean exists() {
+		if (isFiltered()) {
+			return Query.super.exists();
+		}
+		return !getResultPage(null, 1).getResults().isEmpty();
+	}
+
+	@Override
+	public boolean isFiltered() {
+		return true;
+	}
+
+	@Override
+	public CompletableFuture<T> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return getResultListAsync(asyncDynamoDBOperations).thenApply(this::singleResult);
+	}
+
+	private T singleResult(List<T> results) {
 		if (results.size() > 1) {
 			throw new IncorrectResultSizeDataAccessException("result returns more than one elements", 1,
 					results.size());
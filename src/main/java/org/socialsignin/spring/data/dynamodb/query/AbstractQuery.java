@@ -26,6 +26,7 @@ public abstract class AbstractQuery<T> implements Query<T> {
 
 	protected boolean scanEnabled = false;
 	protected boolean scanCountEnabled = false;
+	protected int scanParallelism = 1;
 
 	@Override
 	public boolean isScanCountEnabled() {
@@ -47,4 +48,14 @@ public abstract class AbstractQuery<T> implements Query<T> {
 		return scanEnabled;
 	}
 
+	@Override
+	public void setScanParallelism(int scanParallelism) {
+		this.scanParallelism = scanParallelism;
+	}
+
+	@Override
+	public int getScanParallelism() {
+		return scanParallelism;
+	}
+
 }
@@ -15,10 +15,12 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class AbstractSingleEntityQuery<T> extends AbstractDynamicQuery<T> implements Query<T> {
 
@@ -30,4 +32,9 @@ public abstract class AbstractSingleEntityQuery<T> extends AbstractDynamicQuery<
 	public List<T> getResultList() {
 		return Arrays.asList(getSingleResult());
 	}
+
+	@Override
+	public CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return getSingleResultAsync(asyncDynamoDBOperations).thenApply(Arrays::asList);
+	}
 }
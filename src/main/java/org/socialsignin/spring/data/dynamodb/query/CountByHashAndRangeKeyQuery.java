@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -37,7 +40,11 @@ public class CountByHashAndRangeKeyQuery<T> extends AbstractSingleEntityQuery<Lo
 
 	@Override
 	public Long getSingleResult() {
-		return dynamoDBOperations.load(entityClass, hashKey, rangeKey) == null ? 0l : 1l;
+		return dynamoDBOperations.exists(entityClass, hashKey, rangeKey) ? 1l : 0l;
 	}
 
+	@Override
+	public CompletableFuture<Long> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.exists(entityClass, hashKey, rangeKey).thenApply(exists -> exists ? 1l : 0l);
+	}
 }
@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -34,7 +37,11 @@ public class CountByHashKeyQuery<T> extends AbstractSingleEntityQuery<Long> impl
 
 	@Override
 	public Long getSingleResult() {
-		return dynamoDBOperations.load(entityClass, hashKey) == null ? 0l : 1l;
+		return dynamoDBOperations.exists(entityClass, hashKey, null) ? 1l : 0l;
 	}
 
+	@Override
+	public CompletableFuture<Long> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.exists(entityClass, hashKey, null).thenApply(exists -> exists ? 1l : 0l);
+	}
 }
@@ -0,0 +1,66 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the entities for a known set of keys with BatchGetItem requests, e.g.
+ * for an {@code IN} condition on the hash key.
+ */
+public class MultipleEntityBatchLoadQuery<T> extends AbstractMultipleEntityQuery<T> {
+
+	private final List<KeyPair> keyPairs;
+	@Nullable
+	private final DynamoDBMapperConfig.ConsistentReads consistentReads;
+
+	public MultipleEntityBatchLoadQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			List<KeyPair> keyPairs) {
+		this(dynamoDBOperations, clazz, keyPairs, null);
+	}
+
+	public MultipleEntityBatchLoadQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			List<KeyPair> keyPairs, @Nullable DynamoDBMapperConfig.ConsistentReads consistentReads) {
+		super(dynamoDBOperations, clazz);
+		this.keyPairs = keyPairs;
+		this.consistentReads = consistentReads;
+	}
+
+	@Override
+	public List<T> getResultList() {
+		if (keyPairs.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return dynamoDBOperations.batchLoad(Collections.singletonMap(clazz, keyPairs), consistentReads);
+	}
+
+	@Override
+	public CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		if (keyPairs.isEmpty()) {
+			return CompletableFuture.completedFuture(new ArrayList<>());
+		}
+		return asyncDynamoDBOperations.batchLoad(Collections.singletonMap(clazz, keyPairs), consistentReads);
+	}
+}
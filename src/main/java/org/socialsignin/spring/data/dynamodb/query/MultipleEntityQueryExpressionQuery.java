@@ -16,9 +16,14 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Michael Lavelle
@@ -27,11 +32,13 @@ import java.util.List;
 public class MultipleEntityQueryExpressionQuery<T> extends AbstractMultipleEntityQuery<T> {
 
 	private DynamoDBQueryExpression<T> queryExpression;
+	private final Integer queryLimit;
 
 	public MultipleEntityQueryExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
 			DynamoDBQueryExpression<T> queryExpression) {
 		super(dynamoDBOperations, clazz);
 		this.queryExpression = queryExpression;
+		this.queryLimit = queryExpression.getLimit();
 	}
 
 	@Override
@@ -39,4 +46,50 @@ public class MultipleEntityQueryExpressionQuery<T> extends AbstractMultipleEntit
 		return dynamoDBOperations.query(clazz, queryExpression);
 	}
 
+	@Override
+	public ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey) {
+		// Pages are fetched one after the other, so re-using the expression is safe
+		queryExpression.setExclusiveStartKey(exclusiveStartKey);
+		QueryResultPage<T> page = dynamoDBOperations.queryPage(clazz, queryExpression);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
+	@Override
+	public ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		queryExpression.setLimit(queryLimit == null ? limit : Math.min(queryLimit, limit));
+		try {
+			return getResultPage(exclusiveStartKey);
+		} finally {
+			queryExpression.setLimit(queryLimit);
+		}
+	}
+
+	@Override
+	public boolean isFiltered() {
+		return queryExpression.getFilterExpression() != null
+				|| (queryExpression.getQueryFilter() != null && !queryExpression.getQueryFilter().isEmpty());
+	}
+
+	@Override
+	public CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.query(clazz, queryExpression);
+	}
+
+	@Override
+	public CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey) {
+		// Pages are fetched one after the other, so re-using the expression is safe
+		queryExpression.setExclusiveStartKey(exclusiveStartKey);
+		return asyncDynamoDBOperations.queryPage(clazz, queryExpression)
+				.thenApply(page -> new ResultPage<>(page.getResults(), page.getLastEvaluatedKey()));
+	}
+
+	@Override
+	public CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		// The expression may be read after the call returned, so the limit is not
+		// reset - every page sets its own one
+		queryExpression.setLimit(queryLimit == null ? limit : Math.min(queryLimit, limit));
+		return getResultPageAsync(asyncDynamoDBOperations, exclusiveStartKey);
+	}
 }
@@ -0,0 +1,62 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs one Query per hash key and concatenates the results, e.g. for an
+ * {@code IN} condition on the hash key of a table with a range key.
+ */
+public class MultipleEntityQueryExpressionsQuery<T> extends AbstractMultipleEntityQuery<T> {
+
+	private final List<DynamoDBQueryExpression<T>> queryExpressions;
+
+	public MultipleEntityQueryExpressionsQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			List<DynamoDBQueryExpression<T>> queryExpressions) {
+		super(dynamoDBOperations, clazz);
+		this.queryExpressions = queryExpressions;
+	}
+
+	@Override
+	public List<T> getResultList() {
+		if (queryExpressions.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return dynamoDBOperations.batchQuery(clazz, queryExpressions);
+	}
+
+	@Override
+	public CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		List<CompletableFuture<List<T>>> queries = new ArrayList<>(queryExpressions.size());
+		for (DynamoDBQueryExpression<T> queryExpression : queryExpressions) {
+			queries.add(asyncDynamoDBOperations.query(clazz, queryExpression));
+		}
+		return CompletableFuture.allOf(queries.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+			List<T> results = new ArrayList<>();
+			for (CompletableFuture<List<T>> query : queries) {
+				results.addAll(query.join());
+			}
+			return results;
+		});
+	}
+}
@@ -15,10 +15,15 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQuery<T> {
 
@@ -38,4 +43,53 @@ public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQu
 		return dynamoDBOperations.query(clazz, queryRequest);
 	}
 
+	@Override
+	public ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey) {
+		QueryRequest pageRequest = queryRequest.clone().withExclusiveStartKey(exclusiveStartKey);
+		return toResultPage(dynamoDBOperations.queryPage(clazz, pageRequest));
+	}
+
+	@Override
+	public ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		Integer queryLimit = queryRequest.getLimit();
+		QueryRequest pageRequest = queryRequest.clone().withExclusiveStartKey(exclusiveStartKey)
+				.withLimit(queryLimit == null ? limit : Math.min(queryLimit, limit));
+		return toResultPage(dynamoDBOperations.queryPage(clazz, pageRequest));
+	}
+
+	@Override
+	public boolean isFiltered() {
+		return queryRequest.getFilterExpression() != null
+				|| (queryRequest.getQueryFilter() != null && !queryRequest.getQueryFilter().isEmpty());
+	}
+
+	@Override
+	public CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.query(clazz, queryRequest);
+	}
+
+	@Override
+	public CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey) {
+		QueryRequest pageRequest = queryRequest.clone().withExclusiveStartKey(exclusiveStartKey);
+		return asyncDynamoDBOperations.queryPage(clazz, pageRequest).thenApply(this::toResultPage);
+	}
+
+	@Override
+	public CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		Integer queryLimit = queryRequest.getLimit();
+		QueryRequest pageRequest = queryRequest.clone().withExclusiveStartKey(exclusiveStartKey)
+				.withLimit(queryLimit == null ? limit : Math.min(queryLimit, limit));
+		return asyncDynamoDBOperations.queryPage(clazz, pageRequest).thenApply(this::toResultPage);
+	}
+
+	private ResultPage<T> toResultPage(QueryResultPage<T> page) {
+		// If a limit is set, do not continue after the first page - this mirrors
+		// DynamoDBTemplate#query(Class, QueryRequest)
+		if (queryRequest.getLimit() != null) {
+			return new ResultPage<>(page.getResults(), null);
+		}
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
 }
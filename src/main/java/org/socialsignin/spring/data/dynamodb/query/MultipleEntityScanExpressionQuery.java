@@ -16,27 +16,87 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.util.Assert;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class MultipleEntityScanExpressionQuery<T> extends AbstractMultipleEntityQuery<T> {
 
 	private DynamoDBScanExpression scanExpression;
+	private final Integer scanLimit;
 
 	public MultipleEntityScanExpressionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
 			DynamoDBScanExpression scanExpression) {
 		super(dynamoDBOperations, clazz);
 		this.scanExpression = scanExpression;
+		this.scanLimit = scanExpression.getLimit();
 	}
 
 	@Override
 	public List<T> getResultList() {
 		assertScanEnabled(isScanEnabled());
+		if (scanParallelism > 1) {
+			return dynamoDBOperations.parallelScan(clazz, scanExpression, scanParallelism);
+		}
 		return dynamoDBOperations.scan(clazz, scanExpression);
 	}
 
+	@Override
+	public ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey) {
+		assertScanEnabled(isScanEnabled());
+		// Pages are fetched one after the other, so re-using the expression is safe
+		scanExpression.setExclusiveStartKey(exclusiveStartKey);
+		ScanResultPage<T> page = dynamoDBOperations.scanPage(clazz, scanExpression);
+		return new ResultPage<>(page.getResults(), page.getLastEvaluatedKey());
+	}
+
+	@Override
+	public ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		scanExpression.setLimit(scanLimit == null ? limit : Math.min(scanLimit, limit));
+		try {
+			return getResultPage(exclusiveStartKey);
+		} finally {
+			scanExpression.setLimit(scanLimit);
+		}
+	}
+
+	@Override
+	public boolean isFiltered() {
+		return scanExpression.getFilterExpression() != null
+				|| (scanExpression.getScanFilter() != null && !scanExpression.getScanFilter().isEmpty());
+	}
+
+	@Override
+	public CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		assertScanEnabled(isScanEnabled());
+		return asyncDynamoDBOperations.scan(clazz, scanExpression);
+	}
+
+	@Override
+	public CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey) {
+		assertScanEnabled(isScanEnabled());
+		// Pages are fetched one after the other, so re-using the expression is safe
+		scanExpression.setExclusiveStartKey(exclusiveStartKey);
+		return asyncDynamoDBOperations.scanPage(clazz, scanExpression)
+				.thenApply(page -> new ResultPage<>(page.getResults(), page.getLastEvaluatedKey()));
+	}
+
+	@Override
+	public CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		// The expression may be read after the call returned, so the limit is not
+		// reset - every page sets its own one
+		scanExpression.setLimit(scanLimit == null ? limit : Math.min(scanLimit, limit));
+		return getResultPageAsync(asyncDynamoDBOperations, exclusiveStartKey);
+	}
+
 	public void assertScanEnabled(boolean scanEnabled) {
 		Assert.isTrue(scanEnabled, "Scanning for this query is not enabled.  "
 				+ "To enable annotate your repository method with @EnableScan, or "
@@ -0,0 +1,88 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the queries of all branches of a query method combining its conditions
+ * with {@code Or} and merges their results. Items matching more than one
+ * branch are returned only once.
+ */
+public class MultipleEntityUnionQuery<T> extends AbstractMultipleEntityQuery<T> {
+
+	private final DynamoDBMapperTableModel<T> tableModel;
+	private final List<Query<T>> queries;
+
+	public MultipleEntityUnionQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			DynamoDBMapperTableModel<T> tableModel, List<Query<T>> queries) {
+		super(dynamoDBOperations, clazz);
+		this.tableModel = tableModel;
+		this.queries = queries;
+	}
+
+	@Override
+	public List<T> getResultList() {
+		List<Supplier<List<T>>> reads = queries.stream()
+				.map(query -> (Supplier<List<T>>) () -> new ArrayList<>(query.getResultList()))
+				.collect(Collectors.toList());
+		return distinct(dynamoDBOperations.batchRead(reads));
+	}
+
+	@Override
+	public CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		List<CompletableFuture<List<T>>> reads = queries.stream()
+				.map(query -> query.getResultListAsync(asyncDynamoDBOperations)).collect(Collectors.toList());
+		return CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0]))
+				.thenApply(done -> distinct(reads.stream().map(CompletableFuture::join).collect(Collectors.toList())));
+	}
+
+	private List<T> distinct(List<List<T>> branchResults) {
+		Set<List<Object>> seen = new HashSet<>();
+		List<T> results = new ArrayList<>();
+		for (List<T> branchResult : branchResults) {
+			for (T entity : branchResult) {
+				// Loads by key report a missing item as null
+				if (entity == null) {
+					continue;
+				}
+				List<Object> key = getKey(entity);
+				// Entities projected without their key can not be told apart
+				if (key.get(0) == null || seen.add(key)) {
+					results.add(entity);
+				}
+			}
+		}
+		return results;
+	}
+
+	private List<Object> getKey(T entity) {
+		DynamoDBMapperFieldModel<T, Object> rangeKey = tableModel.rangeKeyIfExists();
+		return Arrays.asList(tableModel.hashKey().get(entity), rangeKey == null ? null : rangeKey.get(entity));
+	}
+}
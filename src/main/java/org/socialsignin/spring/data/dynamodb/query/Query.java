@@ -15,7 +15,12 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface Query<T> {
 
@@ -36,9 +41,142 @@ public interface Query<T> {
 	 */
 	T getSingleResult();
 
+	/**
+	 * Execute a SELECT query and fetch only a single page of results. Queries that
+	 * are not backed by a paginated DynamoDB operation return all results as one
+	 * page.
+	 *
+	 * @param exclusiveStartKey
+	 *            the key to continue with, {@code null} for the first page
+	 * @return the page of results
+	 */
+	default ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey) {
+		return new ResultPage<>(getResultList(), null);
+	}
+
+	/**
+	 * Execute a SELECT query and fetch only a single page of at most
+	 * {@code limit} evaluated items, so the returned
+	 * {@link ResultPage#getLastEvaluatedKey()} points exactly behind the last
+	 * returned item. Queries that are not backed by a paginated DynamoDB
+	 * operation ignore the limit and return all results as one page.
+	 *
+	 * @param exclusiveStartKey
+	 *            the key to continue with, {@code null} for the first page
+	 * @param limit
+	 *            the maximum number of items to evaluate
+	 * @return the page of results
+	 */
+	default ResultPage<T> getResultPage(Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		return getResultPage(exclusiveStartKey);
+	}
+
+	/**
+	 * Whether the items read are filtered by conditions on non-key attributes.
+	 * DynamoDB applies the limit of a request before the filter, so a limited
+	 * request of a filtered query may return fewer items than the limit although
+	 * more items match.
+	 *
+	 * @return {@code true} if items are filtered after they are read
+	 */
+	default boolean isFiltered() {
+		return false;
+	}
+
+	/**
+	 * Execute a SELECT query only to find out whether it matches any item. Pages
+	 * are requested only while no matching item has been found.
+	 *
+	 * @return {@code true} if at least one item matches
+	 */
+	default boolean exists() {
+		ResultPage<T> page = getResultPage(null);
+		while (page.getResults().isEmpty() && !page.isLastPage()) {
+			page = getResultPage(page.getLastEvaluatedKey());
+		}
+		return !page.getResults().isEmpty();
+	}
+
+	/**
+	 * Execute a SELECT query only to find out whether it matches any item without
+	 * blocking the calling thread.
+	 *
+	 * @param asyncDynamoDBOperations
+	 *            the operations used to talk to DynamoDB
+	 * @return a future completed with {@code true} if at least one item matches
+	 */
+	default CompletableFuture<Boolean> existsAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return getResultListAsync(asyncDynamoDBOperations).thenApply(results -> !results.isEmpty());
+	}
+
+	/**
+	 * Execute a SELECT query without blocking the calling thread.
+	 *
+	 * @param asyncDynamoDBOperations
+	 *            the operations used to talk to DynamoDB
+	 * @return a future completed with the list of the results
+	 */
+	default CompletableFuture<List<T>> getResultListAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return CompletableFuture.completedFuture(getResultList());
+	}
+
+	/**
+	 * Execute a SELECT query that returns a single result without blocking the
+	 * calling thread.
+	 *
+	 * @param asyncDynamoDBOperations
+	 *            the operations used to talk to DynamoDB
+	 * @return a future completed with the result
+	 */
+	default CompletableFuture<T> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return CompletableFuture.completedFuture(getSingleResult());
+	}
+
+	/**
+	 * Execute a SELECT query and fetch only a single page of results without
+	 * blocking the calling thread. Queries that are not backed by a paginated
+	 * DynamoDB operation return all results as one page.
+	 *
+	 * @param asyncDynamoDBOperations
+	 *            the operations used to talk to DynamoDB
+	 * @param exclusiveStartKey
+	 *            the key to continue with, {@code null} for the first page
+	 * @return a future completed with the page of results
+	 */
+	default CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey) {
+		return getResultListAsync(asyncDynamoDBOperations).thenApply(results -> new ResultPage<>(results, null));
+	}
+
+	/**
+	 * Execute a SELECT query and fetch only a single page of at most
+	 * {@code limit} evaluated items without blocking the calling thread - see
+	 * {@link #getResultPage(Map, int)}.
+	 *
+	 * @param asyncDynamoDBOperations
+	 *            the operations used to talk to DynamoDB
+	 * @param exclusiveStartKey
+	 *            the key to continue with, {@code null} for the first page
+	 * @param limit
+	 *            the maximum number of items to evaluate
+	 * @return a future completed with the page of results
+	 */
+	default CompletableFuture<ResultPage<T>> getResultPageAsync(AsyncDynamoDBOperations asyncDynamoDBOperations,
+			Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		return getResultPageAsync(asyncDynamoDBOperations, exclusiveStartKey);
+	}
+
 	void setScanEnabled(boolean scanEnabled);
 	void setScanCountEnabled(boolean scanCountEnabled);
 	boolean isScanCountEnabled();
 	boolean isScanEnabled();
 
+	/**
+	 * @param scanParallelism
+	 *            the number of segments a scan backing this query is split into -
+	 *            values below {@code 2} scan sequentially
+	 */
+	void setScanParallelism(int scanParallelism);
+	int getScanParallelism();
+
 }
@@ -16,8 +16,11 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -39,4 +42,8 @@ public class QueryExpressionCountQuery<T> extends AbstractSingleEntityQuery<Long
 		return Long.valueOf(dynamoDBOperations.count(domainClass, queryExpression));
 	}
 
+	@Override
+	public CompletableFuture<Long> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.count(domainClass, queryExpression).thenApply(Long::valueOf);
+	}
 }
@@ -16,8 +16,11 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.concurrent.CompletableFuture;
+
 public class QueryRequestCountQuery extends AbstractSingleEntityQuery<Long> {
 
 	private final DynamoDBOperations dynamoDBOperations;
@@ -35,4 +38,8 @@ public class QueryRequestCountQuery extends AbstractSingleEntityQuery<Long> {
 		return Long.valueOf(dynamoDBOperations.count(clazz, queryRequest));
 	}
 
+	@Override
+	public CompletableFuture<Long> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.count(clazz, queryRequest).thenApply(Long::valueOf);
+	}
 }
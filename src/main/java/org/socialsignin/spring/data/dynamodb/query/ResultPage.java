@@ -0,0 +1,59 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single page of results as returned by one DynamoDB Query or Scan call,
+ * regardless of whether it originates from a
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage} or a
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage}.
+ *
+ * @param <T>
+ *            the type of the results
+ */
+public class ResultPage<T> {
+
+	private final List<T> results;
+	private final Map<String, AttributeValue> lastEvaluatedKey;
+
+	public ResultPage(List<T> results, @Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+		this.results = results == null ? Collections.emptyList() : results;
+		this.lastEvaluatedKey = lastEvaluatedKey;
+	}
+
+	public List<T> getResults() {
+		return results;
+	}
+
+	/**
+	 * @return the key to continue with, {@code null} if this is the last page
+	 */
+	@Nullable
+	public Map<String, AttributeValue> getLastEvaluatedKey() {
+		return lastEvaluatedKey;
+	}
+
+	public boolean isLastPage() {
+		return lastEvaluatedKey == null;
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Turns a paginated DynamoDB Query or Scan into a {@link Flux} with page-level
+ * backpressure: a page is only requested from DynamoDB once all items of the
+ * previous page have been emitted and downstream signalled further demand.
+ * Nothing is fetched before the first request and no page is fetched after
+ * cancellation, so at most one page is held in memory per subscription.
+ *
+ * This class is only loaded if Project Reactor is on the classpath.
+ */
+public final class ResultPageFlux {
+
+	private ResultPageFlux() {
+	}
+
+	/**
+	 * @param <T>
+	 *            the type of the items
+	 * @param pageFetcher
+	 *            fetches the page starting at the given exclusive start key -
+	 *            {@code null} for the first page
+	 * @return a cold {@link Flux} of all items of all pages
+	 */
+	public static <T> Flux<T> from(
+			Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<T>>> pageFetcher) {
+		return Flux.create(sink -> {
+			PageEmitter<T> emitter = new PageEmitter<>(pageFetcher, sink);
+			sink.onRequest(n -> emitter.drain());
+		});
+	}
+
+	private static final class PageEmitter<T> {
+		private final Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<T>>> pageFetcher;
+		private final FluxSink<T> sink;
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private Iterator<T> current = Collections.emptyIterator();
+		private Map<String, AttributeValue> lastEvaluatedKey;
+		private boolean firstPageFetched;
+		private volatile boolean fetching;
+		private boolean done;
+
+		PageEmitter(Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<T>>> pageFetcher,
+				FluxSink<T> sink) {
+			this.pageFetcher = pageFetcher;
+			this.sink = sink;
+		}
+
+		void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				emit();
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void emit() {
+			if (done || fetching || sink.isCancelled()) {
+				return;
+			}
+			while (sink.requestedFromDownstream() > 0 && current.hasNext()) {
+				sink.next(current.next());
+			}
+			if (current.hasNext()) {
+				return;
+			}
+			if (firstPageFetched && lastEvaluatedKey == null) {
+				done = true;
+				sink.complete();
+				return;
+			}
+			if (sink.requestedFromDownstream() == 0) {
+				return;
+			}
+
+			fetching = true;
+			CompletableFuture<ResultPage<T>> nextPage;
+			try {
+				nextPage = pageFetcher.apply(lastEvaluatedKey);
+			} catch (RuntimeException e) {
+				done = true;
+				sink.error(e);
+				return;
+			}
+			nextPage.whenComplete((page, error) -> {
+				if (error != null) {
+					done = true;
+					sink.error(error instanceof CompletionException && error.getCause() != null
+							? error.getCause()
+							: error);
+				} else {
+					current = page.getResults().iterator();
+					lastEvaluatedKey = page.getLastEvaluatedKey();
+					firstPageFetched = true;
+				}
+				fetching = false;
+				drain();
+			});
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterates over all items of a paginated DynamoDB Query or Scan. A page is
+ * only fetched once all items of the previous page have been consumed and only
+ * the current page is referenced, so - like
+ * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}
+ * - consumed pages can be garbage collected. No page is fetched after
+ * {@link #close()}.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class ResultPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+	private final Function<Map<String, AttributeValue>, ResultPage<T>> pageFetcher;
+
+	private Iterator<T> current = Collections.emptyIterator();
+	private Map<String, AttributeValue> lastEvaluatedKey;
+	private boolean firstPageFetched;
+	private volatile boolean closed;
+
+	/**
+	 * @param pageFetcher
+	 *            fetches the page starting at the given exclusive start key -
+	 *            {@code null} for the first page
+	 */
+	public ResultPageIterator(Function<Map<String, AttributeValue>, ResultPage<T>> pageFetcher) {
+		this.pageFetcher = pageFetcher;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!closed && !current.hasNext()) {
+			if (firstPageFetched && lastEvaluatedKey == null) {
+				return false;
+			}
+			ResultPage<T> page = pageFetcher.apply(lastEvaluatedKey);
+			current = page.getResults().iterator();
+			lastEvaluatedKey = page.getLastEvaluatedKey();
+			firstPageFetched = true;
+		}
+		return !closed;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return current.next();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		current = Collections.emptyIterator();
+	}
+}
@@ -16,9 +16,12 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.util.Assert;
 
+import java.util.concurrent.CompletableFuture;
+
 public class ScanExpressionCountQuery<T> extends AbstractSingleEntityQuery<Long> implements Query<Long> {
 
 	private DynamoDBScanExpression scanExpression;
@@ -38,9 +41,18 @@ public class ScanExpressionCountQuery<T> extends AbstractSingleEntityQuery<Long>
 	@Override
 	public Long getSingleResult() {
 		assertScanCountEnabled(isScanCountEnabled());
+		if (scanParallelism > 1) {
+			return Long.valueOf(dynamoDBOperations.count(domainClass, scanExpression, scanParallelism));
+		}
 		return Long.valueOf(dynamoDBOperations.count(domainClass, scanExpression));
 	}
 
+	@Override
+	public CompletableFuture<Long> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		assertScanCountEnabled(isScanCountEnabled());
+		return asyncDynamoDBOperations.count(domainClass, scanExpression).thenApply(Long::valueOf);
+	}
+
 	public void assertScanCountEnabled(boolean scanCountEnabled) {
 		if (pageQuery) {
 			Assert.isTrue(scanCountEnabled, "Scanning for the total counts for this query is not enabled.  "
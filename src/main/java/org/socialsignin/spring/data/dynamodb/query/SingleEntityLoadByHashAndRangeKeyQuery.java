@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -38,4 +41,18 @@ public class SingleEntityLoadByHashAndRangeKeyQuery<T> extends AbstractSingleEnt
 		return dynamoDBOperations.load(clazz, hashKey, rangeKey);
 	}
 
+	@Override
+	public boolean exists() {
+		return dynamoDBOperations.exists(clazz, hashKey, rangeKey);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> existsAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.exists(clazz, hashKey, rangeKey);
+	}
+
+	@Override
+	public CompletableFuture<T> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.load(clazz, hashKey, rangeKey);
+	}
 }
@@ -15,8 +15,11 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -35,4 +38,18 @@ public class SingleEntityLoadByHashKeyQuery<T> extends AbstractSingleEntityQuery
 		return dynamoDBOperations.load(clazz, hashKey);
 	}
 
+	@Override
+	public boolean exists() {
+		return dynamoDBOperations.exists(clazz, hashKey, null);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> existsAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.exists(clazz, hashKey, null);
+	}
+
+	@Override
+	public CompletableFuture<T> getSingleResultAsync(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.load(clazz, hashKey);
+	}
 }
@@ -18,6 +18,8 @@ package org.socialsignin.spring.data.dynamodb.repository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * DynamoDB specific extension of
  * {@link org.springframework.data.repository.Repository}.
@@ -28,4 +30,16 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface DynamoDBCrudRepository<T, ID> extends CrudRepository<T, ID> {
 
+	/**
+	 * Writes all entities buffered by a {@link WriteBehind} repository.
+	 *
+	 * @return a future that completes once all entities saved before this call
+	 *         are written - completes exceptionally with a
+	 *         {@link org.socialsignin.spring.data.dynamodb.exception.BatchWriteException}
+	 *         if some could not be written. Already completed if the repository
+	 *         is not annotated with {@link WriteBehind}.
+	 */
+	default CompletableFuture<Void> flush() {
+		return CompletableFuture.completedFuture(null);
+	}
 }
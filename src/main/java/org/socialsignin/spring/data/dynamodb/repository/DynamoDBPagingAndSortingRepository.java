@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository;
 
+import org.socialsignin.spring.data.dynamodb.domain.KeysetPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetSlice;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -28,4 +30,18 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 @NoRepositoryBean
 public interface DynamoDBPagingAndSortingRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
 
+	/**
+	 * Returns a slice of all entities by continuing the scan at the continuation
+	 * token of the given request instead of reading and skipping the items of
+	 * the previous pages. No count scan is issued - pass the request to
+	 * {@link #findAll(org.springframework.data.domain.Pageable)} if the total is
+	 * required.
+	 *
+	 * @param pageable
+	 *            the page size and the continuation token returned with the
+	 *            previous slice
+	 * @return the slice of entities together with the token of the following
+	 *         slice
+	 */
+	KeysetSlice<T> findAll(KeysetPageRequest pageable);
 }
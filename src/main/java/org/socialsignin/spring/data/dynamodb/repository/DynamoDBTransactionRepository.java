@@ -0,0 +1,53 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+/**
+ * Opt-in extension of {@link DynamoDBCrudRepository} for DynamoDB
+ * transactions. Repository interfaces extend it instead of
+ * {@link DynamoDBCrudRepository} to expose the transactional reads and writes.
+ */
+@NoRepositoryBean
+public interface DynamoDBTransactionRepository<T, ID> extends DynamoDBCrudRepository<T, ID> {
+
+	/**
+	 * Executes the given operations - which may span several entity types - as
+	 * one all-or-nothing TransactWriteItems request.
+	 *
+	 * @param transactionWriteRequest
+	 *            the puts, updates, deletes and condition checks to execute
+	 * @see org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations#transactWrite(TransactionWriteRequest)
+	 */
+	void transactWrite(TransactionWriteRequest transactionWriteRequest);
+
+	/**
+	 * Loads the given items - which may span several entity types - as one
+	 * TransactGetItems request.
+	 *
+	 * @param transactionLoadRequest
+	 *            the items to load
+	 * @return the entities in the order of the request - {@code null} for items
+	 *         that do not exist
+	 * @see org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations#transactGet(TransactionLoadRequest)
+	 */
+	List<Object> transactGet(TransactionLoadRequest transactionLoadRequest);
+}
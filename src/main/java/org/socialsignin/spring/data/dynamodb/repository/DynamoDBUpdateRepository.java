@@ -0,0 +1,92 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Opt-in extension of {@link DynamoDBCrudRepository} for UpdateItem requests
+ * that write single properties instead of replacing the whole item, including
+ * atomic counters and list and set additions.
+ * Repository interfaces extend it instead of {@link DynamoDBCrudRepository} to
+ * expose these updates.
+ */
+@NoRepositoryBean
+public interface DynamoDBUpdateRepository<T, ID> extends DynamoDBCrudRepository<T, ID> {
+
+	/**
+	 * Writes only the given properties of the entity with an UpdateItem request
+	 * instead of replacing the whole item, which consumes write capacity
+	 * according to the size of the whole item. Properties set to {@code null}
+	 * are removed from the item. Optimistic locking via
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBVersionAttribute}
+	 * applies just like for {@link #save(Object)}.
+	 *
+	 * @param entity
+	 *            the entity to update
+	 * @param propertyNames
+	 *            the names of the changed properties - must not contain the id
+	 * @return the updated entity
+	 * @see org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations#update(Object,
+	 *      java.util.Collection)
+	 */
+	<S extends T> S update(S entity, String... propertyNames);
+
+	/**
+	 * Atomically adds {@code delta} to a number property of the entity with the
+	 * given id - with a single UpdateItem request and without reading the entity
+	 * first. A missing entity or property is treated as {@code 0}.
+	 *
+	 * @param id
+	 *            the id of the entity
+	 * @param propertyName
+	 *            the name of the counter property
+	 * @param delta
+	 *            the value to add - negative to decrement
+	 * @return the new value of the property
+	 */
+	Number increment(ID id, String propertyName, Number delta);
+
+	/**
+	 * Atomically appends the values to a list property of the entity with the
+	 * given id - with a single UpdateItem request and without reading the entity
+	 * first.
+	 *
+	 * @param id
+	 *            the id of the entity
+	 * @param propertyName
+	 *            the name of the list property
+	 * @param values
+	 *            the values to append
+	 */
+	void appendToList(ID id, String propertyName, List<?> values);
+
+	/**
+	 * Atomically adds the values to a set property of the entity with the given
+	 * id - with a single UpdateItem request and without reading the entity first.
+	 *
+	 * @param id
+	 *            the id of the entity
+	 * @param propertyName
+	 *            the name of the set property
+	 * @param values
+	 *            the values to add
+	 */
+	void addToSet(ID id, String propertyName, Set<?> values);
+}
@@ -30,4 +30,11 @@ import java.lang.annotation.Target;
 @Documented
 public @interface EnableScan {
 
+	/**
+	 * Number of segments a full table scan is split into. Values greater than
+	 * {@code 1} scan all segments in parallel.
+	 *
+	 * @return the number of parallel scan segments
+	 */
+	int parallelism() default 1;
 }
@@ -0,0 +1,46 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * DynamoDB specific extension of
+ * {@link org.springframework.data.repository.reactive.ReactiveCrudRepository}.
+ * Requires Project Reactor on the classpath and an
+ * {@link org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations}
+ * configured via
+ * {@link org.socialsignin.spring.data.dynamodb.repository.config.EnableDynamoDBRepositories#asyncDynamoDBOperationsRef()}.
+ */
+@NoRepositoryBean
+public interface ReactiveDynamoDBCrudRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+
+	/**
+	 * @see DynamoDBCrudRepository#transactWrite(TransactionWriteRequest)
+	 */
+	Mono<Void> transactWrite(TransactionWriteRequest transactionWriteRequest);
+
+	/**
+	 * @see DynamoDBCrudRepository#transactGet(TransactionLoadRequest)
+	 */
+	Mono<List<Object>> transactGet(TransactionLoadRequest transactionLoadRequest);
+}
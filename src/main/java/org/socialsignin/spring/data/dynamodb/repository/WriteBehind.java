@@ -0,0 +1,64 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables write-behind for {@code save(...)} and {@code saveAll(...)} of the
+ * annotated repository. Saved entities are buffered, repeated saves of the same
+ * key are coalesced (the last write wins) and the buffer is written as
+ * BatchWriteItem requests once {@link #maxBatch()} entities are pending or
+ * {@link #maxDelayMs()} elapsed. Repositories of the same entity type share
+ * one buffer per table.
+ *
+ * Entities with a {@code @DynamoDBAutoGeneratedKey} that is not yet generated
+ * are saved right away. Versioned entities can't be buffered, as
+ * BatchWriteItem requests ignore the {@code @DynamoDBVersionAttribute} - the
+ * repository creation fails for them.
+ *
+ * Entities still buffered are written when the application context is closed.
+ * {@link DynamoDBCrudRepository#flush()} writes them on demand and allows
+ * callers to wait for the write to finish. Entities that could not be written
+ * stay buffered and fail the flush; they are written with the next one.
+ * Changes to an entity after it was saved are not written.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface WriteBehind {
+
+	/**
+	 * @return the maximum time in milliseconds a saved entity stays in the buffer
+	 */
+	long maxDelayMs() default 100;
+
+	/**
+	 * @return the number of buffered entities that triggers a flush - at most
+	 *         {@code 25}, the limit of a single BatchWriteItem request
+	 */
+	int maxBatch() default 25;
+
+	/**
+	 * @return the maximum number of buffered entities. Once reached, the saving
+	 *         thread flushes the buffer itself before it continues.
+	 */
+	int capacity() default 10000;
+}
@@ -32,6 +32,7 @@ import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
 import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBRepositoryFactoryBean;
 import org.socialsignin.spring.data.dynamodb.repository.util.DynamoDBMappingContextProcessor;
 import org.socialsignin.spring.data.dynamodb.repository.util.Entity2DynamoDBTableSynchronizer;
@@ -43,6 +44,7 @@ import org.springframework.data.repository.config.AnnotationRepositoryConfigurat
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
@@ -61,6 +63,8 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 
 	private static final String DYNAMO_DB_OPERATIONS_REF = "dynamodb-operations-ref";
 
+	private static final String ASYNC_DYNAMO_DB_OPERATIONS_REF = "async-dynamodb-operations-ref";
+
 	private static final String AMAZON_DYNAMODB_REF = "amazon-dynamodb-ref";
 
 	private static final String MAPPING_CONTEXT_REF = "mapping-context-ref";
@@ -75,12 +79,26 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 
 	@Override
 	protected Collection<Class<?>> getIdentifyingTypes() {
-		List<Class<?>> types = new ArrayList<>(2);
+		List<Class<?>> types = new ArrayList<>(3);
 		types.add(DynamoDBPagingAndSortingRepository.class);
 		types.add(DynamoDBCrudRepository.class);
+		types.add(ReactiveDynamoDBCrudRepository.class);
 		return Collections.unmodifiableList(types);
 	}
 
+	/**
+	 * Reactive repositories are served by the same factory as the blocking ones,
+	 * see
+	 * {@link org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBRepositoryFactory}.
+	 * They are only picked up if they extend
+	 * {@link ReactiveDynamoDBCrudRepository} or manage a {@link DynamoDBTable}
+	 * entity, so reactive repositories of other stores are left alone.
+	 */
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return !metadata.isReactiveRepository() || isStrictRepositoryCandidate(metadata);
+	}
+
 	@Override
 	protected Collection<Class<? extends Annotation>> getIdentifyingAnnotations() {
 		return Collections.singleton(DynamoDBTable.class);
@@ -95,6 +113,11 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 		postProcess(builder, repositoryBeanName, attributes.getString("amazonDynamoDBRef"),
 				attributes.getString("dynamoDBMapperRef"), attributes.getString("dynamoDBMapperConfigRef"),
 				attributes.getString("dynamoDBOperationsRef"), attributes.getString("mappingContextRef"));
+
+		String asyncDynamoDBOperationsRef = attributes.getString("asyncDynamoDBOperationsRef");
+		if (StringUtils.hasText(asyncDynamoDBOperationsRef)) {
+			builder.addPropertyReference("asyncDynamoDBOperations", asyncDynamoDBOperationsRef);
+		}
 	}
 
 	/*
@@ -113,6 +136,7 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 		ParsingUtils.setPropertyReference(builder, element, AMAZON_DYNAMODB_REF, "amazonDynamoDB");
 		ParsingUtils.setPropertyReference(builder, element, DYNAMO_DB_MAPPER_CONFIG_REF, "dynamoDBMapperConfig");
 		ParsingUtils.setPropertyReference(builder, element, DYNAMO_DB_OPERATIONS_REF, "dynamoDBOperations");
+		ParsingUtils.setPropertyReference(builder, element, ASYNC_DYNAMO_DB_OPERATIONS_REF, "asyncDynamoDBOperations");
 
 		String dynamoDBMappingContextRef = element.getAttribute(MAPPING_CONTEXT_REF);
 
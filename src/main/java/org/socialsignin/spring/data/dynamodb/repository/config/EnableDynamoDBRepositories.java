@@ -168,6 +168,20 @@ public @interface EnableDynamoDBRepositories {
 	 */
 	String dynamoDBOperationsRef() default "";
 
+	/**
+	 * Returns the
+	 * {@link org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations}
+	 * reference used to execute query methods returning a
+	 * {@link java.util.concurrent.CompletableFuture} without blocking. If not set,
+	 * such query methods are executed blocking via the
+	 * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations}.
+	 *
+	 * @return The
+	 *         {@link org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations}
+	 *         bean name
+	 */
+	String asyncDynamoDBOperationsRef() default "";
+
 	/**
 	 * Returns the
 	 * {@link org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext}
@@ -16,11 +16,20 @@
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationToken;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetPage;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetSlice;
 import org.socialsignin.spring.data.dynamodb.domain.UnpagedPageImpl;
 import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.ResultPage;
+import org.socialsignin.spring.data.dynamodb.query.ResultPageIterator;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -30,11 +39,22 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Michael Lavelle
@@ -43,15 +63,41 @@ import java.util.List;
 public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, ExceptionHandler {
 
 	protected final DynamoDBOperations dynamoDBOperations;
+	protected final AsyncDynamoDBOperations asyncDynamoDBOperations;
 	private final DynamoDBQueryMethod<T, ID> method;
 
 	public AbstractDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
+		this(dynamoDBOperations, null, method);
+	}
+
+	/**
+	 * @param dynamoDBOperations
+	 *            the operations used for blocking query methods
+	 * @param asyncDynamoDBOperations
+	 *            the operations used for query methods returning a
+	 *            {@link java.util.concurrent.CompletableFuture} - can be
+	 *            {@code null}, in which case those methods are executed blocking
+	 *            as well
+	 * @param method
+	 *            the query method
+	 */
+	public AbstractDynamoDBQuery(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
 		this.method = method;
 	}
 
 	protected QueryExecution<T, ID> getExecution() {
-		if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
+		if (method.isReactiveQuery()) {
+			return new ReactiveExecution();
+		} else if (asyncDynamoDBOperations != null && method.isAsyncQuery()) {
+			return new AsyncExecution();
+		} else if (isDeleteQuery()) {
+			return new DeleteExecution();
+		} else if (method.isStreamQuery() && !isSingleEntityResultsRestriction()) {
+			return new StreamExecution();
+		} else if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
 			return new CollectionExecution();
 		} else if (method.isSliceQuery() && !isSingleEntityResultsRestriction()) {
 			return new SlicedExecution(method.getParameters());
@@ -61,8 +107,6 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			throw new UnsupportedOperationException("Modifying queries not yet supported");
 		} else if (isSingleEntityResultsRestriction()) {
 			return new SingleEntityLimitedExecution();
-		} else if (isDeleteQuery()) {
-			return new DeleteExecution();
 		} else {
 			return new SingleEntityExecution();
 		}
@@ -80,15 +124,156 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	protected Query<T> doCreateQueryWithPermissions(Object[] values) {
 		Query<T> query = doCreateQuery(values);
 		query.setScanEnabled(method.isScanEnabled());
+		query.setScanParallelism(method.getScanParallelism());
 		return query;
 	}
 
 	protected Query<Long> doCreateCountQueryWithPermissions(Object[] values, boolean pageQuery) {
 		Query<Long> query = doCreateCountQuery(values, pageQuery);
 		query.setScanCountEnabled(method.isScanCountEnabled());
+		query.setScanParallelism(method.getScanParallelism());
 		return query;
 	}
 
+	/**
+	 * Reads the page a {@link KeysetPageRequest} points to by continuing the
+	 * query at its continuation token.
+	 */
+	private ResultPage<T> readKeysetPage(Query<T> query, KeysetPageRequest pageable) {
+		ResultPage<T> page = readItems(query, ContinuationToken.decode(pageable.getContinuationToken()),
+				keysetItemsToRead(pageable), true);
+		return restrictKeysetPage(pageable, page);
+	}
+
+	private int keysetItemsToRead(KeysetPageRequest pageable) {
+		long toRead = pageable.getPageSize();
+		Integer resultsRestriction = getResultsRestrictionIfApplicable();
+		if (resultsRestriction != null) {
+			toRead = Math.max(0, Math.min(toRead, resultsRestriction - pageable.getOffset()));
+		}
+		return (int) toRead;
+	}
+
+	private ResultPage<T> restrictKeysetPage(KeysetPageRequest pageable, ResultPage<T> page) {
+		Integer resultsRestriction = getResultsRestrictionIfApplicable();
+		if (resultsRestriction != null && pageable.getOffset() + page.getResults().size() >= resultsRestriction) {
+			return new ResultPage<>(page.getResults(), null);
+		}
+		return page;
+	}
+
+	/**
+	 * Reads at most {@code toRead} items starting at the given key. Requests are
+	 * sent with a limit of the items still missing, so no more items than
+	 * required are read and the returned last evaluated key points exactly behind
+	 * the last returned item.
+	 *
+	 * A filter is applied after the limit, so filtered queries that do not need
+	 * an exact continuation double the limit with every request instead and trim
+	 * the surplus items.
+	 */
+	private ResultPage<T> readItems(Query<T> query, @Nullable Map<String, AttributeValue> exclusiveStartKey,
+			int toRead, boolean exactContinuation) {
+		boolean growLimit = !exactContinuation && query.isFiltered();
+		List<T> results = new ArrayList<>();
+		Map<String, AttributeValue> lastEvaluatedKey = exclusiveStartKey;
+		boolean firstPageFetched = false;
+		int limit = toRead;
+		while (results.size() < toRead && (!firstPageFetched || lastEvaluatedKey != null)) {
+			ResultPage<T> page = query.getResultPage(lastEvaluatedKey,
+					growLimit ? limit : toRead - results.size());
+			results.addAll(page.getResults());
+			lastEvaluatedKey = page.getLastEvaluatedKey();
+			firstPageFetched = true;
+			limit = (int) Math.min(2L * limit, Integer.MAX_VALUE);
+		}
+		return trimItems(results, toRead, firstPageFetched ? lastEvaluatedKey : null);
+	}
+
+	/**
+	 * Non-blocking counterpart of
+	 * {@link #readItems(Query, Map, int, boolean)}.
+	 */
+	private CompletableFuture<ResultPage<T>> readItemsAsync(Query<T> query,
+			@Nullable Map<String, AttributeValue> exclusiveStartKey, int toRead, boolean exactContinuation) {
+		if (toRead == 0) {
+			return CompletableFuture.completedFuture(new ResultPage<>(new ArrayList<>(), null));
+		}
+		int grownLimit = !exactContinuation && query.isFiltered() ? toRead : 0;
+		return readNextItemsAsync(query, exclusiveStartKey, toRead, grownLimit, new ArrayList<>());
+	}
+
+	private CompletableFuture<ResultPage<T>> readNextItemsAsync(Query<T> query,
+			@Nullable Map<String, AttributeValue> exclusiveStartKey, int toRead, int grownLimit, List<T> results) {
+		int limit = grownLimit > 0 ? grownLimit : toRead - results.size();
+		return query.getResultPageAsync(asyncDynamoDBOperations, exclusiveStartKey, limit).thenCompose(page -> {
+			results.addAll(page.getResults());
+			if (results.size() >= toRead || page.getLastEvaluatedKey() == null) {
+				return CompletableFuture.completedFuture(trimItems(results, toRead, page.getLastEvaluatedKey()));
+			}
+			return readNextItemsAsync(query, page.getLastEvaluatedKey(), toRead,
+					grownLimit > 0 ? (int) Math.min(2L * grownLimit, Integer.MAX_VALUE) : 0, results);
+		});
+	}
+
+	private ResultPage<T> trimItems(List<T> results, int toRead,
+			@Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+		if (results.size() > toRead) {
+			// Either not backed by a paginated operation or the surplus of a grown
+			// limit, so there is no key to continue with
+			return new ResultPage<>(results.subList(0, toRead), null);
+		}
+		return new ResultPage<>(results, lastEvaluatedKey);
+	}
+
+	/**
+	 * Reads the {@link Page} or {@link Slice} the {@link Pageable} parameter
+	 * points to via the {@link AsyncDynamoDBOperations}. Only the items up to
+	 * the requested page are read, page by page.
+	 *
+	 * @return a future completed with the {@link Page} or {@link Slice}
+	 */
+	CompletableFuture<?> readPageAsync(Object[] values) {
+		Assert.state(asyncDynamoDBOperations != null, "Paged or sliced queries require AsyncDynamoDBOperations");
+		ParameterAccessor accessor = new ParametersParameterAccessor(method.getParameters(), values);
+		Pageable pageable = accessor.getPageable();
+		Query<T> query = doCreateQueryWithPermissions(values);
+		PagedExecution pagedExecution = new PagedExecution(method.getParameters());
+
+		if (pageable instanceof KeysetPageRequest) {
+			KeysetPageRequest keysetPageable = (KeysetPageRequest) pageable;
+			CompletableFuture<ResultPage<T>> page = readItemsAsync(query,
+					ContinuationToken.decode(keysetPageable.getContinuationToken()), keysetItemsToRead(keysetPageable),
+					true).thenApply(read -> restrictKeysetPage(keysetPageable, read));
+			if (method.isSliceQuery()) {
+				return page.thenApply(read -> new KeysetSlice<>(read.getResults(), keysetPageable,
+						ContinuationToken.encode(read.getLastEvaluatedKey())));
+			}
+			return page.thenCombine(countAsync(values),
+					(read, count) -> pagedExecution.createKeysetPage(read, keysetPageable, () -> count));
+		}
+
+		CompletableFuture<List<T>> results;
+		if (pageable.isUnpaged()) {
+			results = query.getResultListAsync(asyncDynamoDBOperations);
+		} else {
+			// One more item tells a slice whether there is a next one
+			long toRead = pageable.getOffset() + pageable.getPageSize() + (method.isSliceQuery() ? 1 : 0);
+			results = readItemsAsync(query, null, (int) Math.min(toRead, Integer.MAX_VALUE), false)
+					.thenApply(ResultPage::getResults);
+		}
+		if (method.isSliceQuery()) {
+			SlicedExecution slicedExecution = new SlicedExecution(method.getParameters());
+			return results.thenApply(read -> slicedExecution.createSlice(read, pageable));
+		}
+		return results.thenCombine(countAsync(values),
+				(read, count) -> pagedExecution.createPage(read, pageable, () -> count));
+	}
+
+	private CompletableFuture<Long> countAsync(Object[] values) {
+		return doCreateCountQueryWithPermissions(values, true).getSingleResultAsync(asyncDynamoDBOperations);
+	}
+
 	private interface QueryExecution<T, ID> {
 		Object execute(AbstractDynamoDBQuery<T, ID> query, Object[] values);
 	}
@@ -99,21 +284,41 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
 			if (getResultsRestrictionIfApplicable() != null) {
-				return restrictMaxResultsIfNecessary(query.getResultList().iterator());
+				return readItems(query, null, getResultsRestrictionIfApplicable(), false).getResults();
 			} else
 				return query.getResultList();
 		}
 
-		private List<T> restrictMaxResultsIfNecessary(Iterator<T> iterator) {
-			int processed = 0;
-			List<T> resultsPage = new ArrayList<>();
-			while (iterator.hasNext() && processed < getResultsRestrictionIfApplicable()) {
-				resultsPage.add(iterator.next());
-				processed++;
+	}
+
+	/**
+	 * Executes the {@link AbstractDynamoDBQuery} to return a {@link Stream} of
+	 * entities. Pages are fetched lazily while the stream is consumed and released
+	 * afterwards, regardless of the pagination loading strategy; the
+	 * {@link DynamoDBOperations} publish the AfterQueryEvents/AfterScanEvents of
+	 * every page. Closing the stream stops fetching further pages.
+	 */
+	class StreamExecution implements QueryExecution<T, ID> {
+
+		@Override
+		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			Integer resultsRestriction = getResultsRestrictionIfApplicable();
+			// Pages of a filtered query are not limited as the filter is applied after
+			// the limit and would leave mostly empty pages
+			ResultPageIterator<T> iterator = resultsRestriction == null || query.isFiltered()
+					? new ResultPageIterator<T>(query::getResultPage)
+					: new ResultPageIterator<T>(
+							exclusiveStartKey -> query.getResultPage(exclusiveStartKey, resultsRestriction));
+
+			Stream<T> stream = StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+					.onClose(iterator::close);
+			if (resultsRestriction != null) {
+				return stream.limit(resultsRestriction);
 			}
-			return resultsPage;
+			return stream;
 		}
-
 	}
 
 	/**
@@ -158,12 +363,29 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			Pageable pageable = accessor.getPageable();
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
 
+			// The count query is only executed if the page is not beyond the results
+			LongSupplier count = () -> dynamoDBQuery.doCreateCountQueryWithPermissions(values, true)
+					.getSingleResult();
+			if (pageable instanceof KeysetPageRequest) {
+				return createKeysetPage(readKeysetPage(query, (KeysetPageRequest) pageable),
+						(KeysetPageRequest) pageable, count);
+			}
+
 			List<T> results = query.getResultList();
-			return createPage(results, pageable, dynamoDBQuery, values);
+			return createPage(results, pageable, count);
 		}
 
-		private Page<T> createPage(List<T> allResults, Pageable pageable, AbstractDynamoDBQuery<T, ID> dynamoDBQuery,
-				Object[] values) {
+		private Page<T> createKeysetPage(ResultPage<T> page, KeysetPageRequest pageable, LongSupplier countSupplier) {
+
+			long count = countSupplier.getAsLong();
+			if (getResultsRestrictionIfApplicable() != null) {
+				count = Math.min(count, getResultsRestrictionIfApplicable());
+			}
+			return new KeysetPage<>(page.getResults(), pageable, count,
+					ContinuationToken.encode(page.getLastEvaluatedKey()));
+		}
+
+		private Page<T> createPage(List<T> allResults, Pageable pageable, LongSupplier countSupplier) {
 
 			// Get the result = this list might be a lazy list
 			Iterator<T> iterator = allResults.iterator();
@@ -177,8 +399,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			}
 
 			// Then Count the result set size
-			Query<Long> countQuery = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true);
-			long count = countQuery.getSingleResult();
+			long count = countSupplier.getAsLong();
 
 			// Finally wrap the result in a page -
 			if (!pageable.isUnpaged()) {
@@ -234,6 +455,13 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			ParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
 			Pageable pageable = accessor.getPageable();
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+
+			if (pageable instanceof KeysetPageRequest) {
+				ResultPage<T> page = readKeysetPage(query, (KeysetPageRequest) pageable);
+				return new KeysetSlice<>(page.getResults(), (KeysetPageRequest) pageable,
+						ContinuationToken.encode(page.getLastEvaluatedKey()));
+			}
+
 			List<T> results = query.getResultList();
 			return createSlice(results, pageable);
 		}
@@ -256,15 +484,44 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		}
 	}
 
+	/**
+	 * Deletes the entities matched by the {@link AbstractDynamoDBQuery}. Methods
+	 * returning nothing or the number of deleted items delete them page by page,
+	 * so the matching items are never held in memory at once. They read the key
+	 * attributes only, unless
+	 * {@link DynamoDBOperations#isEntityRequiredForDelete(Class)}.
+	 */
 	class DeleteExecution implements QueryExecution<T, ID> {
 
 		@Override
 		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) throws BatchDeleteException {
-			List<T> entities = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			if (method.isVoidOrNumberQuery()) {
+				return deletePageByPage(query);
+			}
+
+			List<T> entities = query.getResultList();
+			delete(entities);
+			return entities;
+		}
+
+		private long deletePageByPage(Query<T> query) {
+			long deleted = 0;
+			Map<String, AttributeValue> lastEvaluatedKey = null;
+			do {
+				ResultPage<T> page = query.getResultPage(lastEvaluatedKey);
+				if (!page.getResults().isEmpty()) {
+					delete(page.getResults());
+					deleted += page.getResults().size();
+				}
+				lastEvaluatedKey = page.getLastEvaluatedKey();
+			} while (lastEvaluatedKey != null);
+			return deleted;
+		}
+
+		private void delete(List<T> entities) throws BatchDeleteException {
 			List<DynamoDBMapper.FailedBatch> failedBatches = dynamoDBOperations.batchDelete(entities);
-			if (failedBatches.isEmpty()) {
-				return entities;
-			} else {
+			if (!failedBatches.isEmpty()) {
 				throw repackageToException(failedBatches, BatchDeleteException.class);
 			}
 		}
@@ -277,7 +534,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			if (isCountQuery()) {
 				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
 			} else if (isExistsQuery()) {
-				return !dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList().isEmpty();
+				return dynamoDBQuery.doCreateQueryWithPermissions(values).exists();
 			} else {
 				return dynamoDBQuery.doCreateQueryWithPermissions(values).getSingleResult();
 			}
@@ -292,7 +549,8 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			if (isCountQuery()) {
 				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
 			} else {
-				List<T> resultList = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
+				List<T> resultList = readItems(dynamoDBQuery.doCreateQueryWithPermissions(values), null, 1, false)
+						.getResults();
 				return resultList.size() == 0 ? null : resultList.get(0);
 
 			}
@@ -300,6 +558,66 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		}
 	}
 
+	/**
+	 * Executes the {@link AbstractDynamoDBQuery} via the
+	 * {@link AsyncDynamoDBOperations} and returns a
+	 * {@link java.util.concurrent.CompletableFuture} instead of blocking until
+	 * DynamoDB answered.
+	 */
+	class AsyncExecution implements QueryExecution<T, ID> {
+
+		@Override
+		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			if (method.isSliceQuery() || method.isPageQuery()) {
+				return dynamoDBQuery.readPageAsync(values);
+			} else if (isCountQuery()) {
+				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false)
+						.getSingleResultAsync(asyncDynamoDBOperations);
+			}
+
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			if (isExistsQuery()) {
+				return query.existsAsync(asyncDynamoDBOperations);
+			} else if (isDeleteQuery()) {
+				return query.getResultListAsync(asyncDynamoDBOperations).thenCompose(entities -> asyncDynamoDBOperations
+						.batchDelete(entities).thenApply(failedBatches -> {
+							if (failedBatches.isEmpty()) {
+								return entities;
+							} else {
+								throw repackageToException(failedBatches, BatchDeleteException.class);
+							}
+						}));
+			} else if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
+				if (getResultsRestrictionIfApplicable() != null) {
+					return query.getResultListAsync(asyncDynamoDBOperations).thenApply(
+							results -> new ArrayList<>(
+									results.subList(0, Math.min(results.size(), getResultsRestrictionIfApplicable()))));
+				}
+				return query.getResultListAsync(asyncDynamoDBOperations);
+			} else if (isSingleEntityResultsRestriction()) {
+				return query.getResultListAsync(asyncDynamoDBOperations)
+						.thenApply(results -> results.isEmpty() ? null : results.get(0));
+			} else {
+				return query.getSingleResultAsync(asyncDynamoDBOperations);
+			}
+		}
+	}
+
+	/**
+	 * Executes the {@link AbstractDynamoDBQuery} via the
+	 * {@link AsyncDynamoDBOperations} and returns a
+	 * {@link reactor.core.publisher.Flux} or {@link reactor.core.publisher.Mono}.
+	 */
+	class ReactiveExecution implements QueryExecution<T, ID> {
+
+		@Override
+		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			Assert.state(asyncDynamoDBOperations != null,
+					"Reactive query methods require AsyncDynamoDBOperations - configure asyncDynamoDBOperationsRef");
+			return new ReactiveDynamoDBQueryExecution<T, ID>(asyncDynamoDBOperations).execute(dynamoDBQuery, values);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -308,7 +626,28 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	 */
 	public Object execute(Object[] parameters) {
 
-		return getExecution().execute(this, parameters);
+		Object result = getExecution().execute(this, parameters);
+		if (!method.isProjecting()) {
+			return result;
+		}
+
+		ResultProcessor processor = method.getResultProcessor()
+				.withDynamicProjection(new ParametersParameterAccessor(method.getParameters(), parameters));
+		ReturnedType returnedType = processor.getReturnedType();
+		if (!returnedType.isProjecting()) {
+			return result;
+		}
+
+		// The entities only hold the attributes of a closed projection, interface
+		// projections are backed by them and DTOs created from them
+		Converter<Object, Object> preparingConverter = returnedType.getReturnedType().isInterface()
+				? source -> source
+				: new DtoInstantiatingConverter(returnedType.getReturnedType());
+		if (result instanceof CompletableFuture) {
+			return ((CompletableFuture<?>) result)
+					.thenApply(completed -> processor.processResult(completed, preparingConverter));
+		}
+		return processor.processResult(result, preparingConverter);
 	}
 
 	@Override
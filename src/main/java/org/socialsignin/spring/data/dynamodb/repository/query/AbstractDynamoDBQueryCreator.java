@@ -33,6 +33,7 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
@@ -46,6 +47,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author Michael Lavelle
@@ -67,6 +69,11 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
     protected List<ExpressionAttributeHolder> expressionAttributeValues;
     protected Map<String, MappedExpressionHolder> mappedExpressionValues;
     protected final QueryConstants.ConsistentReadMode consistentReads;
+    @Nullable
+    protected final DynamoDBQueryPlan queryPlan;
+    @Nullable
+    protected DynamoDBQueryDisjunction<T, ID> disjunction;
+    protected final boolean customFilterExpression;
 
     public AbstractDynamoDBQueryCreator(
             PartTree tree,
@@ -84,10 +91,12 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
         this.limit = limitResults;
         this.consistentReads = consistentReads;
         this.filterExpression = filterExpression;
+        this.customFilterExpression = filterExpression.isPresent();
         this.expressionAttributeNames = toHolder(names);
         this.expressionAttributeValues = toHolder(values);
         this.dynamoDBOperations = dynamoDBOperations;
         this.mappedExpressionValues = new HashMap<>();
+        this.queryPlan = null;
     }
 
     public AbstractDynamoDBQueryCreator(
@@ -101,94 +110,124 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
             ExpressionAttribute[] names,
             ExpressionAttribute[] values,
             DynamoDBOperations dynamoDBOperations) {
+        this(tree, parameterAccessor, entityMetadata, projection, limitResults, consistentReads, filterExpression,
+                names, values, dynamoDBOperations, null);
+    }
+
+    public AbstractDynamoDBQueryCreator(
+            PartTree tree,
+            ParameterAccessor parameterAccessor,
+            DynamoDBEntityInformation<T, ID> entityMetadata,
+            Optional<String> projection,
+            Optional<Integer> limitResults,
+            QueryConstants.ConsistentReadMode consistentReads
+            , Optional<String> filterExpression,
+            ExpressionAttribute[] names,
+            ExpressionAttribute[] values,
+            DynamoDBOperations dynamoDBOperations,
+            @Nullable DynamoDBQueryPlan queryPlan) {
         super(tree, parameterAccessor);
         this.entityMetadata = entityMetadata;
         this.projection = projection;
         this.limit = limitResults;
         this.filterExpression = filterExpression;
+        this.customFilterExpression = filterExpression.isPresent();
         this.consistentReads = consistentReads;
         this.expressionAttributeNames = toHolder(names);
         this.expressionAttributeValues = toHolder(values);
         this.mappedExpressionValues = populateMappedExpressionValues(expressionAttributeValues, parameterAccessor);
         this.dynamoDBOperations = dynamoDBOperations;
+        this.queryPlan = queryPlan;
 
         if (!filterExpression.isPresent()) {
+            DynamoDBQueryPlan.FilterExpression compiled = queryPlan == null ? null : queryPlan.getFilterExpression();
             this.expressionAttributeValues = new ArrayList<>();
             this.expressionAttributeNames = new ArrayList<>();
-            final StringBuilder filter = new StringBuilder();
+            // Once the filter expression is compiled, the parts only bind their values
+            final StringBuilder filter = compiled == null ? new StringBuilder() : null;
             final Iterator<Object> arguments = parameterAccessor.iterator();
             for (Iterator<PartTree.OrPart> iter = tree.iterator(); iter.hasNext(); ) {
                 addOr(iter.next(), arguments, filter);
                 if (iter.hasNext()) {
-                    filter.append(" OR ");
+                    append(filter, " OR ");
                 }
             }
-            this.filterExpression = Optional.of(filter.toString());
+            if (compiled == null) {
+                this.filterExpression = Optional.of(filter.toString());
+                if (queryPlan != null) {
+                    queryPlan.compileFilterExpression(filter.toString(), expressionAttributeNames,
+                            expressionAttributeValues);
+                }
+            } else {
+                this.filterExpression = Optional.of(compiled.getExpression());
+                this.expressionAttributeNames = compiled.getExpressionAttributeNames();
+                this.expressionAttributeValues = compiled.getExpressionAttributeValues();
+            }
         }
     }
 
 
-    private void addOr(PartTree.OrPart part, Iterator<Object> arguments, StringBuilder filter) {
+    private void addOr(PartTree.OrPart part, Iterator<Object> arguments, @Nullable StringBuilder filter) {
         for (Iterator<Part> iter = part.iterator(); iter.hasNext(); ) {
             addAnd(iter.next(), arguments, filter);
             if (iter.hasNext()) {
-                filter.append(" AND ");
+                append(filter, " AND ");
             }
         }
     }
 
-    private void addAnd(Part part, Iterator<Object> arguments, StringBuilder filter) {
+    private void addAnd(Part part, Iterator<Object> arguments, @Nullable StringBuilder filter) {
         //see https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/Expressions.OperatorsAndFunctions.html
 
         switch (part.getType()) {
             case BETWEEN:
             case WITHIN:
                 addKey(part, filter);
-                filter.append(" BETWEEN ");
+                append(filter, " BETWEEN ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
-                filter.append(" AND ");
+                append(filter, " AND ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
                 break;
             case STARTING_WITH:
-                filter.append("begins_with(");
+                append(filter, "begins_with(");
                 addKey(part, filter);
                 addValue(arguments, part.getProperty().getSegment(), filter);
-                filter.append(")");
+                append(filter, ")");
                 break;
             case EXISTS:
-                filter.append("attribute_exists(");
+                append(filter, "attribute_exists(");
                 addKey(part, filter);
-                filter.append(")");
+                append(filter, ")");
                 break;
             case IS_NULL:
-                filter.append("attribute_not_exists(");
+                append(filter, "attribute_not_exists(");
                 addKey(part, filter);
-                filter.append(")");
+                append(filter, ")");
                 break;
             case BEFORE:
             case LESS_THAN:
                 addKey(part, filter);
-                filter.append(" < ");
+                append(filter, " < ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
                 break;
             case LESS_THAN_EQUAL:
                 addKey(part, filter);
-                filter.append(" <= ");
+                append(filter, " <= ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
                 break;
             case AFTER:
             case GREATER_THAN:
                 addKey(part, filter);
-                filter.append(" > ");
+                append(filter, " > ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
                 break;
             case GREATER_THAN_EQUAL:
                 addKey(part, filter);
-                filter.append(" >= ");
+                append(filter, " >= ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
                 break;
             case NOT_CONTAINING:
-                filter.append("NOT ");
+                append(filter, "NOT ");
                 contains(part, arguments, filter);
                 break;
             case CONTAINING:
@@ -196,32 +235,32 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
                 break;
             case NOT_IN:
                 addKey(part, filter);
-                filter.append(" NOT IN(");
+                append(filter, " NOT IN(");
                 iterateValues(part, arguments, part.getProperty().getSegment(), filter);
-                filter.append(")");
+                append(filter, ")");
                 break;
             case IN:
                 addKey(part, filter);
-                filter.append(" IN (");
+                append(filter, " IN (");
                 iterateValues(part, arguments, part.getProperty().getSegment(), filter);
-                filter.append(")");
+                append(filter, ")");
                 break;
             case TRUE:
                 addKey(part, filter);
                 break;
             case FALSE:
-                filter.append("NOT ");
+                append(filter, "NOT ");
                 addKey(part, filter);
                 break;
             case IS_NOT_NULL:
             case NEGATING_SIMPLE_PROPERTY:
                 addKey(part, filter);
-                filter.append(" <> ");
+                append(filter, " <> ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
                 break;
             case SIMPLE_PROPERTY:
                 addKey(part, filter);
-                filter.append(" = ");
+                append(filter, " = ");
                 addValue(arguments, part.getProperty().getSegment(), filter);
                 break;
             //TODO
@@ -262,48 +301,59 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
         return elements;
     }
 
-    private void contains(Part part, Iterator<Object> arguments, StringBuilder filter) {
+    private void contains(Part part, Iterator<Object> arguments, @Nullable StringBuilder filter) {
         Collection<Object> elements = getElements(part, arguments);
 
         Iterator<Object> iter = elements.iterator();
         while (iter.hasNext()) {
-            filter.append("contains(");
+            append(filter, "contains(");
             addKey(part, filter);
-            filter.append(",");
+            append(filter, ",");
             addValue(iter, part.getProperty().getSegment(), filter);
-            filter.append(")");
+            append(filter, ")");
             if (iter.hasNext()) {
-                filter.append(" AND ");
+                append(filter, " AND ");
             }
         }
     }
 
-    private void iterateValues(Part part, Iterator<Object> arguments, String propertyName, StringBuilder filter) {
+    private void iterateValues(Part part, Iterator<Object> arguments, String propertyName, @Nullable StringBuilder filter) {
         Collection<Object> elements = getElements(part, arguments);
         Iterator<Object> iter = elements.iterator();
         while (iter.hasNext()) {
             addValue(iter, propertyName, filter);
             if (iter.hasNext()) {
-                filter.append(",");
+                append(filter, ",");
             }
         }
     }
 
-    private void addKey(Part part, StringBuilder filter) {
-        String keyKey = "#key" + keyIdx;
-        filter.append(keyKey);
-        expressionAttributeNames.add(new ExpressionAttributeHolder(keyKey, part.getProperty().getSegment()));
+    private void addKey(Part part, @Nullable StringBuilder filter) {
+        if (filter != null) {
+            String keyKey = "#key" + keyIdx;
+            filter.append(keyKey);
+            expressionAttributeNames.add(new ExpressionAttributeHolder(keyKey, part.getProperty().getSegment()));
+        }
         keyIdx++;
     }
 
-    private void addValue(Iterator<?> iter, String propertyName, StringBuilder filter) {
+    private void addValue(Iterator<?> iter, String propertyName, @Nullable StringBuilder filter) {
         String valueKey = ":value" + valueIdx;
-        filter.append(valueKey);
-        expressionAttributeValues.add(new ExpressionAttributeHolder(valueKey, valueKey));
+        if (filter != null) {
+            filter.append(valueKey);
+            expressionAttributeValues.add(new ExpressionAttributeHolder(valueKey, valueKey));
+        }
         mappedExpressionValues.put(valueKey, new MappedExpressionHolder(iter.next(), propertyName));
         valueIdx++;
     }
 
+    private static void append(@Nullable StringBuilder filter, String text) {
+        // Without a filter the query plan already holds the compiled filter expression
+        if (filter != null) {
+            filter.append(text);
+        }
+    }
+
     protected Map<String, MappedExpressionHolder> populateMappedExpressionValues(List<ExpressionAttributeHolder> expressionAttributeValues, ParameterAccessor parameterAccessor) {
         if (expressionAttributeValues == null) {
             return new HashMap<>();
@@ -345,10 +395,14 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
     @Override
     protected DynamoDBQueryCriteria<T, ID> create(Part part, Iterator<Object> iterator) {
         final DynamoDBMapperTableModel<T> tableModel = dynamoDBOperations.getTableModel(entityMetadata.getJavaType());
-        DynamoDBQueryCriteria<T, ID> criteria = entityMetadata.isRangeKeyAware()
+        AbstractDynamoDBQueryCriteria<T, ID> criteria = entityMetadata.isRangeKeyAware()
                 ? new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
                 (DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID>) entityMetadata, tableModel)
                 : new DynamoDBEntityWithHashKeyOnlyCriteria<>(entityMetadata, tableModel);
+        if (queryPlan != null) {
+            criteria.withQueryPlan(queryPlan);
+        }
+        criteria.withCustomFilterExpression(customFilterExpression);
         return addCriteria(criteria, part, iterator);
     }
 
@@ -454,7 +508,24 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 	@Override
 	protected DynamoDBQueryCriteria<T, ID> or(DynamoDBQueryCriteria<T, ID> base,
 			DynamoDBQueryCriteria<T, ID> criteria) {
-        return base;
+		// Every branch is created by create(Part, Iterator) and planned on its own
+		if (disjunction == null) {
+			disjunction = new DynamoDBQueryDisjunction<>((AbstractDynamoDBQueryCriteria<T, ID>) base);
+		}
+		disjunction.or((AbstractDynamoDBQueryCriteria<T, ID>) criteria);
+		return criteria;
     }
 
+	/**
+	 * Applies the method wide settings to the criteria, or to every branch if
+	 * the method combines its conditions with {@code Or}.
+	 */
+	protected void configure(DynamoDBQueryCriteria<T, ID> criteria, Consumer<DynamoDBQueryCriteria<T, ID>> settings) {
+		if (disjunction == null) {
+			settings.accept(criteria);
+		} else {
+			disjunction.getBranches().forEach(settings);
+		}
+	}
+
 }
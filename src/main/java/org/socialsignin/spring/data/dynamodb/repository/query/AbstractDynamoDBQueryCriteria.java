@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMarshaller;
@@ -52,10 +53,12 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -66,7 +69,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
     protected Class<T> clazz;
     private final DynamoDBEntityInformation<T, ID> entityInformation;
-    private final Map<String, String> attributeNamesByPropertyName;
+    private Map<String, String> attributeNamesByPropertyName;
     private final DynamoDBMapperTableModel<T> tableModel;
     private final String hashKeyPropertyName;
 
@@ -75,6 +78,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
     protected Object hashKeyAttributeValue;
     protected Object hashKeyPropertyValue;
+    protected List<Object> hashKeyPropertyValues;
     protected String globalSecondaryIndexName;
     protected Sort sort = Sort.unsorted();
     protected Optional<String> projection = Optional.empty();
@@ -84,6 +88,9 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
     protected List<ExpressionAttributeHolder> expressionAttributeValues;
     protected Map<String, MappedExpressionHolder> mappedExpressionValues;
     protected QueryConstants.ConsistentReadMode consistentReads = QueryConstants.ConsistentReadMode.DEFAULT;
+    protected boolean customFilterExpression;
+    @Nullable
+    private DynamoDBQueryPlan queryPlan;
 
     public abstract boolean isApplicableForLoad();
 
@@ -138,8 +145,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 			queryRequest.setKeyConditions(keyConditions);
 			// Might be overwritten in the actual Query classes
 			if (projection.isPresent()) {
-				queryRequest.setSelect(Select.SPECIFIC_ATTRIBUTES);
-				queryRequest.setProjectionExpression(projection.get());
+				applyProjection(queryRequest);
 			} else {
 				queryRequest.setSelect(Select.ALL_PROJECTED_ATTRIBUTES);
 			}
@@ -154,6 +160,63 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return queryRequest;
 	}
 
+	protected void applyProjection(QueryRequest queryRequest) {
+		queryRequest.setSelect(Select.SPECIFIC_ATTRIBUTES);
+		queryRequest.setProjectionExpression(projection.get());
+		if (!getProjectionExpressionAttributeNames().isEmpty()) {
+			queryRequest.setExpressionAttributeNames(
+					withProjectionExpressionAttributeNames(queryRequest.getExpressionAttributeNames()));
+		}
+	}
+
+	protected void applyProjection(DynamoDBQueryExpression<T> queryExpression) {
+		queryExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
+		queryExpression.setProjectionExpression(projection.get());
+		if (!getProjectionExpressionAttributeNames().isEmpty()) {
+			queryExpression.setExpressionAttributeNames(
+					withProjectionExpressionAttributeNames(queryExpression.getExpressionAttributeNames()));
+		}
+	}
+
+	protected void applyProjection(DynamoDBScanExpression scanExpression) {
+		scanExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
+		scanExpression.setProjectionExpression(projection.get());
+		if (!getProjectionExpressionAttributeNames().isEmpty()) {
+			scanExpression.setExpressionAttributeNames(
+					withProjectionExpressionAttributeNames(scanExpression.getExpressionAttributeNames()));
+		}
+	}
+
+	/**
+	 * @return the attribute names by their placeholders in the projection
+	 *         expression - empty if it contains the attribute names itself
+	 */
+	private Map<String, String> getProjectionExpressionAttributeNames() {
+		return queryPlan == null ? Collections.emptyMap() : queryPlan.getProjectionExpressionAttributeNames();
+	}
+
+	private Map<String, String> withProjectionExpressionAttributeNames(@Nullable Map<String, String> names) {
+		Map<String, String> merged = names == null ? new HashMap<>() : new HashMap<>(names);
+		merged.putAll(getProjectionExpressionAttributeNames());
+		return merged;
+	}
+
+	/**
+	 * @return the read consistency for the mapper - {@code null} to use the one
+	 *         the mapper is configured with
+	 */
+	@Nullable
+	protected DynamoDBMapperConfig.ConsistentReads getMapperConsistentReads() {
+		switch (consistentReads) {
+			case CONSISTENT:
+				return DynamoDBMapperConfig.ConsistentReads.CONSISTENT;
+			case EVENTUAL:
+				return DynamoDBMapperConfig.ConsistentReads.EVENTUAL;
+			default:
+				return null;
+		}
+	}
+
 	protected void applyConsistentReads(QueryRequest queryRequest) {
 		switch (consistentReads) {
 			case CONSISTENT:
@@ -272,6 +335,33 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		this.tableModel = tableModel;
 	}
 
+	/**
+	 * Shares the attribute names and the chosen global secondary indexes with all
+	 * invocations of the query method.
+	 *
+	 * @param queryPlan
+	 *            the plan of the query method
+	 * @return this criteria
+	 */
+	public AbstractDynamoDBQueryCriteria<T, ID> withQueryPlan(DynamoDBQueryPlan queryPlan) {
+		this.queryPlan = queryPlan;
+		this.attributeNamesByPropertyName = queryPlan.getAttributeNamesByPropertyName();
+		return this;
+	}
+
+	/**
+	 * Marks the filter expression as declared by the query method, instead of
+	 * being derived from its conditions.
+	 *
+	 * @param customFilterExpression
+	 *            {@code true} if the method declares a filter expression
+	 * @return this criteria
+	 */
+	public AbstractDynamoDBQueryCriteria<T, ID> withCustomFilterExpression(boolean customFilterExpression) {
+		this.customFilterExpression = customFilterExpression;
+		return this;
+	}
+
 	private String getFirstDeclaredIndexNameForAttribute(Map<String, String[]> indexNamesByAttributeName,
 			List<String> indexNamesToCheck, String attributeName) {
 		String indexName = null;
@@ -293,66 +383,80 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		// secondary index, otherwise return null for index name
 		// Also this method only evaluates the
 		if (globalSecondaryIndexName == null && attributeConditions != null && !attributeConditions.isEmpty()) {
-			// Declare map of index names by attribute name which we will populate below -
-			// this will be used to determine which index to use if multiple indexes are
-			// applicable
-			Map<String, String[]> indexNamesByAttributeName = new HashMap<>();
-
-			// Declare map of attribute lists by index name which we will populate below -
-			// this will be used to determine whether we have an exact match index for
-			// specified attribute conditions
-			MultiValueMap<String, String> attributeListsByIndexName = new LinkedMultiValueMap<>();
-
-			// Populate the above maps
-			for (Entry<String, String[]> indexNamesForPropertyNameEntry : entityInformation
-					.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
-				String propertyName = indexNamesForPropertyNameEntry.getKey();
-				String attributeName = getAttributeName(propertyName);
-				indexNamesByAttributeName.put(attributeName, indexNamesForPropertyNameEntry.getValue());
-				for (String indexNameForPropertyName : indexNamesForPropertyNameEntry.getValue()) {
-					attributeListsByIndexName.add(indexNameForPropertyName, attributeName);
-				}
+			// The index only depends on the attributes with conditions, so the query
+			// plan matches the indexes once per set of attributes
+			globalSecondaryIndexName = queryPlan == null
+					? findGlobalSecondaryIndexName()
+					: queryPlan.getGlobalSecondaryIndexName(attributeConditions.keySet(),
+							this::findGlobalSecondaryIndexName);
+		}
+		return globalSecondaryIndexName;
+	}
+
+	@Nullable
+	private String findGlobalSecondaryIndexName() {
+		String globalSecondaryIndexName = null;
+
+		// Declare map of index names by attribute name which we will populate below -
+		// this will be used to determine which index to use if multiple indexes are
+		// applicable
+		Map<String, String[]> indexNamesByAttributeName = new HashMap<>();
+
+		// Declare map of attribute lists by index name which we will populate below -
+		// this will be used to determine whether we have an exact match index for
+		// specified attribute conditions
+		MultiValueMap<String, String> attributeListsByIndexName = new LinkedMultiValueMap<>();
+
+		// Populate the above maps
+		for (Entry<String, String[]> indexNamesForPropertyNameEntry : entityInformation
+				.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
+			String propertyName = indexNamesForPropertyNameEntry.getKey();
+			String attributeName = getAttributeName(propertyName);
+			indexNamesByAttributeName.put(attributeName, indexNamesForPropertyNameEntry.getValue());
+			for (String indexNameForPropertyName : indexNamesForPropertyNameEntry.getValue()) {
+				attributeListsByIndexName.add(indexNameForPropertyName, attributeName);
 			}
+		}
 
-			// Declare lists to store matching index names
-			List<String> exactMatchIndexNames = new ArrayList<>();
-			List<String> partialMatchIndexNames = new ArrayList<>();
-
-			// Populate matching index name lists - an index is either an exact match ( the
-			// index attributes match all the specified criteria exactly)
-			// or a partial match ( the properties for the specified criteria are contained
-			// within the property set for an index )
-			for (Entry<String, List<String>> attributeListForIndexNameEntry : attributeListsByIndexName.entrySet()) {
-				String indexNameForAttributeList = attributeListForIndexNameEntry.getKey();
-				List<String> attributeList = attributeListForIndexNameEntry.getValue();
-				if (attributeList.containsAll(attributeConditions.keySet())) {
-					if (attributeConditions.keySet().containsAll(attributeList)) {
-						exactMatchIndexNames.add(indexNameForAttributeList);
-					} else {
-						partialMatchIndexNames.add(indexNameForAttributeList);
-					}
+		// Declare lists to store matching index names
+		List<String> exactMatchIndexNames = new ArrayList<>();
+		List<String> partialMatchIndexNames = new ArrayList<>();
+
+		// Populate matching index name lists - an index is either an exact match ( the
+		// index attributes match all the specified criteria exactly)
+		// or a partial match ( the properties for the specified criteria are contained
+		// within the property set for an index )
+		for (Entry<String, List<String>> attributeListForIndexNameEntry : attributeListsByIndexName.entrySet()) {
+			String indexNameForAttributeList = attributeListForIndexNameEntry.getKey();
+			List<String> attributeList = attributeListForIndexNameEntry.getValue();
+			if (attributeList.containsAll(attributeConditions.keySet())) {
+				if (attributeConditions.keySet().containsAll(attributeList)) {
+					exactMatchIndexNames.add(indexNameForAttributeList);
+				} else {
+					partialMatchIndexNames.add(indexNameForAttributeList);
 				}
 			}
+		}
 
-			if (exactMatchIndexNames.size() > 1) {
-				throw new RuntimeException(
-						"Multiple indexes defined on same attribute set:" + attributeConditions.keySet());
-			} else if (exactMatchIndexNames.size() == 1) {
-				globalSecondaryIndexName = exactMatchIndexNames.get(0);
-			} else if (partialMatchIndexNames.size() > 1) {
-				if (attributeConditions.size() == 1) {
-					globalSecondaryIndexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
-							partialMatchIndexNames, attributeConditions.keySet().iterator().next());
-				}
-				if (globalSecondaryIndexName == null) {
-					globalSecondaryIndexName = partialMatchIndexNames.get(0);
-				}
-			} else if (partialMatchIndexNames.size() == 1) {
+		if (exactMatchIndexNames.size() > 1) {
+			throw new RuntimeException(
+					"Multiple indexes defined on same attribute set:" + attributeConditions.keySet());
+		} else if (exactMatchIndexNames.size() == 1) {
+			globalSecondaryIndexName = exactMatchIndexNames.get(0);
+		} else if (partialMatchIndexNames.size() > 1) {
+			if (attributeConditions.size() == 1) {
+				globalSecondaryIndexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
+						partialMatchIndexNames, attributeConditions.keySet().iterator().next());
+			}
+			if (globalSecondaryIndexName == null) {
 				globalSecondaryIndexName = partialMatchIndexNames.get(0);
 			}
+		} else if (partialMatchIndexNames.size() == 1) {
+			globalSecondaryIndexName = partialMatchIndexNames.get(0);
 		}
 		return globalSecondaryIndexName;
 	}
+
 	protected boolean isHashKeyProperty(String propertyName) {
 		return hashKeyPropertyName.equals(propertyName);
 	}
@@ -452,9 +556,35 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	public DynamoDBQueryCriteria<T, ID> withPropertyIn(String propertyName, Iterable<?> value, Class<?> propertyType) {
 
 		Condition condition = createCollectionCondition(propertyName, ComparisonOperator.IN, value, propertyType);
+		if (isHashKeyProperty(propertyName)) {
+			// Remember the distinct keys, so the IN can be resolved with key lookups
+			Set<Object> hashKeys = new LinkedHashSet<>();
+			value.forEach(hashKeys::add);
+			hashKeyPropertyValues = new ArrayList<>(hashKeys);
+		}
 		return withCondition(propertyName, condition);
 	}
 
+	/**
+	 * @return {@code true} if the only condition is a single {@code IN} on the
+	 *         hash key and the method declares no filter expression, so the
+	 *         matching items can be looked up by key instead of scanning the whole
+	 *         table
+	 */
+	protected boolean isApplicableForHashKeyLookups() {
+		if (hashKeyPropertyValues == null || isHashKeySpecified() || limit.isPresent() || customFilterExpression) {
+			return false;
+		}
+		List<Condition> hashKeyConditions = attributeConditions.get(getHashKeyAttributeName());
+		return attributeConditions.size() == 1 && hashKeyConditions != null && hashKeyConditions.size() == 1;
+	}
+
+	/**
+	 * @return {@code true} if {@link #buildQuery(DynamoDBOperations)} reads the
+	 *         matching items by key or from an index, without scanning the table
+	 */
+	protected abstract boolean isApplicableWithoutScan();
+
     @Override
 	public DynamoDBQueryCriteria<T, ID> withSingleValueCriteria(String propertyName,
 			ComparisonOperator comparisonOperator, Object value, Class<?> propertyType) {
@@ -790,6 +920,22 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
         return this;
     }
 
+    /**
+     * Builds a scan evaluating the filter expression of the query method as a
+     * whole, i.e. including the conditions of all branches combined with
+     * {@code Or}.
+     */
+    protected DynamoDBScanExpression buildFilterExpressionScanExpression() {
+        ensureNoSort(sort);
+
+        DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+        prepareExpressions(scanExpression);
+        if (projection.isPresent()) {
+            applyProjection(scanExpression);
+        }
+        return scanExpression;
+    }
+
     protected void prepareExpressions(DynamoDBScanExpression scanExpression) {
         if (filterExpression.isPresent()) {
             scanExpression.setFilterExpression(filterExpression.get());
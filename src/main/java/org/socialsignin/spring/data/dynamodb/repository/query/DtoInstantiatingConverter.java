@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * Creates instances of a DTO projection by passing the properties of the
+ * (partially loaded) entity with the names of the constructor parameters.
+ */
+class DtoInstantiatingConverter implements Converter<Object, Object> {
+
+	private final Class<?> targetType;
+	private final PreferredConstructor<?, ?> constructor;
+
+	DtoInstantiatingConverter(Class<?> targetType) {
+		this.targetType = targetType;
+		this.constructor = PreferredConstructorDiscoverer.discover(targetType);
+		Assert.state(constructor != null, "No constructor found to create a " + targetType);
+	}
+
+	@Override
+	public Object convert(Object source) {
+		if (targetType.isInstance(source)) {
+			return source;
+		}
+
+		BeanWrapper entity = PropertyAccessorFactory.forBeanPropertyAccess(source);
+		List<? extends PreferredConstructor.Parameter<Object, ?>> parameters = constructor.getParameters();
+		Object[] arguments = new Object[parameters.size()];
+		for (int i = 0; i < arguments.length; i++) {
+			String name = parameters.get(i).getName();
+			Assert.state(name != null, "Parameter names of " + targetType
+					+ " are not available - compile with -parameters to use it as projection");
+			arguments[i] = entity.getPropertyValue(name);
+		}
+		return BeanUtils.instantiateClass(constructor.getConstructor(), arguments);
+	}
+}
@@ -54,16 +54,30 @@ public class DynamoDBCountQueryCreator<T, ID> extends AbstractDynamoDBQueryCreat
 		this.pageQuery = pageQuery;
 	}
 
+	public DynamoDBCountQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+									 DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> filterExpression,
+									 ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations,
+									 boolean pageQuery, @Nullable DynamoDBQueryPlan queryPlan) {
+
+		super(tree, parameterAccessor, entityMetadata, Optional.empty(), Optional.empty(),
+				QueryConstants.ConsistentReadMode.DEFAULT,  filterExpression, names, values, dynamoDBOperations, queryPlan);
+		this.pageQuery = pageQuery;
+	}
+
 	@Override
 	protected Query<Long> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
 		if (criteria == null) {
 			return new StaticQuery<>(1L);
 		} else {
-			criteria.withFilterExpression(filterExpression);
-			criteria.withExpressionAttributeNames(expressionAttributeNames);
-			criteria.withExpressionAttributeValues(expressionAttributeValues);
-			criteria.withMappedExpressionValues(mappedExpressionValues);
-			return criteria.buildCountQuery(dynamoDBOperations, pageQuery);
+			configure(criteria, c -> {
+				c.withFilterExpression(filterExpression);
+				c.withExpressionAttributeNames(expressionAttributeNames);
+				c.withExpressionAttributeValues(expressionAttributeValues);
+				c.withMappedExpressionValues(mappedExpressionValues);
+			});
+			return disjunction == null
+					? criteria.buildCountQuery(dynamoDBOperations, pageQuery)
+					: disjunction.buildCountQuery(dynamoDBOperations, pageQuery);
 		}
 	}
 
@@ -21,10 +21,10 @@ import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
-import com.amazonaws.services.dynamodbv2.model.Select;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.CountByHashAndRangeKeyQuery;
 import org.socialsignin.spring.data.dynamodb.query.MultipleEntityQueryExpressionQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityQueryExpressionsQuery;
 import org.socialsignin.spring.data.dynamodb.query.MultipleEntityQueryRequestQuery;
 import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
@@ -190,8 +190,7 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 		}
 
 		if (projection.isPresent()) {
-			queryExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
-			queryExpression.setProjectionExpression(projection.get());
+			applyProjection(queryExpression);
 		}
 
 		limit.ifPresent(queryExpression::setLimit);
@@ -211,8 +210,41 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 		return rangeKeyConditions;
 	}
 
+	@Override
+	protected boolean isApplicableForHashKeyLookups() {
+		return super.isApplicableForHashKeyLookups() && !isRangeKeySpecified();
+	}
+
+	@Override
+	protected boolean isApplicableWithoutScan() {
+		return isApplicableForLoad() || isApplicableForHashKeyLookups() || isApplicableForQuery();
+	}
+
+	/**
+	 * Builds one query for every hash key of an {@code IN} condition on the hash
+	 * key.
+	 */
+	protected List<DynamoDBQueryExpression<T>> buildHashKeyQueryExpressions() {
+		ensureNoSort(sort);
+		List<DynamoDBQueryExpression<T>> queryExpressions = new ArrayList<>(hashKeyPropertyValues.size());
+		for (Object hashKey : hashKeyPropertyValues) {
+			DynamoDBQueryExpression<T> queryExpression = new DynamoDBQueryExpression<>();
+			queryExpression.withHashKeyValues(entityInformation.getHashKeyPropotypeEntityForHashKey(hashKey));
+			queryExpression.withRangeKeyConditions(new HashMap<>());
+			applyConsistentReads(queryExpression);
+			if (projection.isPresent()) {
+				applyProjection(queryExpression);
+			}
+			queryExpressions.add(queryExpression);
+		}
+		return queryExpressions;
+	}
+
 	protected Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations) {
-		if (isApplicableForQuery()) {
+		if (isApplicableForHashKeyLookups()) {
+			return new MultipleEntityQueryExpressionsQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					buildHashKeyQueryExpressions());
+		} else if (isApplicableForQuery()) {
 			if (isApplicableForGlobalSecondaryIndex()) {
 				String tableName = dynamoDBOperations.getOverriddenTableName(clazz,
 						entityInformation.getDynamoDBTableName());
@@ -372,6 +404,10 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
             prepareExpressions(scanExpression);
         }
 
+        if (projection.isPresent()) {
+            applyProjection(scanExpression);
+        }
+
         return scanExpression;
     }
 
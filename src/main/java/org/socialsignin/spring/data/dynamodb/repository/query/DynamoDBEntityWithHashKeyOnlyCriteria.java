@@ -17,12 +17,14 @@ package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
 import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import com.amazonaws.services.dynamodbv2.model.Select;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.CountByHashKeyQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityBatchLoadQuery;
 import org.socialsignin.spring.data.dynamodb.query.MultipleEntityQueryRequestQuery;
 import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
@@ -33,6 +35,7 @@ import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityIn
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * @author Michael Lavelle
@@ -57,7 +60,12 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 	}
 
 	protected Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations) {
-		if (isApplicableForGlobalSecondaryIndex()) {
+		if (isApplicableForHashKeyLookups()) {
+			ensureNoSort(sort);
+			List<KeyPair> keyPairs = hashKeyPropertyValues.stream().map(hashKey -> new KeyPair().withHashKey(hashKey))
+					.collect(Collectors.toList());
+			return new MultipleEntityBatchLoadQuery<>(dynamoDBOperations, clazz, keyPairs, getMapperConsistentReads());
+		} else if (isApplicableForGlobalSecondaryIndex()) {
 
 			List<Condition> hashKeyConditions = getHashKeyConditions();
 			QueryRequest queryRequest = buildQueryRequest(
@@ -95,6 +103,11 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 		return isOnlyHashKeySpecified();
 	}
 
+	@Override
+	protected boolean isApplicableWithoutScan() {
+		return isApplicableForLoad() || isApplicableForHashKeyLookups() || isApplicableForGlobalSecondaryIndex();
+	}
+
 	public DynamoDBScanExpression buildScanExpression() {
         ensureNoSort(sort);
 
@@ -114,8 +127,7 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
         }
 
         if (projection.isPresent()) {
-            scanExpression.setSelect(Select.SPECIFIC_ATTRIBUTES);
-            scanExpression.setProjectionExpression(projection.get());
+            applyProjection(scanExpression);
         }
         limit.ifPresent(scanExpression::setLimit);
 
@@ -36,20 +36,31 @@ public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T,
 		super(tree, parameterAccessor, entityMetadata, projection, limit, consistentReads, filterExpression, names, values, dynamoDBOperations);
 	}
 
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+								DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection, Optional<Integer> limit, QueryConstants.ConsistentReadMode consistentReads,
+								Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations,
+								@Nullable DynamoDBQueryPlan queryPlan) {
+		super(tree, parameterAccessor, entityMetadata, projection, limit, consistentReads, filterExpression, names, values, dynamoDBOperations, queryPlan);
+	}
+
 	@Override
 	protected Query<T> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
 		if (criteria == null) {
 			return new StaticQuery<>(null);
 		} else {
-			criteria.withSort(sort);
-			criteria.withProjection(projection);
-			criteria.withLimit(limit);
-			criteria.withConsistentReads(consistentReads);
-			criteria.withFilterExpression(filterExpression);
-			criteria.withExpressionAttributeNames(expressionAttributeNames);
-			criteria.withExpressionAttributeValues(expressionAttributeValues);
-			criteria.withMappedExpressionValues(mappedExpressionValues);
-			return criteria.buildQuery(dynamoDBOperations);
+			configure(criteria, c -> {
+				c.withSort(sort);
+				c.withProjection(projection);
+				c.withLimit(limit);
+				c.withConsistentReads(consistentReads);
+				c.withFilterExpression(filterExpression);
+				c.withExpressionAttributeNames(expressionAttributeNames);
+				c.withExpressionAttributeValues(expressionAttributeValues);
+				c.withMappedExpressionValues(mappedExpressionValues);
+			});
+			return disjunction == null
+					? criteria.buildQuery(dynamoDBOperations)
+					: disjunction.buildQuery(dynamoDBOperations, sort);
 		}
 	}
 
@@ -0,0 +1,72 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanExpressionQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityUnionQuery;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.ScanExpressionCountQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Branches of a query method combining its conditions with {@code Or}. Every
+ * branch is planned on its own: if all of them can be read by key or from an
+ * index, the branches are queried separately and their results are merged.
+ * Otherwise a single scan evaluates the filter expression of all branches.
+ */
+public class DynamoDBQueryDisjunction<T, ID> {
+
+	private final List<AbstractDynamoDBQueryCriteria<T, ID>> branches = new ArrayList<>();
+
+	public DynamoDBQueryDisjunction(AbstractDynamoDBQueryCriteria<T, ID> first) {
+		branches.add(first);
+	}
+
+	public DynamoDBQueryDisjunction<T, ID> or(AbstractDynamoDBQueryCriteria<T, ID> branch) {
+		branches.add(branch);
+		return this;
+	}
+
+	public List<AbstractDynamoDBQueryCriteria<T, ID>> getBranches() {
+		return Collections.unmodifiableList(branches);
+	}
+
+	public Query<T> buildQuery(DynamoDBOperations dynamoDBOperations, Sort sort) {
+		AbstractDynamoDBQueryCriteria<T, ID> first = branches.get(0);
+		if (sort.isUnsorted() && branches.stream().allMatch(AbstractDynamoDBQueryCriteria::isApplicableWithoutScan)) {
+			List<Query<T>> queries = new ArrayList<>(branches.size());
+			for (AbstractDynamoDBQueryCriteria<T, ID> branch : branches) {
+				queries.add(branch.buildQuery(dynamoDBOperations));
+			}
+			return new MultipleEntityUnionQuery<>(dynamoDBOperations, first.clazz,
+					dynamoDBOperations.getTableModel(first.clazz), queries);
+		}
+		return new MultipleEntityScanExpressionQuery<>(dynamoDBOperations, first.clazz,
+				first.buildFilterExpressionScanExpression());
+	}
+
+	public Query<Long> buildCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
+		// Counts of the branches can not be added up, as an item may match several branches
+		AbstractDynamoDBQueryCriteria<T, ID> first = branches.get(0);
+		return new ScanExpressionCountQuery<>(dynamoDBOperations, first.clazz,
+				first.buildFilterExpressionScanExpression(), pageQuery);
+	}
+}
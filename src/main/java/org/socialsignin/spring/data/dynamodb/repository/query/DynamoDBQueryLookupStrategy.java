@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
@@ -48,10 +49,13 @@ public class DynamoDBQueryLookupStrategy {
 	private abstract static class AbstractQueryLookupStrategy implements QueryLookupStrategy {
 
 		protected DynamoDBOperations dynamoDBOperations;
+		protected AsyncDynamoDBOperations asyncDynamoDBOperations;
 
-		public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				AsyncDynamoDBOperations asyncDynamoDBOperations) {
 
 			this.dynamoDBOperations = dynamoDBOperations;
+			this.asyncDynamoDBOperations = asyncDynamoDBOperations;
 		}
 
 		/*
@@ -82,16 +86,17 @@ public class DynamoDBQueryLookupStrategy {
 	 */
 	private static class CreateQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-		public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				AsyncDynamoDBOperations asyncDynamoDBOperations) {
 
-			super(dynamoDBOperations);
+			super(dynamoDBOperations, asyncDynamoDBOperations);
 		}
 
 		@Override
 		protected <T, ID> RepositoryQuery createDynamoDBQuery(Method method, RepositoryMetadata metadata,
 				ProjectionFactory factory, Class<T> entityClass, Class<ID> idClass, NamedQueries namedQueries) {
 			try {
-				return new PartTreeDynamoDBQuery<T, ID>(dynamoDBOperations,
+				return new PartTreeDynamoDBQuery<T, ID>(dynamoDBOperations, asyncDynamoDBOperations,
 						new DynamoDBQueryMethod<T, ID>(method, metadata, factory));
 			} catch (IllegalArgumentException e) {
 				throw new IllegalArgumentException(
@@ -110,9 +115,10 @@ public class DynamoDBQueryLookupStrategy {
 	 */
 	private static class DeclaredQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-		public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				AsyncDynamoDBOperations asyncDynamoDBOperations) {
 
-			super(dynamoDBOperations);
+			super(dynamoDBOperations, asyncDynamoDBOperations);
 		}
 
 		@Override
@@ -136,11 +142,12 @@ public class DynamoDBQueryLookupStrategy {
 		private final DeclaredQueryLookupStrategy strategy;
 		private final CreateQueryLookupStrategy createStrategy;
 
-		public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				AsyncDynamoDBOperations asyncDynamoDBOperations) {
 
-			super(dynamoDBOperations);
-			this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations);
-			this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations);
+			super(dynamoDBOperations, asyncDynamoDBOperations);
+			this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations, asyncDynamoDBOperations);
+			this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations, asyncDynamoDBOperations);
 		}
 
 		@Override
@@ -168,18 +175,38 @@ public class DynamoDBQueryLookupStrategy {
 	 * @return The created {@link QueryLookupStrategy}
 	 */
 	public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations, Key key) {
+		return create(dynamoDBOperations, null, key);
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} for the given
+	 * {@link com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper} and
+	 * {@link Key} that executes query methods returning a
+	 * {@link java.util.concurrent.CompletableFuture} via the given
+	 * {@link AsyncDynamoDBOperations}.
+	 *
+	 * @param dynamoDBOperations
+	 *            The current operation
+	 * @param asyncDynamoDBOperations
+	 *            The asynchronous operations - can be {@code null}
+	 * @param key
+	 *            The key of the entity
+	 * @return The created {@link QueryLookupStrategy}
+	 */
+	public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, Key key) {
 
 		if (key == null) {
-			return new CreateQueryLookupStrategy(dynamoDBOperations);
+			return new CreateQueryLookupStrategy(dynamoDBOperations, asyncDynamoDBOperations);
 		}
 
 		switch (key) {
 			case CREATE :
-				return new CreateQueryLookupStrategy(dynamoDBOperations);
+				return new CreateQueryLookupStrategy(dynamoDBOperations, asyncDynamoDBOperations);
 			case USE_DECLARED_QUERY :
 				throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
 			case CREATE_IF_NOT_FOUND :
-				return new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations);
+				return new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations, asyncDynamoDBOperations);
 			default :
 				throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
 		}
@@ -22,13 +22,26 @@ import org.socialsignin.spring.data.dynamodb.repository.Query;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataSupport;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBHashAndRangeKeyExtractingEntityMetadata;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 
 import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QUERY_LIMIT_UNLIMITED;
 
@@ -39,29 +52,40 @@ import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QU
 public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 
 	private final Method method;
+	private final Class<?> repositoryInterface;
 	private final boolean scanEnabledForRepository;
 	private final boolean scanCountEnabledForRepository;
 	private final Optional<String> projectionExpression;
+	private final Map<String, String> projectionExpressionAttributeNames;
 	private final Optional<Integer> limitResults;
 	private final Optional<String> filterExpression;
 	private final ExpressionAttribute[] expressionAttributeNames;
 	private final ExpressionAttribute[] expressionAttributeValues;
 	private final QueryConstants.ConsistentReadMode consistentReadMode;
+	private final boolean projecting;
+	private final boolean voidOrNumberQuery;
 
 	public DynamoDBQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory);
 		this.method = method;
+		this.repositoryInterface = metadata.getRepositoryInterface();
 		this.scanEnabledForRepository = metadata.getRepositoryInterface().isAnnotationPresent(EnableScan.class);
 		this.scanCountEnabledForRepository = metadata.getRepositoryInterface()
 				.isAnnotationPresent(EnableScanCount.class);
+		this.projecting = getResultProcessor().getReturnedType().isProjecting()
+				|| getParameters().hasDynamicProjection();
+		Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(method.getReturnType());
+		this.voidOrNumberQuery = returnType == Void.class || returnType == Long.class || returnType == Integer.class;
 
 		Query query = method.getAnnotation(Query.class);
 		if (query != null) {
 			String projections = query.fields();
 			if (!StringUtils.isEmpty(projections)) {
 				this.projectionExpression = Optional.of(query.fields());
+				this.projectionExpressionAttributeNames = Collections.emptyMap();
 			} else {
-				this.projectionExpression = Optional.empty();
+				this.projectionExpressionAttributeNames = deriveProjectionExpressionAttributeNames();
+				this.projectionExpression = projectionExpressionOf(projectionExpressionAttributeNames);
 			}
 			String filterExp = query.filterExpression();
 			if(!StringUtils.isEmpty(filterExp)) {
@@ -79,7 +103,8 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 			}
 			this.consistentReadMode = query.consistentReads();
 		} else {
-			this.projectionExpression = Optional.empty();
+			this.projectionExpressionAttributeNames = deriveProjectionExpressionAttributeNames();
+			this.projectionExpression = projectionExpressionOf(projectionExpressionAttributeNames);
 			this.limitResults = Optional.empty();
 			this.consistentReadMode = QueryConstants.ConsistentReadMode.DEFAULT;
 			this.filterExpression = Optional.empty();
@@ -88,6 +113,65 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		}
 	}
 
+	/**
+	 * Derives the projection expression from the properties of a closed interface
+	 * or DTO projection returned by the method, so that only those attributes are
+	 * read from DynamoDB. The key attributes are always included so the
+	 * projected entities can still be identified.
+	 *
+	 * @return the attribute names by their {@code #pN} placeholders - empty if the
+	 *         method does not return a closed projection
+	 */
+	private Map<String, String> deriveProjectionExpressionAttributeNames() {
+		ReturnedType returnedType = getResultProcessor().getReturnedType();
+		if (!returnedType.isProjecting() || returnedType.getInputProperties().isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		return projectionExpressionAttributeNamesOf(returnedType.getInputProperties());
+	}
+
+	/**
+	 * Returns the projection expression that reads only the key attributes of the
+	 * entity, e.g. to find out whether an item exists without transferring it.
+	 *
+	 * @return the comma separated {@code #pN} placeholders of the key attributes
+	 * @see #getKeyProjectionExpressionAttributeNames()
+	 */
+	public String getKeyProjectionExpression() {
+		return String.join(",", getKeyProjectionExpressionAttributeNames().keySet());
+	}
+
+	/**
+	 * @return the key attribute names by their placeholders in
+	 *         {@link #getKeyProjectionExpression()}
+	 */
+	public Map<String, String> getKeyProjectionExpressionAttributeNames() {
+		return projectionExpressionAttributeNamesOf(Collections.emptyList());
+	}
+
+	private Map<String, String> projectionExpressionAttributeNamesOf(Collection<String> inputProperties) {
+		DynamoDBEntityInformation<T, ID> entityInformation = getEntityInformation();
+		Set<String> propertyNames = new LinkedHashSet<>();
+		propertyNames.add(entityInformation.getHashKeyPropertyName());
+		if (entityInformation instanceof DynamoDBHashAndRangeKeyExtractingEntityMetadata) {
+			propertyNames.add(((DynamoDBHashAndRangeKeyExtractingEntityMetadata<?, ?>) entityInformation)
+					.getRangeKeyPropertyName());
+		}
+		propertyNames.addAll(inputProperties);
+
+		// Placeholders, as attribute names may be reserved words
+		Map<String, String> names = new LinkedHashMap<>();
+		propertyNames.stream()
+				.map(propertyName -> entityInformation.getOverriddenAttributeName(propertyName).orElse(propertyName))
+				.distinct().forEach(attributeName -> names.put("#p" + names.size(), attributeName));
+		return Collections.unmodifiableMap(names);
+	}
+
+	private static Optional<String> projectionExpressionOf(Map<String, String> attributeNames) {
+		return attributeNames.isEmpty() ? Optional.empty() : Optional.of(String.join(",", attributeNames.keySet()));
+	}
+
 	/**
 	 * Returns the actual return type of the method.
 	 * 
@@ -98,10 +182,69 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return method.getReturnType();
 	}
 
+	/**
+	 * Returns whether the method returns a {@link CompletableFuture} (or one of
+	 * its interfaces {@link Future} and {@link CompletionStage}) and therefore can
+	 * be executed without blocking.
+	 *
+	 * @return {@code true} if the query can be executed asynchronously
+	 */
+	public boolean isAsyncQuery() {
+		Class<?> returnType = method.getReturnType();
+		return CompletableFuture.class.equals(returnType) || CompletionStage.class.equals(returnType)
+				|| Future.class.equals(returnType);
+	}
+
+	/**
+	 * Returns whether the method returns a reactive wrapper type like
+	 * {@link reactor.core.publisher.Flux} or {@link reactor.core.publisher.Mono}.
+	 * Plain futures are handled by {@link #isAsyncQuery()} instead.
+	 *
+	 * @return {@code true} if the query has to be executed reactively
+	 */
+	public boolean isReactiveQuery() {
+		return !isAsyncQuery() && ReactiveWrappers.supports(method.getReturnType());
+	}
+
+	/**
+	 * Returns whether the method returns a projection instead of the entities,
+	 * either statically or via a dynamic projection parameter.
+	 *
+	 * @return {@code true} if the results have to be converted into projections
+	 */
+	public boolean isProjecting() {
+		return projecting;
+	}
+
+	/**
+	 * @return {@code true} if the method returns nothing or a number, e.g. the
+	 *         number of items removed by a derived delete query, so the matching
+	 *         entities do not need to be returned
+	 */
+	public boolean isVoidOrNumberQuery() {
+		return voidOrNumberQuery;
+	}
+
 	public boolean isScanEnabled() {
 		return scanEnabledForRepository || method.isAnnotationPresent(EnableScan.class);
 	}
 
+	/**
+	 * Returns the number of segments a scan backing this query method is split
+	 * into, taken from {@link EnableScan#parallelism()} of the method or -
+	 * if not annotated - the repository interface.
+	 *
+	 * @return the number of parallel scan segments, {@code 1} for a sequential
+	 *         scan
+	 */
+	public int getScanParallelism() {
+		EnableScan enableScan = method.getAnnotation(EnableScan.class);
+		if (enableScan == null) {
+			enableScan = repositoryInterface.getAnnotation(EnableScan.class);
+		}
+		return enableScan == null ? 1 : enableScan.parallelism();
+	}
+
 	public boolean isScanCountEnabled() {
 		return scanCountEnabledForRepository || method.isAnnotationPresent(EnableScanCount.class);
 	}
@@ -127,6 +270,15 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return this.projectionExpression;
 	}
 
+	/**
+	 * @return the attribute names by their placeholders in
+	 *         {@link #getProjectionExpression()} - empty if the expression is
+	 *         declared by {@link Query#fields()}
+	 */
+	public Map<String, String> getProjectionExpressionAttributeNames() {
+		return this.projectionExpressionAttributeNames;
+	}
+
 	public Optional<Integer> getLimitResults() {
 		return this.limitResults;
 	}
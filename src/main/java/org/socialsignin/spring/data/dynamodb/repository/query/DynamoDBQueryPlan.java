@@ -0,0 +1,142 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.repository.support.ExpressionAttributeHolder;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * The parts of a derived query that depend on the query method only, not on
+ * the values of an invocation: the filter expression with its attribute names
+ * and value placeholders, the attribute names of the projection expression and
+ * of the properties and the global secondary index chosen for a set of
+ * conditions. Every part is compiled by the first invocation needing it and
+ * then shared by all following invocations, which only bind their values.
+ *
+ * The plan does not hold the operation, i.e. whether an invocation loads,
+ * queries or scans, nor the key conditions. Both are still built per
+ * invocation by the criteria, as they depend on the bound values: a composite
+ * id parameter with a {@code null} range key turns a load into a query, and an
+ * {@code IN} on the hash key is resolved by key lookups only without a limit.
+ *
+ * @see PartTreeDynamoDBQuery
+ */
+public class DynamoDBQueryPlan {
+
+	/**
+	 * Part types expanding a collection parameter into one placeholder per
+	 * element, so the filter expression depends on the number of elements.
+	 */
+	private static final Set<Part.Type> COLLECTION_PART_TYPES = EnumSet.of(Part.Type.IN, Part.Type.NOT_IN,
+			Part.Type.CONTAINING, Part.Type.NOT_CONTAINING);
+
+	private final boolean filterExpressionCacheable;
+	private final Map<String, String> projectionExpressionAttributeNames;
+	private final ConcurrentMap<String, String> attributeNamesByPropertyName = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Set<String>, Optional<String>> indexNamesByAttributeNames = new ConcurrentHashMap<>();
+	private volatile FilterExpression filterExpression;
+
+	public DynamoDBQueryPlan(PartTree tree) {
+		this(tree, Collections.emptyMap());
+	}
+
+	/**
+	 * @param tree
+	 *            the parsed query method
+	 * @param projectionExpressionAttributeNames
+	 *            the attribute names by their placeholders in the projection
+	 *            expression of the query method
+	 */
+	public DynamoDBQueryPlan(PartTree tree, Map<String, String> projectionExpressionAttributeNames) {
+		this.filterExpressionCacheable = tree.getParts().stream()
+				.noneMatch(part -> COLLECTION_PART_TYPES.contains(part.getType()));
+		this.projectionExpressionAttributeNames = projectionExpressionAttributeNames;
+	}
+
+	Map<String, String> getProjectionExpressionAttributeNames() {
+		return projectionExpressionAttributeNames;
+	}
+
+	/**
+	 * @return the compiled filter expression or {@code null} if it has to be built
+	 *         for the current invocation
+	 */
+	@Nullable
+	FilterExpression getFilterExpression() {
+		return filterExpression;
+	}
+
+	void compileFilterExpression(String expression, List<ExpressionAttributeHolder> expressionAttributeNames,
+			List<ExpressionAttributeHolder> expressionAttributeValues) {
+		if (filterExpressionCacheable) {
+			filterExpression = new FilterExpression(expression, expressionAttributeNames, expressionAttributeValues);
+		}
+	}
+
+	ConcurrentMap<String, String> getAttributeNamesByPropertyName() {
+		return attributeNamesByPropertyName;
+	}
+
+	@Nullable
+	String getGlobalSecondaryIndexName(Set<String> attributeNames, Supplier<String> indexNameResolver) {
+		Optional<String> indexName = indexNamesByAttributeNames.get(attributeNames);
+		if (indexName == null) {
+			indexName = Optional.ofNullable(indexNameResolver.get());
+			indexNamesByAttributeNames.putIfAbsent(new HashSet<>(attributeNames), indexName);
+		}
+		return indexName.orElse(null);
+	}
+
+	static final class FilterExpression {
+
+		private final String expression;
+		private final List<ExpressionAttributeHolder> expressionAttributeNames;
+		private final List<ExpressionAttributeHolder> expressionAttributeValues;
+
+		private FilterExpression(String expression, List<ExpressionAttributeHolder> expressionAttributeNames,
+				List<ExpressionAttributeHolder> expressionAttributeValues) {
+			this.expression = expression;
+			this.expressionAttributeNames = Collections.unmodifiableList(new ArrayList<>(expressionAttributeNames));
+			this.expressionAttributeValues = Collections.unmodifiableList(new ArrayList<>(expressionAttributeValues));
+		}
+
+		String getExpression() {
+			return expression;
+		}
+
+		List<ExpressionAttributeHolder> getExpressionAttributeNames() {
+			return expressionAttributeNames;
+		}
+
+		List<ExpressionAttributeHolder> getExpressionAttributeValues() {
+			return expressionAttributeValues;
+		}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.springframework.data.repository.query.Parameters;
@@ -22,6 +23,8 @@ import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import java.util.Optional;
+
 /**
  * @author Michael Lavelle
  * @author Sebastian Just
@@ -30,25 +33,51 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
 
 	private final Parameters<?, ?> parameters;
 	private final PartTree tree;
+	private final Optional<String> projectionExpression;
+	private final boolean keysOnlyDelete;
+	private final DynamoDBQueryPlan queryPlan;
 
 	public PartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
-		super(dynamoDBOperations, method);
+		this(dynamoDBOperations, null, method);
+	}
+
+	public PartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
+		super(dynamoDBOperations, asyncDynamoDBOperations, method);
 		this.parameters = method.getParameters();
 		this.tree = new PartTree(method.getName(), method.getEntityType());
+		// Existence checks only need to know whether an item matches and deletes
+		// not returning the deleted entities only need the keys of the items
+		this.keysOnlyDelete = tree.isDelete() && method.isVoidOrNumberQuery();
+		boolean keysOnly = tree.isExistsProjection() || keysOnlyDelete;
+		this.projectionExpression = keysOnly
+				? Optional.ofNullable(method.getKeyProjectionExpression())
+				: method.getProjectionExpression();
+		// Shared by all invocations, which then only bind their values
+		this.queryPlan = new DynamoDBQueryPlan(tree, keysOnly
+				? method.getKeyProjectionExpressionAttributeNames()
+				: method.getProjectionExpressionAttributeNames());
 	}
 
 	protected DynamoDBQueryCreator<T, ID> createQueryCreator(ParametersParameterAccessor accessor) {
 		DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
+		// Events, callbacks and version checks of the deletes need the full entities
+		Optional<String> projection = keysOnlyDelete
+				&& dynamoDBOperations.isEntityRequiredForDelete(queryMethod.getEntityType())
+						? Optional.empty()
+						: projectionExpression;
 		return new DynamoDBQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(),
-				queryMethod.getProjectionExpression(), queryMethod.getLimitResults(), queryMethod.getConsistentReadMode(), queryMethod.getFilterExpression(),
-				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations);
+				projection, queryMethod.getLimitResults(), queryMethod.getConsistentReadMode(), queryMethod.getFilterExpression(),
+				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations,
+				queryPlan);
 	}
 
 	protected DynamoDBCountQueryCreator<T, ID> createCountQueryCreator(ParametersParameterAccessor accessor,
 			boolean pageQuery) {
 		DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
 		return new DynamoDBCountQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(), queryMethod.getFilterExpression(),
-				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations, pageQuery);
+				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations, pageQuery,
+				queryPlan);
 	}
 
 	@Override
@@ -0,0 +1,94 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.ResultPageFlux;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Executes an {@link AbstractDynamoDBQuery} returning a {@link Flux} or
+ * {@link Mono}. Multi-valued results are streamed page by page via
+ * {@link ResultPageFlux}, so the next DynamoDB page is only fetched once
+ * downstream asks for more items. A {@code Page} or {@code Slice} is emitted
+ * as a single value once the items up to the requested page are read.
+ *
+ * Kept separate from {@link AbstractDynamoDBQuery} so that Project Reactor is
+ * only required on the classpath if reactive query methods are declared.
+ */
+class ReactiveDynamoDBQueryExecution<T, ID> {
+
+	/**
+	 * Maximum number of items of a single BatchWriteItem request
+	 */
+	private static final int MAX_BATCH_WRITE_SIZE = 25;
+
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+
+	ReactiveDynamoDBQueryExecution(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+	}
+
+	Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+		DynamoDBQueryMethod<T, ID> method = dynamoDBQuery.getQueryMethod();
+		boolean singleValue = ReactiveWrappers.isSingleValueType(method.getReturnType());
+
+		if (method.isSliceQuery() || method.isPageQuery()) {
+			return Mono.defer(() -> Mono.fromFuture(dynamoDBQuery.readPageAsync(values)));
+		} else if (dynamoDBQuery.isCountQuery()) {
+			return Mono.defer(() -> Mono.fromFuture(dynamoDBQuery.doCreateCountQueryWithPermissions(values, false)
+					.getSingleResultAsync(asyncDynamoDBOperations)));
+		} else if (dynamoDBQuery.isExistsQuery()) {
+			return items(dynamoDBQuery, values).hasElements();
+		} else if (dynamoDBQuery.isDeleteQuery()) {
+			Flux<T> deleted = items(dynamoDBQuery, values).buffer(MAX_BATCH_WRITE_SIZE)
+					.concatMap(entities -> Mono.fromFuture(asyncDynamoDBOperations.batchDelete(entities))
+							.flatMapMany(failedBatches -> {
+								if (failedBatches.isEmpty()) {
+									return Flux.fromIterable(entities);
+								} else {
+									return Flux.error(
+											dynamoDBQuery.repackageToException(failedBatches, BatchDeleteException.class));
+								}
+							}));
+			if (!singleValue) {
+				return deleted;
+			}
+			return Void.class.equals(method.getReturnedObjectType()) ? deleted.then() : deleted.singleOrEmpty();
+		} else if (dynamoDBQuery.isSingleEntityResultsRestriction()) {
+			return items(dynamoDBQuery, values).next();
+		} else if (singleValue) {
+			return Mono.defer(() -> Mono.fromFuture(
+					dynamoDBQuery.doCreateQueryWithPermissions(values).getSingleResultAsync(asyncDynamoDBOperations)));
+		} else if (dynamoDBQuery.getResultsRestrictionIfApplicable() != null) {
+			return items(dynamoDBQuery, values).limitRequest(dynamoDBQuery.getResultsRestrictionIfApplicable());
+		} else {
+			return items(dynamoDBQuery, values);
+		}
+	}
+
+	private Flux<T> items(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+		return Flux.defer(() -> {
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			return ResultPageFlux.from(
+					exclusiveStartKey -> query.getResultPageAsync(asyncDynamoDBOperations, exclusiveStartKey));
+		});
+	}
+}
@@ -18,9 +18,13 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import com.amazonaws.util.VersionInfoUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.WriteBehind;
 import org.socialsignin.spring.data.dynamodb.repository.query.DynamoDBQueryLookupStrategy;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -29,9 +33,12 @@ import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.util.Version;
+import org.springframework.util.Assert;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.StringTokenizer;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.springframework.data.querydsl.QuerydslUtils.QUERY_DSL_PRESENT;
 
@@ -92,9 +99,17 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 	}
 
 	private final DynamoDBOperations dynamoDBOperations;
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private final List<WriteBehindBuffer<?, ?>> writeBehindBuffers = new CopyOnWriteArrayList<>();
 
 	public DynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations) {
+		this(dynamoDBOperations, null);
+	}
+
+	public DynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations) {
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
 	}
 
 	@Override
@@ -107,7 +122,7 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(DynamoDBQueryLookupStrategy.create(dynamoDBOperations, key));
+		return Optional.of(DynamoDBQueryLookupStrategy.create(dynamoDBOperations, asyncDynamoDBOperations, key));
 	}
 
 	/**
@@ -125,8 +140,56 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 	 */
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	protected <T, ID> DynamoDBCrudRepository<?, ?> getDynamoDBRepository(RepositoryMetadata metadata) {
-		return new SimpleDynamoDBPagingAndSortingRepository(getEntityInformation(metadata.getDomainType()),
-				dynamoDBOperations, getEnableScanPermissions(metadata));
+		DynamoDBEntityInformation entityInformation = getEntityInformation(metadata.getDomainType());
+		SimpleDynamoDBPagingAndSortingRepository repository = new SimpleDynamoDBPagingAndSortingRepository(
+				entityInformation, dynamoDBOperations, getEnableScanPermissions(metadata));
+
+		WriteBehind writeBehind = AnnotationUtils.findAnnotation(metadata.getRepositoryInterface(),
+				WriteBehind.class);
+		if (writeBehind != null) {
+			WriteBehindBuffer writeBehindBuffer = WriteBehindBuffers.acquire(dynamoDBOperations, entityInformation,
+					writeBehind);
+			writeBehindBuffers.add(writeBehindBuffer);
+			repository.setWriteBehindBuffer(writeBehindBuffer);
+		}
+		return repository;
+	}
+
+	/**
+	 * Releases the buffers of the {@link WriteBehind} repositories created by this
+	 * factory. Buffers no other repository uses anymore are written and stop their
+	 * background flushing.
+	 */
+	public void closeWriteBehindBuffers() {
+		for (WriteBehindBuffer<?, ?> writeBehindBuffer : writeBehindBuffers) {
+			try {
+				WriteBehindBuffers.release(dynamoDBOperations, writeBehindBuffer);
+			} catch (RuntimeException e) {
+				LOGGER.error("Closing write-behind buffer failed", e);
+			}
+		}
+		writeBehindBuffers.clear();
+	}
+
+	/**
+	 * Callback to create a {@link ReactiveDynamoDBCrudRepository} instance with
+	 * the given {@link RepositoryMetadata}
+	 *
+	 * @param <T>
+	 *            Type of the Entity
+	 * @param <ID>
+	 *            Type of the Hash (Primary) Key
+	 * @param metadata
+	 *            Metadata of the entity
+	 * @see #getTargetRepository(RepositoryInformation)
+	 * @return the created {@link ReactiveDynamoDBCrudRepository} instance
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected <T, ID> ReactiveDynamoDBCrudRepository<?, ?> getReactiveDynamoDBRepository(RepositoryMetadata metadata) {
+		Assert.state(asyncDynamoDBOperations != null,
+				"Reactive repositories require AsyncDynamoDBOperations - configure asyncDynamoDBOperationsRef");
+		return new SimpleReactiveDynamoDBCrudRepository(getEntityInformation(metadata.getDomainType()),
+				asyncDynamoDBOperations, getEnableScanPermissions(metadata));
 	}
 
 	protected EnableScanPermissions getEnableScanPermissions(RepositoryMetadata metadata) {
@@ -138,6 +201,9 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 		if (isQueryDslRepository(metadata.getRepositoryInterface())) {
 			throw new IllegalArgumentException("QueryDsl Support has not been implemented yet.");
 		}
+		if (metadata.isReactiveRepository()) {
+			return SimpleReactiveDynamoDBCrudRepository.class;
+		}
 		return SimpleDynamoDBPagingAndSortingRepository.class;
 	}
 
@@ -147,6 +213,9 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 
 	@Override
 	protected Object getTargetRepository(RepositoryInformation metadata) {
+		if (metadata.isReactiveRepository()) {
+			return getReactiveDynamoDBRepository(metadata);
+		}
 		return getDynamoDBRepository(metadata);
 	}
 
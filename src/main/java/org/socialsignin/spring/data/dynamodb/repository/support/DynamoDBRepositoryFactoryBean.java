@@ -15,10 +15,12 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
 import org.socialsignin.spring.data.dynamodb.repository.util.DynamoDBMappingContextProcessor;
 import org.socialsignin.spring.data.dynamodb.repository.util.Entity2DynamoDBTableSynchronizer;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Required;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
@@ -38,11 +40,15 @@ import java.io.Serializable;
  */
 public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
 		extends
-			RepositoryFactoryBeanSupport<T, S, ID> {
+			RepositoryFactoryBeanSupport<T, S, ID>
+		implements
+			DisposableBean {
 
 	private DynamoDBOperations dynamoDBOperations;
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
 	private Entity2DynamoDBTableSynchronizer<S, ID> tableSynchronizer;
 	private DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor;
+	private DynamoDBRepositoryFactory dynamoDBRepositoryFactory;
 
 	public DynamoDBRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
 		super(repositoryInterface);
@@ -53,12 +59,25 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 		assert dynamoDBOperations != null;
 		assert tableSynchronizer != null;
 		assert dynamoDBMappingContextProcessor != null;
-		DynamoDBRepositoryFactory dynamoDBRepositoryFactory = new DynamoDBRepositoryFactory(dynamoDBOperations);
+		dynamoDBRepositoryFactory = new DynamoDBRepositoryFactory(dynamoDBOperations,
+				asyncDynamoDBOperations);
 		dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(tableSynchronizer);
 		dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(dynamoDBMappingContextProcessor);
 		return dynamoDBRepositoryFactory;
 	}
 
+	/**
+	 * Writes the entities still buffered by a
+	 * {@link org.socialsignin.spring.data.dynamodb.repository.WriteBehind}
+	 * repository before the context shuts down.
+	 */
+	@Override
+	public void destroy() {
+		if (dynamoDBRepositoryFactory != null) {
+			dynamoDBRepositoryFactory.closeWriteBehindBuffers();
+		}
+	}
+
 	@Required
 	public void setDynamoDBMappingContextProcessor(
 			DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor) {
@@ -75,6 +94,10 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 		this.dynamoDBOperations = dynamoDBOperations;
 	}
 
+	public void setAsyncDynamoDBOperations(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+	}
+
 	@Required
 	public void setDynamoDBMappingContext(DynamoDBMappingContext dynamoDBMappingContext) {
 		setMappingContext(dynamoDBMappingContext);
@@ -38,9 +38,15 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 	private boolean countUnpaginatedScanEnabled = false;
 	private boolean deleteAllUnpaginatedScanEnabled = false;
 
+	private int findAllScanParallelism = 1;
+	private int countScanParallelism = 1;
+
 	public EnableScanAnnotationPermissions(Class<?> repositoryInterface) {
 		// Check to see if global EnableScan is declared at interface level
 		if (repositoryInterface.isAnnotationPresent(EnableScan.class)) {
+			int parallelism = repositoryInterface.getAnnotation(EnableScan.class).parallelism();
+			this.findAllScanParallelism = parallelism;
+			this.countScanParallelism = parallelism;
 			this.findAllUnpaginatedScanEnabled = true;
 			this.countUnpaginatedScanEnabled = true;
 			this.deleteAllUnpaginatedScanEnabled = true;
@@ -58,6 +64,7 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 
 				if (method.getName().equals("findAll")) {
 					findAllUnpaginatedScanEnabled = true;
+					findAllScanParallelism = method.getAnnotation(EnableScan.class).parallelism();
 					continue;
 				}
 
@@ -68,6 +75,7 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 
 				if (method.getName().equals("count")) {
 					countUnpaginatedScanEnabled = true;
+					countScanParallelism = method.getAnnotation(EnableScan.class).parallelism();
 					continue;
 				}
 
@@ -135,4 +143,14 @@ public class EnableScanAnnotationPermissions implements EnableScanPermissions {
 		return findAllPaginatedScanEnabled;
 	}
 
+	@Override
+	public int getFindAllScanParallelism() {
+		return findAllScanParallelism;
+	}
+
+	@Override
+	public int getCountScanParallelism() {
+		return countScanParallelism;
+	}
+
 }
@@ -31,4 +31,20 @@ public interface EnableScanPermissions {
 
 	boolean isCountUnpaginatedScanEnabled();
 
+	/**
+	 * @return the number of segments to scan in parallel for {@code findAll()}
+	 *         and {@code deleteAll()} - values below {@code 2} scan sequentially
+	 */
+	default int getFindAllScanParallelism() {
+		return 1;
+	}
+
+	/**
+	 * @return the number of segments to scan in parallel for {@code count()} -
+	 *         values below {@code 2} scan sequentially
+	 */
+	default int getCountScanParallelism() {
+		return 1;
+	}
+
 }
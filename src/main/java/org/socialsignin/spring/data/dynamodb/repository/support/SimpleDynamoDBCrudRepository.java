@@ -18,19 +18,28 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest.TransactionWriteOperation;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest.TransactionWriteOperationType;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
-import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBTransactionRepository;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBUpdateRepository;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
 import org.socialsignin.spring.data.dynamodb.utils.SortHandler;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -46,7 +55,8 @@ import java.util.stream.StreamSupport;
  */
 public class SimpleDynamoDBCrudRepository<T, ID>
 		implements
-			DynamoDBCrudRepository<T, ID>,
+			DynamoDBTransactionRepository<T, ID>,
+			DynamoDBUpdateRepository<T, ID>,
 			SortHandler,
 			ExceptionHandler {
 
@@ -58,6 +68,8 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 	protected DynamoDBOperations dynamoDBOperations;
 
+	private WriteBehindBuffer<T, ID> writeBehindBuffer;
+
 	public SimpleDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
 			DynamoDBOperations dynamoDBOperations, EnableScanPermissions enableScanPermissions) {
 		Assert.notNull(entityInformation, "entityInformation must not be null");
@@ -69,11 +81,26 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 		this.enableScanPermissions = enableScanPermissions;
 	}
 
+	/**
+	 * Buffers all saves in the given {@link WriteBehindBuffer} instead of writing
+	 * them immediately.
+	 */
+	void setWriteBehindBuffer(WriteBehindBuffer<T, ID> writeBehindBuffer) {
+		this.writeBehindBuffer = writeBehindBuffer;
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 
 		Assert.notNull(id, "The given id must not be null!");
 
+		if (writeBehindBuffer != null) {
+			Optional<T> buffered = writeBehindBuffer.get(id);
+			if (buffered.isPresent()) {
+				return buffered;
+			}
+		}
+
 		T result;
 		if (entityInformation.isRangeKeyAware()) {
 			result = dynamoDBOperations.load(domainType, entityInformation.getHashKey(id),
@@ -112,21 +139,91 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	@Override
 	public <S extends T> S save(S entity) {
 
+		if (writeBehindBuffer != null) {
+			writeBehindBuffer.add(entity);
+			return entity;
+		}
 		dynamoDBOperations.save(entity);
 		return entity;
 	}
 
+	@Override
+	public <S extends T> S update(S entity, String... propertyNames) {
+
+		Assert.notNull(entity, "The entity must not be null!");
+		Assert.notEmpty(propertyNames, "At least one property name must be given!");
+		if (writeBehindBuffer != null && writeBehindBuffer.get(entityInformation.getId(entity)).isPresent()) {
+			// The buffered save would overwrite the update with the whole entity anyway
+			writeBehindBuffer.add(entity);
+			return entity;
+		}
+		List<String> attributeNames = Arrays.stream(propertyNames).map(this::getAttributeName)
+				.collect(Collectors.toList());
+		dynamoDBOperations.update(entity, attributeNames);
+		return entity;
+	}
+
+	@Override
+	public Number increment(ID id, String propertyName, Number delta) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		flushBuffered(id);
+		return dynamoDBOperations.increment(domainType, entityInformation.getHashKey(id),
+				entityInformation.getRangeKey(id), getAttributeName(propertyName), delta);
+	}
+
+	@Override
+	public void appendToList(ID id, String propertyName, List<?> values) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		flushBuffered(id);
+		dynamoDBOperations.appendToList(domainType, entityInformation.getHashKey(id),
+				entityInformation.getRangeKey(id), getAttributeName(propertyName), values);
+	}
+
+	@Override
+	public void addToSet(ID id, String propertyName, Set<?> values) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		flushBuffered(id);
+		dynamoDBOperations.addToSet(domainType, entityInformation.getHashKey(id), entityInformation.getRangeKey(id),
+				getAttributeName(propertyName), values);
+	}
+
+	private String getAttributeName(String propertyName) {
+		return entityInformation.getOverriddenAttributeName(propertyName).orElse(propertyName);
+	}
+
+	/**
+	 * Writes a buffered entity before it is modified in place, as the buffered
+	 * save would overwrite the modification otherwise.
+	 */
+	private void flushBuffered(ID id) {
+		if (writeBehindBuffer != null && writeBehindBuffer.get(id).isPresent()) {
+			writeBehindBuffer.flush().join();
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
+	 * Items left unprocessed by DynamoDB are re-submitted according to the
+	 * {@link org.socialsignin.spring.data.dynamodb.core.BatchRetryPolicy} of the
+	 * template, by default a few times with jittered backoff.
+	 *
 	 * @throws BatchWriteException
-	 *             in case of an error during saving
+	 *             in case of an error during saving, including items still
+	 *             unprocessed after the retries
 	 */
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> entities)
 			throws BatchWriteException, IllegalArgumentException {
 
 		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		if (writeBehindBuffer != null) {
+			entities.forEach(writeBehindBuffer::add);
+			return entities;
+		}
 		List<FailedBatch> failedBatches = dynamoDBOperations.batchSave(entities);
 
 		if (failedBatches.isEmpty()) {
@@ -142,7 +239,13 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public boolean existsById(ID id) {
 
 		Assert.notNull(id, "The given id must not be null!");
-		return findById(id).isPresent();
+
+		if (writeBehindBuffer != null && writeBehindBuffer.get(id).isPresent()) {
+			return true;
+		}
+
+		return dynamoDBOperations.exists(domainType, entityInformation.getHashKey(id),
+				entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null);
 	}
 
 	void assertScanEnabled(boolean scanEnabled, String methodName) {
@@ -157,6 +260,10 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
 		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		int parallelism = enableScanPermissions.getFindAllScanParallelism();
+		if (parallelism > 1) {
+			return dynamoDBOperations.parallelScan(domainType, scanExpression, parallelism);
+		}
 		return dynamoDBOperations.scan(domainType, scanExpression);
 	}
 
@@ -164,6 +271,10 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public long count() {
 		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
 		final DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
+		int parallelism = enableScanPermissions.getCountScanParallelism();
+		if (parallelism > 1) {
+			return dynamoDBOperations.count(domainType, scanExpression, parallelism);
+		}
 		return dynamoDBOperations.count(domainType, scanExpression);
 	}
 
@@ -172,20 +283,37 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		Assert.notNull(id, "The given id must not be null!");
 
-		Optional<T> entity = findById(id);
-
-		if (entity.isPresent()) {
-			dynamoDBOperations.delete(entity.get());
+		if (writeBehindBuffer != null) {
+			Optional<T> buffered = writeBehindBuffer.get(id);
+			writeBehindBuffer.discard(id);
+			if (buffered.isPresent()) {
+				dynamoDBOperations.delete(buffered.get());
+				return;
+			}
+		}
 
+		if (dynamoDBOperations.isEntityRequiredForDelete(domainType)) {
+			// Events, callbacks and version checks need the entity
+			Optional<T> entity = findById(id);
+			if (entity.isPresent()) {
+				dynamoDBOperations.delete(entity.get());
+				return;
+			}
 		} else {
-			throw new EmptyResultDataAccessException(String.format("No %s entity with id %s exists!", domainType, id),
-					1);
+			Object rangeKey = entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null;
+			if (dynamoDBOperations.deleteByKey(domainType, entityInformation.getHashKey(id), rangeKey)) {
+				return;
+			}
 		}
+		throw new EmptyResultDataAccessException(String.format("No %s entity with id %s exists!", domainType, id), 1);
 	}
 
 	@Override
 	public void delete(T entity) {
 		Assert.notNull(entity, "The entity must not be null!");
+		if (writeBehindBuffer != null) {
+			writeBehindBuffer.discard(entityInformation.getId(entity));
+		}
 		dynamoDBOperations.delete(entity);
 	}
 
@@ -193,14 +321,63 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public void deleteAll(Iterable<? extends T> entities) {
 
 		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		if (writeBehindBuffer != null) {
+			entities.forEach(entity -> writeBehindBuffer.discard(entityInformation.getId(entity)));
+		}
 		dynamoDBOperations.batchDelete(entities);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Items left unprocessed by DynamoDB are re-submitted according to the
+	 * {@link org.socialsignin.spring.data.dynamodb.core.BatchRetryPolicy} of the
+	 * template, by default a few times with jittered backoff.
+	 *
+	 * @throws BatchDeleteException
+	 *             if items are still unprocessed after the retries
+	 */
 	@Override
 	public void deleteAll() {
 
 		assertScanEnabled(enableScanPermissions.isDeleteAllUnpaginatedScanEnabled(), "deleteAll");
-		dynamoDBOperations.batchDelete(findAll());
+		if (writeBehindBuffer != null) {
+			writeBehindBuffer.discardAll();
+		}
+		List<FailedBatch> failedBatches = dynamoDBOperations.deleteAll(domainType,
+				Math.max(enableScanPermissions.getFindAllScanParallelism(), 1));
+		if (!failedBatches.isEmpty()) {
+			throw repackageToException(failedBatches, BatchDeleteException.class);
+		}
+	}
+
+	@Override
+	public CompletableFuture<Void> flush() {
+		if (writeBehindBuffer == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return writeBehindBuffer.flush();
+	}
+
+	@Override
+	public void transactWrite(TransactionWriteRequest transactionWriteRequest) {
+		Assert.notNull(transactionWriteRequest, "The given transactionWriteRequest must not be null!");
+		if (writeBehindBuffer != null) {
+			// A buffered entity must not overwrite the transactional write later on
+			for (TransactionWriteOperation operation : transactionWriteRequest.getTransactionWriteOperations()) {
+				if (operation.getTransactionWriteOperationType() != TransactionWriteOperationType.ConditionCheck
+						&& domainType.isInstance(operation.getObject())) {
+					writeBehindBuffer.discard(entityInformation.getId(domainType.cast(operation.getObject())));
+				}
+			}
+		}
+		dynamoDBOperations.transactWrite(transactionWriteRequest);
+	}
+
+	@Override
+	public List<Object> transactGet(TransactionLoadRequest transactionLoadRequest) {
+		Assert.notNull(transactionLoadRequest, "The given transactionLoadRequest must not be null!");
+		return dynamoDBOperations.transactGet(transactionLoadRequest);
 	}
 
 	@NonNull
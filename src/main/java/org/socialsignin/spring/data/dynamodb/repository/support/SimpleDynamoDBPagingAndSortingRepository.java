@@ -17,7 +17,13 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationToken;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetPage;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetSlice;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -28,6 +34,7 @@ import org.springframework.util.Assert;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Default implementation of the
@@ -42,7 +49,8 @@ import java.util.List;
  * returning a sublist of the result-set.
  * 
  * NB: Number of results scanned for a given page request is proportional to the
- * page number requested!
+ * page number requested! Pass a {@link KeysetPageRequest} to continue the scan
+ * at the position of the previous page instead.
  * 
  * 
  * @author Michael Lavelle
@@ -73,6 +81,17 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 		ensureNoSort(pageable);
 
+		if (pageable instanceof KeysetPageRequest) {
+			KeysetSlice<T> slice = findAll((KeysetPageRequest) pageable);
+
+			assertScanCountEnabled(enableScanPermissions.isFindAllUnpaginatedScanCountEnabled(),
+					"findAll(Pageable pageable)");
+			int totalCount = dynamoDBOperations.count(domainType, new DynamoDBScanExpression());
+
+			return new KeysetPage<>(slice.getContent(), (KeysetPageRequest) pageable, totalCount,
+					slice.getContinuationToken());
+		}
+
 		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression();
 		// Scan to the end of the page after the requested page
 		long scanTo = pageable.getOffset() + (2 * pageable.getPageSize());
@@ -97,6 +116,51 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 	}
 
+	/**
+	 * Reads the page by continuing the scan at the continuation token. The
+	 * segments of a parallel scan are read one after the other, so a page still
+	 * costs a single request in most cases; the token records the segment
+	 * together with the position within it.
+	 */
+	@Override
+	public KeysetSlice<T> findAll(KeysetPageRequest pageable) {
+
+		ensureNoSort(pageable);
+		assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(), "findAll(Pageable pageable)");
+
+		int totalSegments = enableScanPermissions.getFindAllScanParallelism();
+		int segment = ContinuationToken.decodeSegment(pageable.getContinuationToken());
+		Assert.isTrue(segment < Math.max(totalSegments, 1),
+				"The continuation token does not match the scan parallelism of findAll");
+
+		Map<String, AttributeValue> exclusiveStartKey = ContinuationToken.decode(pageable.getContinuationToken());
+		List<T> results = new ArrayList<>(pageable.getPageSize());
+		boolean segmentsLeft = true;
+		while (segmentsLeft && results.size() < pageable.getPageSize()) {
+			DynamoDBScanExpression scanExpression = new DynamoDBScanExpression()
+					.withLimit(pageable.getPageSize() - results.size()).withExclusiveStartKey(exclusiveStartKey);
+			if (totalSegments > 1) {
+				scanExpression.withSegment(segment).withTotalSegments(totalSegments);
+			}
+
+			ScanResultPage<T> page = dynamoDBOperations.scanPage(domainType, scanExpression);
+			results.addAll(page.getResults());
+			exclusiveStartKey = page.getLastEvaluatedKey();
+			if (exclusiveStartKey == null) {
+				segment++;
+				segmentsLeft = segment < totalSegments;
+			}
+		}
+
+		String continuationToken;
+		if (totalSegments > 1) {
+			continuationToken = segmentsLeft ? ContinuationToken.encode(exclusiveStartKey, segment) : null;
+		} else {
+			continuationToken = ContinuationToken.encode(exclusiveStartKey);
+		}
+		return new KeysetSlice<>(results, pageable, continuationToken);
+	}
+
 	private long scanThroughResults(Iterator<T> paginatedScanListIterator, long resultsToScan) {
 		long processed = 0;
 		while (paginatedScanListIterator.hasNext() && processed < resultsToScan) {
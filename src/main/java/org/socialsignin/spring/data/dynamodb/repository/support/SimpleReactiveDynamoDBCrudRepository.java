@@ -0,0 +1,294 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.socialsignin.spring.data.dynamodb.query.ResultPage;
+import org.socialsignin.spring.data.dynamodb.query.ResultPageFlux;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Default implementation of the
+ * {@link org.springframework.data.repository.reactive.ReactiveCrudRepository}
+ * interface backed by {@link AsyncDynamoDBOperations}.
+ *
+ * Scans are fetched page by page on demand, so {@link #findAll()} and
+ * {@link #deleteAll()} never hold more than a single DynamoDB page in memory.
+ *
+ * @param <T>
+ *            the type of the entity to handle
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+public class SimpleReactiveDynamoDBCrudRepository<T, ID>
+		implements
+			ReactiveDynamoDBCrudRepository<T, ID>,
+			ExceptionHandler {
+
+	/**
+	 * Maximum number of items of a single BatchWriteItem request
+	 */
+	private static final int MAX_BATCH_WRITE_SIZE = 25;
+
+	/**
+	 * Maximum number of items of a single BatchGetItem request
+	 */
+	private static final int MAX_BATCH_GET_SIZE = 100;
+
+	protected DynamoDBEntityInformation<T, ID> entityInformation;
+
+	protected Class<T> domainType;
+
+	protected EnableScanPermissions enableScanPermissions;
+
+	protected AsyncDynamoDBOperations asyncDynamoDBOperations;
+
+	public SimpleReactiveDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, EnableScanPermissions enableScanPermissions) {
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(asyncDynamoDBOperations, "asyncDynamoDBOperations must not be null");
+
+		this.entityInformation = entityInformation;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.domainType = entityInformation.getJavaType();
+		this.enableScanPermissions = enableScanPermissions;
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+		Assert.notNull(entity, "The entity must not be null!");
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.save(entity)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws BatchWriteException
+	 *             signalled in case of an error during saving
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.batchSave(entities)))
+				.flatMapMany(failedBatches -> {
+					if (failedBatches.isEmpty()) {
+						// Happy path
+						return Flux.fromIterable(entities);
+					} else {
+						// Error handling:
+						return Flux.error(repackageToException(failedBatches, BatchWriteException.class));
+					}
+				});
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		Assert.notNull(entityStream, "The given Publisher of entities not be null!");
+		return Flux.from(entityStream).buffer(MAX_BATCH_WRITE_SIZE).concatMap(this::saveAll);
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+		Assert.notNull(id, "The given id must not be null!");
+
+		return Mono.defer(() -> {
+			if (entityInformation.isRangeKeyAware()) {
+				return Mono.fromFuture(asyncDynamoDBOperations.load(domainType, entityInformation.getHashKey(id),
+						entityInformation.getRangeKey(id)));
+			} else {
+				return Mono.fromFuture(asyncDynamoDBOperations.load(domainType, entityInformation.getHashKey(id)));
+			}
+		});
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+		return findById(id).hasElement();
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	void assertScanEnabled(boolean scanEnabled, String methodName) {
+		Assert.isTrue(scanEnabled, "Scanning for unpaginated " + methodName + "() queries is not enabled.  "
+				+ "To enable, re-implement the " + methodName
+				+ "() method in your repository interface and annotate with @EnableScan, or "
+				+ "enable scanning for all repository methods by annotating your repository interface with @EnableScan");
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
+		return scan();
+	}
+
+	private Flux<T> scan() {
+		return ResultPageFlux.from(exclusiveStartKey -> {
+			DynamoDBScanExpression scanExpression = new DynamoDBScanExpression()
+					.withExclusiveStartKey(exclusiveStartKey);
+			return asyncDynamoDBOperations.scanPage(domainType, scanExpression)
+					.thenApply(page -> new ResultPage<>(page.getResults(), page.getLastEvaluatedKey()));
+		});
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		Assert.notNull(ids, "The given ids must not be null!");
+
+		// Works only with non-parallel streams!
+		AtomicInteger idx = new AtomicInteger();
+		List<KeyPair> keyPairs = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+
+			Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
+
+			if (entityInformation.isRangeKeyAware()) {
+				return new KeyPair().withHashKey(entityInformation.getHashKey(id))
+						.withRangeKey(entityInformation.getRangeKey(id));
+			} else {
+				return new KeyPair().withHashKey(id);
+			}
+		}).collect(Collectors.toList());
+
+		Map<Class<?>, List<KeyPair>> keyPairsMap = Collections.<Class<?>, List<KeyPair>>singletonMap(domainType,
+				keyPairs);
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.<T>batchLoad(keyPairsMap)))
+				.flatMapIterable(Function.identity());
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+		Assert.notNull(idStream, "The given Publisher of ids must not be null!");
+		return Flux.from(idStream).buffer(MAX_BATCH_GET_SIZE).concatMap(this::findAllById);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.count(domainType, new DynamoDBScanExpression())))
+				.map(Long::valueOf);
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+		Assert.notNull(id, "The given id must not be null!");
+
+		return Mono.defer(() -> {
+			if (asyncDynamoDBOperations.isEntityRequiredForDelete(domainType)) {
+				// Events, callbacks and version checks need the entity
+				return findById(id).switchIfEmpty(notFound(id)).flatMap(this::delete);
+			}
+			Object rangeKey = entityInformation.isRangeKeyAware() ? entityInformation.getRangeKey(id) : null;
+			return Mono.fromFuture(
+					asyncDynamoDBOperations.deleteByKey(domainType, entityInformation.getHashKey(id), rangeKey))
+					.flatMap(deleted -> deleted ? Mono.<Void>empty() : notFound(id));
+		});
+	}
+
+	private <R> Mono<R> notFound(ID id) {
+		return Mono.error(() -> new EmptyResultDataAccessException(
+				String.format("No %s entity with id %s exists!", domainType, id), 1));
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+		Assert.notNull(entity, "The entity must not be null!");
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.delete(entity))).then();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws BatchDeleteException
+	 *             signalled in case of an error during deleting
+	 */
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.batchDelete(entities)))
+				.flatMap(failedBatches -> {
+					if (failedBatches.isEmpty()) {
+						return Mono.empty();
+					} else {
+						return Mono.error(repackageToException(failedBatches, BatchDeleteException.class));
+					}
+				});
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		Assert.notNull(entityStream, "The given Publisher of entities not be null!");
+		return Flux.from(entityStream).buffer(MAX_BATCH_WRITE_SIZE).concatMap(this::deleteAll).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		assertScanEnabled(enableScanPermissions.isDeleteAllUnpaginatedScanEnabled(), "deleteAll");
+		return deleteAll(scan());
+	}
+
+	@Override
+	public Mono<Void> transactWrite(TransactionWriteRequest transactionWriteRequest) {
+		Assert.notNull(transactionWriteRequest, "The given transactionWriteRequest must not be null!");
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.transactWrite(transactionWriteRequest)));
+	}
+
+	@Override
+	public Mono<List<Object>> transactGet(TransactionLoadRequest transactionLoadRequest) {
+		Assert.notNull(transactionLoadRequest, "The given transactionLoadRequest must not be null!");
+		return Mono.defer(() -> Mono.fromFuture(asyncDynamoDBOperations.transactGet(transactionLoadRequest)));
+	}
+
+	@NonNull
+	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
+		return this.entityInformation;
+	}
+}
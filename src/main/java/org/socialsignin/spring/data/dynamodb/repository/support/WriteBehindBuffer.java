@@ -0,0 +1,368 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.socialsignin.spring.data.dynamodb.repository.WriteBehind;
+import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers the entities saved to one table through {@link WriteBehind}
+ * repositories and writes them as BatchWriteItem requests. Entities are keyed by their hash and
+ * range key, so only the last of repeated saves of the same item is written.
+ *
+ * Flushes never overlap, so the writes of one key reach DynamoDB in the order
+ * they were saved. The entities are buffered in their converted form, so
+ * changing an entity after it was saved does not change the buffered item.
+ *
+ * Items that could not be written are put back into the buffer - unless they
+ * were saved again or discarded in the meantime - and written with the next
+ * flush. The future of the failed flush completes with the failure.
+ *
+ * @param <T>
+ *            the type of the entity to handle
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+class WriteBehindBuffer<T, ID> implements ExceptionHandler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+	/**
+	 * Maximum number of items of a single BatchWriteItem request
+	 */
+	private static final int MAX_BATCH_WRITE_SIZE = 25;
+
+	private final DynamoDBOperations dynamoDBOperations;
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+	private final DynamoDBMapperTableModel<T> tableModel;
+	private final long maxDelayMs;
+	private final int maxBatch;
+	private final int capacity;
+	private final ScheduledExecutorService scheduler;
+
+	private final Object lock = new Object();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private Map<List<Object>, Map<String, AttributeValue>> pending = new LinkedHashMap<>();
+	private Map<List<Object>, Map<String, AttributeValue>> inFlight = Collections.emptyMap();
+	private CompletableFuture<Void> nextFlush = new CompletableFuture<>();
+	private ScheduledFuture<?> scheduledFlush;
+	private boolean flushRequested;
+	private boolean closed;
+
+	WriteBehindBuffer(DynamoDBOperations dynamoDBOperations, DynamoDBEntityInformation<T, ID> entityInformation,
+			WriteBehind writeBehind) {
+		this(dynamoDBOperations, entityInformation, dynamoDBOperations.getTableModel(entityInformation.getJavaType()),
+				writeBehind.maxDelayMs(), writeBehind.maxBatch(), writeBehind.capacity(), Executors.newSingleThreadScheduledExecutor(
+						threadFactory("write-behind-" + entityInformation.getJavaType().getSimpleName() + "-")));
+	}
+
+	WriteBehindBuffer(DynamoDBOperations dynamoDBOperations, DynamoDBEntityInformation<T, ID> entityInformation,
+			DynamoDBMapperTableModel<T> tableModel, long maxDelayMs, int maxBatch, int capacity,
+			ScheduledExecutorService scheduler) {
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(tableModel, "tableModel must not be null");
+		Assert.isTrue(maxDelayMs >= 0, "maxDelayMs must not be negative");
+		Assert.isTrue(maxBatch > 0 && maxBatch <= MAX_BATCH_WRITE_SIZE,
+				"maxBatch must be between 1 and " + MAX_BATCH_WRITE_SIZE);
+		Assert.isTrue(capacity >= maxBatch, "capacity must not be less than maxBatch");
+		Assert.notNull(scheduler, "scheduler must not be null");
+
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.entityInformation = entityInformation;
+		this.tableModel = tableModel;
+		this.maxDelayMs = maxDelayMs;
+		this.maxBatch = maxBatch;
+		this.capacity = capacity;
+		this.scheduler = scheduler;
+	}
+
+	private static CustomizableThreadFactory threadFactory(String threadNamePrefix) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	/**
+	 * Buffers the entity, replacing a previously buffered entity with the same
+	 * key. Blocks while the buffer is flushed if its capacity is reached.
+	 *
+	 * Entities without a complete key - i.e. with a
+	 * {@code @DynamoDBAutoGeneratedKey} - are saved right away, as the key is
+	 * generated by the mapper and can't collide with a buffered entity.
+	 */
+	void add(T entity) {
+		Assert.notNull(entity, "The entity must not be null!");
+		ID id = entityInformation.getId(entity);
+		if (!hasCompleteKey(id)) {
+			dynamoDBOperations.save(entity);
+			return;
+		}
+
+		Map<String, AttributeValue> item = tableModel.convert(entity);
+		boolean full;
+		synchronized (lock) {
+			Assert.state(!closed, "The write-behind buffer of " + entityInformation.getJavaType() + " is closed");
+			pending.put(keyOf(id), item);
+			full = pending.size() >= capacity;
+			if (!full) {
+				if (pending.size() >= maxBatch) {
+					if (!flushRequested) {
+						flushRequested = true;
+						scheduler.execute(this::flushPending);
+					}
+				} else if (scheduledFlush == null) {
+					scheduledFlush = scheduler.schedule(this::flushPending, maxDelayMs, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+		if (full) {
+			flushPending();
+		}
+	}
+
+	/**
+	 * @return a copy of the entity saved last with the given id if it is not yet
+	 *         written
+	 */
+	Optional<T> get(ID id) {
+		List<Object> key = keyOf(id);
+		Map<String, AttributeValue> item;
+		synchronized (lock) {
+			item = pending.get(key);
+			if (item == null) {
+				item = inFlight.get(key);
+			}
+		}
+		return Optional.ofNullable(item).map(tableModel::unconvert);
+	}
+
+	/**
+	 * Drops the buffered entity with the given id and waits for a running flush,
+	 * so that a subsequent delete is not overwritten by a buffered save.
+	 */
+	void discard(ID id) {
+		List<Object> key = keyOf(id);
+		synchronized (lock) {
+			pending.remove(key);
+			inFlight.remove(key);
+		}
+		awaitRunningFlush();
+	}
+
+	/**
+	 * Drops all buffered entities and waits for a running flush.
+	 */
+	void discardAll() {
+		synchronized (lock) {
+			pending.clear();
+			inFlight = Collections.emptyMap();
+		}
+		awaitRunningFlush();
+	}
+
+	private void awaitRunningFlush() {
+		flushLock.lock();
+		flushLock.unlock();
+	}
+
+	/**
+	 * @return a future that completes once all entities buffered before this
+	 *         call are written
+	 */
+	CompletableFuture<Void> flush() {
+		CompletableFuture<Void> flushed;
+		boolean flushInline;
+		synchronized (lock) {
+			flushed = nextFlush;
+			flushInline = closed;
+		}
+		if (flushInline) {
+			flushPending();
+		} else {
+			scheduler.execute(this::flushPending);
+		}
+		return flushed;
+	}
+
+	/**
+	 * Writes all buffered entities and stops the background flushing. Entities
+	 * added afterwards are rejected.
+	 *
+	 * @throws RuntimeException
+	 *             if not all buffered entities could be written
+	 */
+	void close() {
+		synchronized (lock) {
+			closed = true;
+		}
+		RuntimeException failure;
+		try {
+			failure = writePending();
+		} finally {
+			scheduler.shutdown();
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void flushPending() {
+		writePending();
+	}
+
+	/**
+	 * @return the failure if not all entities could be written
+	 */
+	private RuntimeException writePending() {
+		flushLock.lock();
+		try {
+			Map<List<Object>, Map<String, AttributeValue>> batch;
+			CompletableFuture<Void> flushed;
+			synchronized (lock) {
+				batch = pending;
+				pending = new LinkedHashMap<>();
+				// A copy, as discarded keys are removed from it
+				inFlight = new LinkedHashMap<>(batch);
+				flushed = nextFlush;
+				nextFlush = new CompletableFuture<>();
+				flushRequested = false;
+				if (scheduledFlush != null) {
+					scheduledFlush.cancel(false);
+					scheduledFlush = null;
+				}
+			}
+
+			List<FailedBatch> failedBatches = new ArrayList<>();
+			Map<List<Object>, Map<String, AttributeValue>> failed = new LinkedHashMap<>();
+			RuntimeException failure = null;
+			List<List<Object>> keys = new ArrayList<>(batch.keySet());
+			for (int i = 0; i < keys.size(); i += maxBatch) {
+				List<List<Object>> chunk = keys.subList(i, Math.min(i + maxBatch, keys.size()));
+				try {
+					List<T> entities = new ArrayList<>(chunk.size());
+					for (List<Object> key : chunk) {
+						entities.add(tableModel.unconvert(batch.get(key)));
+					}
+					for (FailedBatch failedBatch : dynamoDBOperations.batchSave(entities)) {
+						failedBatches.add(failedBatch);
+						collectFailed(failedBatch, chunk, batch, failed);
+					}
+				} catch (RuntimeException e) {
+					// Nothing of the remaining chunks is written
+					for (List<Object> key : keys.subList(i, keys.size())) {
+						failed.put(key, batch.get(key));
+					}
+					failure = e;
+					break;
+				}
+			}
+			if (failure == null && !failedBatches.isEmpty()) {
+				failure = repackageToException(failedBatches, BatchWriteException.class);
+			}
+
+			synchronized (lock) {
+				requeue(failed);
+				inFlight = Collections.emptyMap();
+			}
+
+			if (failure == null) {
+				flushed.complete(null);
+			} else {
+				LOGGER.error("Writing {} buffered {} entities failed, they are written with the next flush",
+						failed.size(), entityInformation.getJavaType(), failure);
+				flushed.completeExceptionally(failure);
+			}
+			return failure;
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Collects the buffered items of the given chunk that were not written. A
+	 * failed batch without unprocessed items failed as a whole.
+	 */
+	private void collectFailed(FailedBatch failedBatch, List<List<Object>> chunk,
+			Map<List<Object>, Map<String, AttributeValue>> batch,
+			Map<List<Object>, Map<String, AttributeValue>> failed) {
+		Map<String, List<WriteRequest>> unprocessedItems = failedBatch.getUnprocessedItems();
+		if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+			for (List<Object> key : chunk) {
+				failed.put(key, batch.get(key));
+			}
+			return;
+		}
+		for (List<WriteRequest> writeRequests : unprocessedItems.values()) {
+			for (WriteRequest writeRequest : writeRequests) {
+				if (writeRequest.getPutRequest() != null) {
+					Map<String, AttributeValue> item = writeRequest.getPutRequest().getItem();
+					failed.put(keyOf(entityInformation.getId(tableModel.unconvert(item))), item);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Puts the failed items back in front of the buffered ones. Items saved again
+	 * or discarded while they were written are not put back.
+	 */
+	private void requeue(Map<List<Object>, Map<String, AttributeValue>> failed) {
+		if (failed.isEmpty()) {
+			return;
+		}
+		Map<List<Object>, Map<String, AttributeValue>> requeued = new LinkedHashMap<>();
+		failed.forEach((key, item) -> {
+			if (inFlight.containsKey(key) && !pending.containsKey(key)) {
+				requeued.put(key, item);
+			}
+		});
+		requeued.putAll(pending);
+		pending = requeued;
+	}
+
+	private boolean hasCompleteKey(ID id) {
+		return id != null && entityInformation.getHashKey(id) != null
+				&& (!entityInformation.isRangeKeyAware() || entityInformation.getRangeKey(id) != null);
+	}
+
+	private List<Object> keyOf(ID id) {
+		return Arrays.asList(entityInformation.getHashKey(id), entityInformation.getRangeKey(id));
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.WriteBehind;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Shares one {@link WriteBehindBuffer} per table between all {@link WriteBehind}
+ * repositories using the same {@link DynamoDBOperations}, so that saves of the
+ * same item are coalesced and written in order no matter through which
+ * repository they were made. The settings of the first repository's
+ * {@link WriteBehind} apply to the shared buffer.
+ *
+ * A buffer is closed once the last repository using it is released.
+ */
+final class WriteBehindBuffers {
+
+	private static final Map<DynamoDBOperations, Map<String, Registration>> BUFFERS = new IdentityHashMap<>();
+
+	private static final class Registration {
+		private final WriteBehindBuffer<?, ?> buffer;
+		private final Class<?> domainType;
+		private int users;
+
+		private Registration(WriteBehindBuffer<?, ?> buffer, Class<?> domainType) {
+			this.buffer = buffer;
+			this.domainType = domainType;
+		}
+	}
+
+	private WriteBehindBuffers() {
+	}
+
+	/**
+	 * @return the buffer of the entity's table - created if no other repository
+	 *         buffers this table yet
+	 * @throws IllegalStateException
+	 *             if the entity is versioned, as BatchWriteItem requests can
+	 *             neither check nor increment the version attribute, or if the
+	 *             table is already buffered for another entity type
+	 */
+	@SuppressWarnings("unchecked")
+	static synchronized <T, ID> WriteBehindBuffer<T, ID> acquire(DynamoDBOperations dynamoDBOperations,
+			DynamoDBEntityInformation<T, ID> entityInformation, WriteBehind writeBehind) {
+		Class<T> domainType = entityInformation.getJavaType();
+		Assert.state(!dynamoDBOperations.getTableModel(domainType).versioned(),
+				"@WriteBehind is not supported for " + domainType + " as it has a @DynamoDBVersionAttribute");
+
+		String tableName = dynamoDBOperations.getOverriddenTableName(domainType,
+				entityInformation.getDynamoDBTableName());
+		Map<String, Registration> tables = BUFFERS.computeIfAbsent(dynamoDBOperations, ops -> new HashMap<>());
+		Registration registration = tables.get(tableName);
+		if (registration == null) {
+			registration = new Registration(new WriteBehindBuffer<>(dynamoDBOperations, entityInformation, writeBehind),
+					domainType);
+			tables.put(tableName, registration);
+		} else {
+			Assert.state(registration.domainType == domainType, "Table " + tableName + " is already write-behind "
+					+ "buffered for " + registration.domainType + " and can't be buffered for " + domainType);
+		}
+		registration.users++;
+		return (WriteBehindBuffer<T, ID>) registration.buffer;
+	}
+
+	/**
+	 * Releases a buffer acquired by {@link #acquire}. The last release writes the
+	 * entities still buffered and stops the background flushing.
+	 */
+	static void release(DynamoDBOperations dynamoDBOperations, WriteBehindBuffer<?, ?> buffer) {
+		boolean unused = false;
+		synchronized (WriteBehindBuffers.class) {
+			Map<String, Registration> tables = BUFFERS.get(dynamoDBOperations);
+			if (tables != null) {
+				for (Map.Entry<String, Registration> entry : tables.entrySet()) {
+					Registration registration = entry.getValue();
+					if (registration.buffer == buffer) {
+						unused = --registration.users == 0;
+						if (unused) {
+							tables.remove(entry.getKey());
+							if (tables.isEmpty()) {
+								BUFFERS.remove(dynamoDBOperations);
+							}
+						}
+						break;
+					}
+				}
+			}
+		}
+		// Flush outside of the registry lock, other tables must not wait for it
+		if (unused) {
+			buffer.close();
+		}
+	}
+}
@@ -0,0 +1,357 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncDynamoDBTemplateTest {
+	@Mock
+	private AmazonDynamoDBAsync dynamoDB;
+	@Mock
+	private ApplicationContext applicationContext;
+
+	private AsyncDynamoDBTemplate underTest;
+
+	@Before
+	public void setUp() {
+		DynamoDBMapper dynamoDBMapper = new DynamoDBMapper(dynamoDB);
+		underTest = new AsyncDynamoDBTemplate(dynamoDB, dynamoDBTemplate(dynamoDBMapper), Runnable::run);
+		underTest.setApplicationContext(applicationContext);
+	}
+
+	private DynamoDBTemplate dynamoDBTemplate(DynamoDBMapper dynamoDBMapper) {
+		DynamoDBTemplate dynamoDBTemplate = new DynamoDBTemplate(dynamoDB, dynamoDBMapper, DynamoDBMapperConfig.DEFAULT);
+		dynamoDBTemplate.setApplicationContext(applicationContext);
+		return dynamoDBTemplate;
+	}
+
+	private static Map<String, AttributeValue> userItem(String id) {
+		return Collections.singletonMap("Id", new AttributeValue(id));
+	}
+
+	@Test
+	public void testConstructorAllNull() {
+		DynamoDBTemplate dynamoDBTemplate = dynamoDBTemplate(mock(DynamoDBMapper.class));
+		try {
+			new AsyncDynamoDBTemplate(null, dynamoDBTemplate);
+			fail("AmazonDynamoDB must not be null!");
+		} catch (IllegalArgumentException iae) {
+			// ignored
+		}
+		try {
+			new AsyncDynamoDBTemplate(dynamoDB, null);
+			fail("DynamoDBTemplate must not be null!");
+		} catch (IllegalArgumentException iae) {
+			// ignored
+		}
+		try {
+			new AsyncDynamoDBTemplate(dynamoDB, dynamoDBTemplate, null);
+			fail("Executor must not be null!");
+		} catch (IllegalArgumentException iae) {
+			// ignored
+		}
+		assertTrue(true);
+	}
+
+	@Test
+	public void testDestroyShutsDownDefaultExecutor() throws Exception {
+		DynamoDBMapper dynamoDBMapper = mock(DynamoDBMapper.class);
+		underTest = new AsyncDynamoDBTemplate(dynamoDB, dynamoDBTemplate(dynamoDBMapper));
+		underTest.setApplicationContext(applicationContext);
+		User user = new User();
+
+		assertSame(user, underTest.save(user).get());
+		underTest.destroy();
+
+		try {
+			underTest.save(user).get();
+			fail("The executor must be shut down!");
+		} catch (RejectedExecutionException ree) {
+			// ignored
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLoad() throws Exception {
+		ArgumentCaptor<GetItemRequest> requestCaptor = ArgumentCaptor.forClass(GetItemRequest.class);
+		doAnswer(invocation -> {
+			AsyncHandler<GetItemRequest, GetItemResult> handler = invocation.getArgument(1);
+			handler.onSuccess(invocation.getArgument(0), new GetItemResult().withItem(userItem("someId")));
+			return null;
+		}).when(dynamoDB).getItemAsync(requestCaptor.capture(), any(AsyncHandler.class));
+
+		CompletableFuture<User> actual = underTest.load(User.class, "someId");
+
+		assertEquals("someId", actual.get().getId());
+		assertEquals("user", requestCaptor.getValue().getTableName());
+		assertEquals(userItem("someId"), requestCaptor.getValue().getKey());
+		verify(applicationContext).publishEvent(any(AfterLoadEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLoadNotFound() throws Exception {
+		doAnswer(invocation -> {
+			AsyncHandler<GetItemRequest, GetItemResult> handler = invocation.getArgument(1);
+			handler.onSuccess(invocation.getArgument(0), new GetItemResult());
+			return null;
+		}).when(dynamoDB).getItemAsync(any(GetItemRequest.class), any(AsyncHandler.class));
+
+		assertNull(underTest.load(User.class, "someId").get());
+		verify(applicationContext, never()).publishEvent(any(AfterLoadEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testLoadFailure() throws Exception {
+		AmazonServiceException exception = new AmazonServiceException("boom");
+		doAnswer(invocation -> {
+			AsyncHandler<GetItemRequest, GetItemResult> handler = invocation.getArgument(1);
+			handler.onError(exception);
+			return null;
+		}).when(dynamoDB).getItemAsync(any(GetItemRequest.class), any(AsyncHandler.class));
+
+		try {
+			underTest.load(User.class, "someId").get();
+			fail("Expected an ExecutionException");
+		} catch (ExecutionException e) {
+			assertSame(exception, e.getCause());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testQueryFetchesAllPages() throws Exception {
+		List<Map<String, AttributeValue>> exclusiveStartKeys = new ArrayList<>();
+		doAnswer(invocation -> {
+			QueryRequest request = invocation.getArgument(0);
+			AsyncHandler<QueryRequest, QueryResult> handler = invocation.getArgument(1);
+			exclusiveStartKeys.add(request.getExclusiveStartKey());
+			if (request.getExclusiveStartKey() == null) {
+				handler.onSuccess(request, new QueryResult().withItems(userItem("1"))
+						.withLastEvaluatedKey(userItem("1")));
+			} else {
+				handler.onSuccess(request, new QueryResult().withItems(userItem("2")));
+			}
+			return null;
+		}).when(dynamoDB).queryAsync(any(QueryRequest.class), any(AsyncHandler.class));
+
+		QueryRequest queryRequest = new QueryRequest("user");
+		List<User> actual = underTest.query(User.class, queryRequest).get();
+
+		assertEquals(2, actual.size());
+		assertEquals("1", actual.get(0).getId());
+		assertEquals("2", actual.get(1).getId());
+		assertNull(exclusiveStartKeys.get(0));
+		assertEquals(userItem("1"), exclusiveStartKeys.get(1));
+		// The given request must not be modified
+		assertNull(queryRequest.getExclusiveStartKey());
+		verify(applicationContext, times(2)).publishEvent(any(AfterQueryEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testQueryWithLimitFetchesFirstPageOnly() throws Exception {
+		doAnswer(invocation -> {
+			AsyncHandler<QueryRequest, QueryResult> handler = invocation.getArgument(1);
+			handler.onSuccess(invocation.getArgument(0),
+					new QueryResult().withItems(userItem("1")).withLastEvaluatedKey(userItem("1")));
+			return null;
+		}).when(dynamoDB).queryAsync(any(QueryRequest.class), any(AsyncHandler.class));
+
+		List<User> actual = underTest.query(User.class, new QueryRequest("user").withLimit(1)).get();
+
+		assertEquals(1, actual.size());
+		verify(dynamoDB).queryAsync(any(QueryRequest.class), any(AsyncHandler.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCountQuery() throws Exception {
+		doAnswer(invocation -> {
+			QueryRequest request = invocation.getArgument(0);
+			AsyncHandler<QueryRequest, QueryResult> handler = invocation.getArgument(1);
+			assertEquals(Select.COUNT.toString(), request.getSelect());
+			if (request.getExclusiveStartKey() == null) {
+				handler.onSuccess(request, new QueryResult().withCount(3).withLastEvaluatedKey(userItem("3")));
+			} else {
+				handler.onSuccess(request, new QueryResult().withCount(2));
+			}
+			return null;
+		}).when(dynamoDB).queryAsync(any(QueryRequest.class), any(AsyncHandler.class));
+
+		QueryRequest queryRequest = new QueryRequest("user");
+		assertEquals(Integer.valueOf(5), underTest.count(User.class, queryRequest).get());
+		// The given request must not be modified
+		assertNull(queryRequest.getSelect());
+		assertNull(queryRequest.getExclusiveStartKey());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScan() throws Exception {
+		ArgumentCaptor<ScanRequest> requestCaptor = ArgumentCaptor.forClass(ScanRequest.class);
+		doAnswer(invocation -> {
+			AsyncHandler<ScanRequest, ScanResult> handler = invocation.getArgument(1);
+			handler.onSuccess(invocation.getArgument(0), new ScanResult().withItems(userItem("1"), userItem("2")));
+			return null;
+		}).when(dynamoDB).scanAsync(requestCaptor.capture(), any(AsyncHandler.class));
+
+		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression().withFilterExpression("#n = :n");
+		List<User> actual = underTest.scan(User.class, scanExpression).get();
+
+		assertEquals(2, actual.size());
+		assertEquals("user", requestCaptor.getValue().getTableName());
+		assertEquals("#n = :n", requestCaptor.getValue().getFilterExpression());
+		verify(applicationContext, times(2)).publishEvent(any(AfterScanEvent.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCountScan() throws Exception {
+		ArgumentCaptor<ScanRequest> requestCaptor = ArgumentCaptor.forClass(ScanRequest.class);
+		doAnswer(invocation -> {
+			AsyncHandler<ScanRequest, ScanResult> handler = invocation.getArgument(1);
+			handler.onSuccess(invocation.getArgument(0), new ScanResult().withCount(42));
+			return null;
+		}).when(dynamoDB).scanAsync(requestCaptor.capture(), any(AsyncHandler.class));
+
+		assertEquals(Integer.valueOf(42), underTest.count(User.class, new DynamoDBScanExpression()).get());
+		assertEquals(Select.COUNT.toString(), requestCaptor.getValue().getSelect());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testScanPageFetchesSinglePage() throws Exception {
+		ArgumentCaptor<ScanRequest> requestCaptor = ArgumentCaptor.forClass(ScanRequest.class);
+		doAnswer(invocation -> {
+			AsyncHandler<ScanRequest, ScanResult> handler = invocation.getArgument(1);
+			handler.onSuccess(invocation.getArgument(0),
+					new ScanResult().withItems(userItem("2")).withLastEvaluatedKey(userItem("2")));
+			return null;
+		}).when(dynamoDB).scanAsync(requestCaptor.capture(), any(AsyncHandler.class));
+
+		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression().withExclusiveStartKey(userItem("1"));
+		ScanResultPage<User> actual = underTest.scanPage(User.class, scanExpression).get();
+
+		assertEquals(1, actual.getResults().size());
+		assertEquals("2", actual.getResults().get(0).getId());
+		assertEquals(userItem("2"), actual.getLastEvaluatedKey());
+		assertEquals(userItem("1"), requestCaptor.getValue().getExclusiveStartKey());
+		verify(dynamoDB).scanAsync(any(ScanRequest.class), any(AsyncHandler.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDeleteByKey() throws Exception {
+		ArgumentCaptor<DeleteItemRequest> requestCaptor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+		doAnswer(invocation -> {
+			AsyncHandler<DeleteItemRequest, DeleteItemResult> handler = invocation.getArgument(1);
+			handler.onSuccess(invocation.getArgument(0), new DeleteItemResult());
+			return null;
+		}).when(dynamoDB).deleteItemAsync(requestCaptor.capture(), any(AsyncHandler.class));
+
+		assertTrue(underTest.deleteByKey(User.class, "someId", null).get());
+		assertEquals("user", requestCaptor.getValue().getTableName());
+		assertEquals(userItem("someId"), requestCaptor.getValue().getKey());
+		assertEquals("attribute_exists(#h)", requestCaptor.getValue().getConditionExpression());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDeleteByKeyNotFound() throws Exception {
+		doAnswer(invocation -> {
+			AsyncHandler<DeleteItemRequest, DeleteItemResult> handler = invocation.getArgument(1);
+			handler.onError(new ConditionalCheckFailedException("not found"));
+			return null;
+		}).when(dynamoDB).deleteItemAsync(any(DeleteItemRequest.class), any(AsyncHandler.class));
+
+		assertFalse(underTest.deleteByKey(User.class, "someId", null).get());
+	}
+
+	@Test
+	public void testSaveRunsOnExecutor() throws Exception {
+		DynamoDBMapper dynamoDBMapper = mock(DynamoDBMapper.class);
+		List<Runnable> submitted = new ArrayList<>();
+		underTest = new AsyncDynamoDBTemplate(dynamoDB, dynamoDBTemplate(dynamoDBMapper), submitted::add);
+		underTest.setApplicationContext(applicationContext);
+
+		User user = new User();
+		CompletableFuture<User> actual = underTest.save(user);
+
+		verify(dynamoDBMapper, never()).save(user);
+		assertEquals(1, submitted.size());
+		submitted.get(0).run();
+
+		assertSame(user, actual.get());
+		verify(dynamoDBMapper).save(user);
+		verify(applicationContext).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext).publishEvent(any(AfterSaveEvent.class));
+	}
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchWriteRetryHandlerTest {
+	@Mock
+	private AmazonDynamoDB amazonDynamoDB;
+
+	private final BatchRetryMetrics metrics = new BatchRetryMetrics();
+	private final AtomicLong now = new AtomicLong();
+	private final List<Long> sleeps = new ArrayList<>();
+
+	private BatchWriteRetryHandler handler(BatchRetryPolicy policy) {
+		return new BatchWriteRetryHandler(amazonDynamoDB, policy, metrics, millis -> {
+			sleeps.add(millis);
+			now.addAndGet(millis);
+		}, now::get);
+	}
+
+	private static Map<String, List<WriteRequest>> items(int count) {
+		List<WriteRequest> writeRequests = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			writeRequests.add(new WriteRequest(
+					new PutRequest(Collections.singletonMap("Id", new AttributeValue(Integer.toString(i))))));
+		}
+		return Collections.singletonMap("user", writeRequests);
+	}
+
+	private static FailedBatch failedBatch(Map<String, List<WriteRequest>> unprocessedItems, Exception exception) {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setUnprocessedItems(unprocessedItems);
+		failedBatch.setException(exception);
+		return failedBatch;
+	}
+
+	@Test
+	public void testNoRetryPolicy() {
+		List<FailedBatch> failedBatches = Collections
+				.singletonList(failedBatch(items(1), new ProvisionedThroughputExceededException("throttled")));
+
+		assertSame(failedBatches, handler(BatchRetryPolicy.NONE).retry(failedBatches));
+		verify(amazonDynamoDB, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+	}
+
+	@Test
+	public void testDefaultPolicyIsBounded() {
+		when(amazonDynamoDB.batchWriteItem(any(BatchWriteItemRequest.class)))
+				.thenReturn(new BatchWriteItemResult().withUnprocessedItems(items(1)));
+
+		List<FailedBatch> actual = handler(BatchRetryPolicy.DEFAULT).retry(Collections
+				.singletonList(failedBatch(items(1), new ProvisionedThroughputExceededException("throttled"))));
+
+		assertEquals(1, actual.size());
+		verify(amazonDynamoDB, times(4)).batchWriteItem(any(BatchWriteItemRequest.class));
+		assertTrue(sleeps.stream().allMatch(sleep -> sleep <= 1000));
+	}
+
+	@Test
+	public void testRetryUntilProcessed() {
+		when(amazonDynamoDB.batchWriteItem(any(BatchWriteItemRequest.class)))
+				.thenReturn(new BatchWriteItemResult().withUnprocessedItems(items(1)))
+				.thenReturn(new BatchWriteItemResult().withUnprocessedItems(Collections.emptyMap()));
+
+		BatchRetryPolicy policy = new BatchRetryPolicy(5, Duration.ofMillis(100), Duration.ofSeconds(1),
+				Duration.ofMinutes(1));
+		List<FailedBatch> actual = handler(policy).retry(Collections
+				.singletonList(failedBatch(items(3), new ProvisionedThroughputExceededException("throttled"))));
+
+		assertTrue(actual.isEmpty());
+		verify(amazonDynamoDB, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+		assertEquals(2, metrics.getRetries());
+		assertEquals(4, metrics.getRetriedItems());
+		assertEquals(0, metrics.getFailedItems());
+		// Full jitter: bounded by 100ms before the first and 200ms before the second retry
+		assertTrue(sleeps.get(0) <= 100);
+		assertTrue(sleeps.get(1) <= 200);
+	}
+
+	@Test
+	public void testChunksOf25() {
+		when(amazonDynamoDB.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(new BatchWriteItemResult());
+
+		BatchRetryPolicy policy = new BatchRetryPolicy(2, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1));
+		List<FailedBatch> actual = handler(policy).retry(Collections.singletonList(failedBatch(items(30), null)));
+
+		assertTrue(actual.isEmpty());
+		verify(amazonDynamoDB, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+	}
+
+	@Test
+	public void testWriteRetriesUnprocessedItems() {
+		when(amazonDynamoDB.batchWriteItem(any(BatchWriteItemRequest.class)))
+				.thenReturn(new BatchWriteItemResult().withUnprocessedItems(items(2)))
+				.thenReturn(new BatchWriteItemResult());
+
+		BatchRetryPolicy policy = new BatchRetryPolicy(2, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1));
+		List<FailedBatch> actual = handler(policy).write(items(25));
+
+		assertTrue(actual.isEmpty());
+		verify(amazonDynamoDB, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+		assertEquals(2, metrics.getRetriedItems());
+	}
+
+	@Test
+	public void testWriteWithoutRetryReturnsUnprocessedItems() {
+		when(amazonDynamoDB.batchWriteItem(any(BatchWriteItemRequest.class)))
+				.thenReturn(new BatchWriteItemResult().withUnprocessedItems(items(2)));
+
+		List<FailedBatch> actual = handler(BatchRetryPolicy.NONE).write(items(25));
+
+		assertEquals(1, actual.size());
+		assertEquals(items(2), actual.get(0).getUnprocessedItems());
+	}
+
+	@Test
+	public void testMaxAttemptsExhausted() {
+		ProvisionedThroughputExceededException throttled = new ProvisionedThroughputExceededException("throttled");
+		when(amazonDynamoDB.batchWriteItem(any(BatchWriteItemRequest.class))).thenThrow(throttled);
+
+		BatchRetryPolicy policy = new BatchRetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(10),
+				Duration.ofMinutes(1));
+		List<FailedBatch> actual = handler(policy).retry(Collections.singletonList(failedBatch(items(2), null)));
+
+		assertEquals(1, actual.size());
+		assertEquals(2, actual.get(0).getUnprocessedItems().get("user").size());
+		assertSame(throttled, actual.get(0).getException());
+		verify(amazonDynamoDB, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+		assertEquals(2, metrics.getFailedItems());
+	}
+
+	@Test
+	public void testTimeBudgetExhausted() {
+		BatchRetryPolicy policy = new BatchRetryPolicy(10, Duration.ZERO, Duration.ZERO, Duration.ofMillis(500));
+		// Every look at the clock takes a second
+		BatchWriteRetryHandler underTest = new BatchWriteRetryHandler(amazonDynamoDB, policy, metrics,
+				sleeps::add, () -> now.addAndGet(1000));
+
+		List<FailedBatch> actual = underTest.retry(Collections.singletonList(failedBatch(items(1), null)));
+
+		assertEquals(1, actual.size());
+		verify(amazonDynamoDB, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+		assertEquals(1, metrics.getFailedItems());
+	}
+
+	@Test
+	public void testNonRetryableFailureIsReturned() {
+		AmazonServiceException validation = new AmazonServiceException("invalid");
+		validation.setErrorCode("ValidationException");
+		validation.setStatusCode(400);
+		FailedBatch failedBatch = failedBatch(items(1), validation);
+
+		BatchRetryPolicy policy = new BatchRetryPolicy(3, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1));
+		List<FailedBatch> actual = handler(policy).retry(Collections.singletonList(failedBatch));
+
+		assertEquals(Collections.singletonList(failedBatch), actual);
+		verify(amazonDynamoDB, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+	}
+
+	@Test
+	public void testMaxBackoff() {
+		BatchRetryPolicy policy = new BatchRetryPolicy(100, Duration.ofMillis(100), Duration.ofSeconds(5),
+				Duration.ofMinutes(1));
+
+		assertEquals(100, policy.getMaxBackoffMillis(1));
+		assertEquals(400, policy.getMaxBackoffMillis(3));
+		assertEquals(5000, policy.getMaxBackoffMillis(10));
+		assertEquals(5000, policy.getMaxBackoffMillis(99));
+	}
+}
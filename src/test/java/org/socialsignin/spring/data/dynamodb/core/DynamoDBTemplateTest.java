@@ -16,32 +16,83 @@
 package org.socialsignin.spring.data.dynamodb.core;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTransactionWriteExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBVersionAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
+import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionLoadRequest;
+import com.amazonaws.services.dynamodbv2.datamodeling.TransactionWriteRequest;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBCacheable;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AbstractDynamoDBEventListener;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterQueryEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BatchEntityCallback;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DynamoDBTemplateTest {
@@ -134,6 +185,145 @@ public class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).batchSave(eq(users));
 	}
 
+	@Test
+	public void testBatchSaveInvokesCallbacksOncePerDomainType() {
+		dynamoDBTemplate.setPublishBatchEvents(false);
+		List<List<User>> beforeSaved = new ArrayList<>();
+		List<List<User>> afterSaved = new ArrayList<>();
+		BatchEntityCallback<User> callback = new UserBatchEntityCallback(beforeSaved, afterSaved);
+		when(applicationContext.getBeansOfType(BatchEntityCallback.class))
+				.thenReturn(Collections.singletonMap("userCallback", callback));
+		User first = new User();
+		User second = new User();
+		List<Object> entities = Arrays.asList(first, new Playlist(), second);
+
+		dynamoDBTemplate.batchSave(entities);
+
+		verify(dynamoDBMapper).batchSave(eq(entities));
+		assertEquals(Collections.singletonList(Arrays.asList(first, second)), beforeSaved);
+		assertEquals(Collections.singletonList(Arrays.asList(first, second)), afterSaved);
+		// The callbacks are invoked even though the events are disabled
+		verify(applicationContext, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	@Test
+	public void testBatchSavePublishesEventsIfListenerIsRegistered() {
+		ApplicationListener<BeforeSaveEvent<?>> listener = new ApplicationListener<BeforeSaveEvent<?>>() {
+			@Override
+			public void onApplicationEvent(BeforeSaveEvent<?> event) {
+			}
+		};
+		when(applicationContext.getBeansOfType(ApplicationListener.class))
+				.thenReturn(Collections.singletonMap("listener", listener));
+		List<User> users = Arrays.asList(new User(), new User());
+
+		dynamoDBTemplate.batchSave(users);
+
+		verify(applicationContext, times(2)).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext, never()).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@Test
+	public void testBatchSaveSkipsEventsWithoutListener() {
+		List<User> users = Arrays.asList(new User(), new User());
+
+		dynamoDBTemplate.batchSave(users);
+
+		verify(applicationContext, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	@Test
+	public void testBatchSavePublishesEventsIfEnabled() {
+		// @EventListener methods are not detected
+		dynamoDBTemplate.setPublishBatchEvents(true);
+		List<User> users = Arrays.asList(new User(), new User());
+
+		dynamoDBTemplate.batchSave(users);
+
+		verify(applicationContext, times(2)).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext, times(2)).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@Test
+	public void testListenersAreResolvedAgainOnRefresh() {
+		List<User> users = Collections.singletonList(new User());
+		dynamoDBTemplate.batchSave(users);
+		verify(applicationContext, never()).publishEvent(any(ApplicationEvent.class));
+
+		ApplicationListener<AfterSaveEvent<?>> listener = new ApplicationListener<AfterSaveEvent<?>>() {
+			@Override
+			public void onApplicationEvent(AfterSaveEvent<?> event) {
+			}
+		};
+		when(applicationContext.getBeansOfType(ApplicationListener.class))
+				.thenReturn(Collections.singletonMap("listener", listener));
+		dynamoDBTemplate.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+		dynamoDBTemplate.batchSave(users);
+
+		verify(applicationContext).publishEvent(any(AfterSaveEvent.class));
+	}
+
+	@Test
+	public void testBatchDeleteSkipsEventsIfDisabled() {
+		dynamoDBTemplate.setPublishBatchEvents(false);
+		List<User> users = Arrays.asList(new User(), new User());
+
+		dynamoDBTemplate.batchDelete(users);
+
+		verify(dynamoDBMapper).batchDelete(eq(users));
+		verify(applicationContext, never()).publishEvent(any(ApplicationEvent.class));
+	}
+
+	private static class UserBatchEntityCallback implements BatchEntityCallback<User> {
+		private final List<List<User>> beforeSaved;
+		private final List<List<User>> afterSaved;
+
+		UserBatchEntityCallback(List<List<User>> beforeSaved, List<List<User>> afterSaved) {
+			this.beforeSaved = beforeSaved;
+			this.afterSaved = afterSaved;
+		}
+
+		@Override
+		public void beforeBatchSave(List<User> entities) {
+			beforeSaved.add(new ArrayList<>(entities));
+		}
+
+		@Override
+		public void afterBatchSave(List<User> entities) {
+			afterSaved.add(new ArrayList<>(entities));
+		}
+	}
+
+	@Test
+	public void testTransactWrite() {
+		User saved = new User();
+		User deleted = new User();
+		User checked = new User();
+		TransactionWriteRequest request = new TransactionWriteRequest().addPut(saved).addDelete(deleted)
+				.addConditionCheck(checked, new DynamoDBTransactionWriteExpression()
+						.withConditionExpression("attribute_exists(id)"));
+
+		dynamoDBTemplate.transactWrite(request);
+
+		verify(dynamoDBMapper).transactionWrite(request);
+		verify(applicationContext).publishEvent(any(BeforeSaveEvent.class));
+		verify(applicationContext).publishEvent(any(AfterSaveEvent.class));
+		verify(applicationContext).publishEvent(any(BeforeDeleteEvent.class));
+		verify(applicationContext).publishEvent(any(AfterDeleteEvent.class));
+	}
+
+	@Test
+	public void testTransactGet() {
+		User user = new User();
+		TransactionLoadRequest request = new TransactionLoadRequest().addLoad(user).addLoad(new User());
+		when(dynamoDBMapper.transactionLoad(request)).thenReturn(Arrays.asList(user, null));
+
+		List<Object> actual = dynamoDBTemplate.transactGet(request);
+
+		assertEquals(Arrays.asList(user, null), actual);
+		verify(applicationContext, times(1)).publishEvent(any(AfterLoadEvent.class));
+	}
+
 	@Test
 	public void testCountQuery() {
 		DynamoDBQueryExpression<User> query = countUserQuery;
@@ -151,6 +341,623 @@ public class DynamoDBTemplateTest {
 		verify(dynamoDBMapper).count(User.class, scan);
 	}
 
+	@Test
+	public void testCountScanParallel() {
+		List<Integer> segments = Collections.synchronizedList(new ArrayList<>());
+		when(dynamoDBMapper.count(eq(User.class), any(DynamoDBScanExpression.class))).thenAnswer(invocation -> {
+			DynamoDBScanExpression segmentScan = invocation.getArgument(1);
+			assertEquals(Integer.valueOf(3), segmentScan.getTotalSegments());
+			segments.add(segmentScan.getSegment());
+			return segmentScan.getSegment() + 1;
+		});
+
+		int actual = dynamoDBTemplate.count(User.class, new DynamoDBScanExpression(), 3);
+
+		assertEquals(6, actual);
+		Collections.sort(segments);
+		assertEquals(Arrays.asList(0, 1, 2), segments);
+	}
+
+	@Test
+	public void testScanEmitsEventsWhileIterating() {
+		when(dynamoDBMapperConfig.getPaginationLoadingStrategy())
+				.thenReturn(DynamoDBMapperConfig.PaginationLoadingStrategy.LAZY_LOADING);
+		User first = new User();
+		User second = new User();
+		@SuppressWarnings("unchecked")
+		PaginatedScanList<User> scanList = mock(PaginatedScanList.class);
+		when(scanList.iterator()).thenReturn(Arrays.asList(first, second).iterator());
+		DynamoDBScanExpression scan = new DynamoDBScanExpression();
+		when(dynamoDBMapper.scan(eq(User.class), eq(scan), any(DynamoDBMapperConfig.class))).thenReturn(scanList);
+
+		List<User> actual = dynamoDBTemplate.scan(User.class, scan);
+
+		verify(applicationContext, never()).publishEvent(any(AfterScanEvent.class));
+		assertEquals(first, actual.iterator().next());
+		verify(applicationContext, times(1)).publishEvent(any(AfterScanEvent.class));
+		assertEquals(2, actual.size());
+		verify(applicationContext, times(2)).publishEvent(any(AfterScanEvent.class));
+
+		// Each event carries a scan list holding just its result
+		ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+		verify(applicationContext, times(2)).publishEvent(captor.capture());
+		assertEquals(Collections.singletonList(second),
+				new ArrayList<>(((AfterScanEvent<?>) captor.getAllValues().get(1)).getSource()));
+	}
+
+	@Test
+	public void testScanOfEagerLoadingListEmitsEventsRightAway() {
+		when(dynamoDBMapperConfig.getPaginationLoadingStrategy())
+				.thenReturn(DynamoDBMapperConfig.PaginationLoadingStrategy.EAGER_LOADING);
+		@SuppressWarnings("unchecked")
+		PaginatedScanList<User> scanList = mock(PaginatedScanList.class);
+		when(scanList.iterator()).thenReturn(Arrays.asList(new User(), new User()).iterator());
+		DynamoDBScanExpression scan = new DynamoDBScanExpression();
+		when(dynamoDBMapper.scan(User.class, scan)).thenReturn(scanList);
+
+		// The results are returned as loaded by the mapper
+		assertSame(scanList, dynamoDBTemplate.scan(User.class, scan));
+		verify(applicationContext, times(2)).publishEvent(any(AfterScanEvent.class));
+	}
+
+	@Test
+	public void testQueryOnlyKeepsResultsAsConfigured() {
+		when(dynamoDBMapperConfig.getPaginationLoadingStrategy())
+				.thenReturn(DynamoDBMapperConfig.PaginationLoadingStrategy.ITERATION_ONLY);
+		User user = new User();
+		@SuppressWarnings("unchecked")
+		PaginatedQueryList<User> queryList = mock(PaginatedQueryList.class);
+		when(queryList.iterator()).thenReturn(Collections.singletonList(user).iterator());
+		DynamoDBQueryExpression<User> query = new DynamoDBQueryExpression<>();
+		ArgumentCaptor<DynamoDBMapperConfig> config = ArgumentCaptor.forClass(DynamoDBMapperConfig.class);
+		when(dynamoDBMapper.query(eq(User.class), eq(query), config.capture())).thenReturn(queryList);
+
+		List<User> actual = dynamoDBTemplate.query(User.class, query);
+
+		// The mapper list only hands the results through to the returned list
+		assertEquals(DynamoDBMapperConfig.PaginationLoadingStrategy.ITERATION_ONLY,
+				config.getValue().getPaginationLoadingStrategy());
+		Iterator<User> iterator = actual.iterator();
+		assertEquals(user, iterator.next());
+		assertFalse(iterator.hasNext());
+		verify(applicationContext).publishEvent(any(AfterQueryEvent.class));
+
+		// Which keeps no results, as configured
+		expectedException.expect(UnsupportedOperationException.class);
+		actual.iterator();
+	}
+
+	@Test
+	public void testParallelScanWithoutExecutor() {
+		DynamoDBScanExpression scan = new DynamoDBScanExpression();
+		dynamoDBTemplate.parallelScan(User.class, scan, 4);
+
+		ArgumentCaptor<DynamoDBMapperConfig> config = ArgumentCaptor.forClass(DynamoDBMapperConfig.class);
+		verify(dynamoDBMapper).parallelScan(eq(User.class), eq(scan), eq(4), config.capture());
+		assertEquals(DynamoDBMapperConfig.PaginationLoadingStrategy.ITERATION_ONLY,
+				config.getValue().getPaginationLoadingStrategy());
+	}
+
+	@Test
+	public void testParallelScanOnExecutor() {
+		List<Runnable> executed = new ArrayList<>();
+		dynamoDBTemplate.setParallelScanExecutor(command -> {
+			executed.add(command);
+			command.run();
+		});
+		when(dynamoDBMapperConfig.getPaginationLoadingStrategy())
+				.thenReturn(DynamoDBMapperConfig.PaginationLoadingStrategy.LAZY_LOADING);
+
+		User first = new User();
+		User second = new User();
+		User third = new User();
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("1"));
+		when(dynamoDBMapper.scanPage(eq(User.class), any(DynamoDBScanExpression.class), any(DynamoDBMapperConfig.class)))
+				.thenAnswer(invocation -> {
+					DynamoDBScanExpression segmentScan = invocation.getArgument(1);
+					ScanResultPage<User> page = new ScanResultPage<>();
+					if (segmentScan.getSegment() == 1) {
+						page.setResults(Collections.singletonList(third));
+					} else if (segmentScan.getExclusiveStartKey() == null) {
+						page.setResults(Collections.singletonList(first));
+						page.setLastEvaluatedKey(lastEvaluatedKey);
+					} else {
+						assertEquals(lastEvaluatedKey, segmentScan.getExclusiveStartKey());
+						page.setResults(Collections.singletonList(second));
+					}
+					return page;
+				});
+
+		List<User> actual = dynamoDBTemplate.parallelScan(User.class, new DynamoDBScanExpression(), 2);
+
+		// The first page of all segments is fetched eagerly
+		assertEquals(2, executed.size());
+		assertEquals(Arrays.asList(first, third, second), new ArrayList<>(actual));
+		assertEquals(3, executed.size());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testBatchQueryRunsQueriesOnExecutor() {
+		List<Runnable> executed = new ArrayList<>();
+		dynamoDBTemplate.setBatchLoadExecutor(command -> {
+			executed.add(command);
+			command.run();
+		});
+		when(dynamoDBMapperConfig.getPaginationLoadingStrategy())
+				.thenReturn(DynamoDBMapperConfig.PaginationLoadingStrategy.LAZY_LOADING);
+		Playlist first = new Playlist();
+		Playlist second = new Playlist();
+		Playlist third = new Playlist();
+		DynamoDBQueryExpression<Playlist> firstQuery = new DynamoDBQueryExpression<>();
+		DynamoDBQueryExpression<Playlist> secondQuery = new DynamoDBQueryExpression<>();
+		PaginatedQueryList<Playlist> firstResults = mock(PaginatedQueryList.class);
+		when(firstResults.iterator()).thenReturn(Arrays.asList(first, second).iterator());
+		PaginatedQueryList<Playlist> secondResults = mock(PaginatedQueryList.class);
+		when(secondResults.iterator()).thenReturn(Collections.singletonList(third).iterator());
+		when(dynamoDBMapper.query(eq(Playlist.class), eq(firstQuery), any(DynamoDBMapperConfig.class)))
+				.thenReturn(firstResults);
+		when(dynamoDBMapper.query(eq(Playlist.class), eq(secondQuery), any(DynamoDBMapperConfig.class)))
+				.thenReturn(secondResults);
+
+		List<Playlist> actual = dynamoDBTemplate.batchQuery(Playlist.class, Arrays.asList(firstQuery, secondQuery));
+
+		assertEquals(2, executed.size());
+		assertEquals(Arrays.asList(first, second, third), actual);
+		verify(applicationContext, times(3)).publishEvent(any(AfterQueryEvent.class));
+	}
+
+	@Test
+	public void testQueryPage() {
+		List<Map<String, AttributeValue>> items = Collections
+				.singletonList(Collections.singletonMap("Id", new AttributeValue("1")));
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("1"));
+		List<User> users = Collections.singletonList(new User());
+		QueryRequest queryRequest = new QueryRequest("user");
+		when(dynamoDB.query(queryRequest))
+				.thenReturn(new QueryResult().withItems(items).withLastEvaluatedKey(lastEvaluatedKey).withCount(1));
+		when(dynamoDBMapper.marshallIntoObjects(User.class, items, dynamoDBMapperConfig)).thenReturn(users);
+
+		QueryResultPage<User> actual = dynamoDBTemplate.queryPage(User.class, queryRequest);
+
+		assertEquals(users, actual.getResults());
+		assertEquals(lastEvaluatedKey, actual.getLastEvaluatedKey());
+		assertEquals(Integer.valueOf(1), actual.getCount());
+		verify(applicationContext).publishEvent(any(AfterQueryEvent.class));
+	}
+
+	@Test
+	public void testBatchLoadRemovesRepeatedKeys() {
+		KeyPair first = new KeyPair().withHashKey("1");
+		KeyPair second = new KeyPair().withHashKey("2");
+		User user = new User();
+		when(dynamoDBMapper.batchLoad(Collections.<Class<?>, List<KeyPair>>singletonMap(User.class,
+				Arrays.asList(first, second)))).thenReturn(Collections.singletonMap("user", Arrays.asList(user)));
+
+		List<User> actual = dynamoDBTemplate.batchLoad(Collections.<Class<?>, List<KeyPair>>singletonMap(User.class,
+				Arrays.asList(first, second, new KeyPair().withHashKey("1"))));
+
+		assertEquals(Collections.singletonList(user), actual);
+	}
+
+	@Test
+	public void testBatchLoadChunksOnExecutor() {
+		List<Runnable> executed = new ArrayList<>();
+		dynamoDBTemplate.setBatchLoadExecutor(command -> {
+			executed.add(command);
+			command.run();
+		});
+		List<KeyPair> keyPairs = new ArrayList<>();
+		for (int i = 0; i < 250; i++) {
+			keyPairs.add(new KeyPair().withHashKey(String.valueOf(i)));
+		}
+		List<Integer> chunkSizes = new ArrayList<>();
+		when(dynamoDBMapper.batchLoad(anyMap())).thenAnswer(invocation -> {
+			Map<Class<?>, List<KeyPair>> chunk = invocation.getArgument(0);
+			chunkSizes.add(chunk.get(User.class).size());
+			return Collections.singletonMap("user", Collections.singletonList(new User()));
+		});
+
+		List<User> actual = dynamoDBTemplate.batchLoad(Collections.singletonMap(User.class, keyPairs));
+
+		assertEquals(3, executed.size());
+		assertEquals(Arrays.asList(100, 100, 50), chunkSizes);
+		assertEquals(3, actual.size());
+	}
+
+	@Test
+	public void testBatchLoadInInputOrder() {
+		dynamoDBTemplate.setBatchLoadInInputOrder(true);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		User first = new User();
+		first.setId("1");
+		User second = new User();
+		second.setId("2");
+		User third = new User();
+		third.setId("3");
+		when(dynamoDBMapper.batchLoad(anyMap()))
+				.thenReturn(Collections.singletonMap("user", Arrays.asList(third, first, second)));
+
+		List<User> actual = dynamoDBTemplate.batchLoad(Collections.<Class<?>, List<KeyPair>>singletonMap(User.class,
+				Arrays.asList(new KeyPair().withHashKey("2"), new KeyPair().withHashKey("1"),
+						new KeyPair().withHashKey("3"))));
+
+		assertEquals(Arrays.asList(second, first, third), actual);
+	}
+
+	@DynamoDBTable(tableName = "cached")
+	@DynamoDBCacheable
+	public static class CachedEntity {
+		private String id;
+
+		@DynamoDBHashKey
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+	}
+
+	@DynamoDBTable(tableName = "versioned")
+	public static class VersionedEntity {
+		private String id;
+		private String name;
+		private Integer counter;
+		private List<String> tags;
+		private Long version;
+
+		@DynamoDBHashKey
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Integer getCounter() {
+			return counter;
+		}
+
+		public void setCounter(Integer counter) {
+			this.counter = counter;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+
+		@DynamoDBVersionAttribute
+		public Long getVersion() {
+			return version;
+		}
+
+		public void setVersion(Long version) {
+			this.version = version;
+		}
+	}
+
+	@Test
+	public void testUpdateWritesOnlyGivenAttributes() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+		VersionedEntity entity = new VersionedEntity();
+		entity.setId("1");
+		entity.setCounter(5);
+		entity.setVersion(3L);
+
+		dynamoDBTemplate.update(entity, Arrays.asList("counter", "name"));
+
+		ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+		verify(dynamoDB).updateItem(captor.capture());
+		UpdateItemRequest actual = captor.getValue();
+		assertEquals("versioned", actual.getTableName());
+		assertEquals(Collections.singletonMap("id", new AttributeValue("1")), actual.getKey());
+		assertEquals("SET #a0 = :a0, #v = :nv REMOVE #a1", actual.getUpdateExpression());
+		assertEquals("#v = :cv", actual.getConditionExpression());
+		assertEquals("counter", actual.getExpressionAttributeNames().get("#a0"));
+		assertEquals("name", actual.getExpressionAttributeNames().get("#a1"));
+		assertEquals(new AttributeValue().withN("5"), actual.getExpressionAttributeValues().get(":a0"));
+		assertEquals(new AttributeValue().withN("3"), actual.getExpressionAttributeValues().get(":cv"));
+		assertEquals(new AttributeValue().withN("4"), actual.getExpressionAttributeValues().get(":nv"));
+		assertEquals(Long.valueOf(4), entity.getVersion());
+	}
+
+	@Test
+	public void testIncrement() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+		when(dynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(
+				new UpdateItemResult().withAttributes(Collections.singletonMap("counter", new AttributeValue().withN("7"))));
+
+		Number actual = dynamoDBTemplate.increment(VersionedEntity.class, "1", null, "counter", 2);
+
+		assertEquals(7, actual.intValue());
+		ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+		verify(dynamoDB).updateItem(captor.capture());
+		// The version is bumped so that concurrent optimistic locking writes fail
+		assertEquals("ADD #a :v, #v :one", captor.getValue().getUpdateExpression());
+		assertEquals("version", captor.getValue().getExpressionAttributeNames().get("#v"));
+		assertEquals(new AttributeValue().withN("2"), captor.getValue().getExpressionAttributeValues().get(":v"));
+		assertEquals(new AttributeValue().withN("1"), captor.getValue().getExpressionAttributeValues().get(":one"));
+		verify(dynamoDBMapper, never()).load(VersionedEntity.class, "1");
+	}
+
+	@Test
+	public void testAppendToListBumpsVersion() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+
+		dynamoDBTemplate.appendToList(VersionedEntity.class, "1", null, "tags", Collections.singletonList("a"));
+
+		ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+		verify(dynamoDB).updateItem(captor.capture());
+		assertEquals("SET #a = list_append(if_not_exists(#a, :e), :v) ADD #v :one",
+				captor.getValue().getUpdateExpression());
+	}
+
+	@Test
+	public void testIncrementWithoutVersion() {
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		when(dynamoDB.updateItem(any(UpdateItemRequest.class))).thenReturn(new UpdateItemResult()
+				.withAttributes(Collections.singletonMap("numberOfPlaylists", new AttributeValue().withN("1"))));
+
+		dynamoDBTemplate.increment(User.class, "1", null, "numberOfPlaylists", 1);
+
+		ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+		verify(dynamoDB).updateItem(captor.capture());
+		assertEquals("ADD #a :v", captor.getValue().getUpdateExpression());
+	}
+
+	@Test
+	public void testExistsReadsKeyAttributesOnly() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(
+				new GetItemResult().withItem(Collections.singletonMap("id", new AttributeValue("1"))));
+
+		assertTrue(dynamoDBTemplate.exists(VersionedEntity.class, "1", null));
+
+		ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB).getItem(captor.capture());
+		assertEquals("versioned", captor.getValue().getTableName());
+		assertEquals(Collections.singletonMap("id", new AttributeValue("1")), captor.getValue().getKey());
+		assertEquals("#k0", captor.getValue().getProjectionExpression());
+		assertEquals(Collections.singletonMap("#k0", "id"), captor.getValue().getExpressionAttributeNames());
+		verify(dynamoDBMapper, never()).load(VersionedEntity.class, "1");
+	}
+
+	@Test
+	public void testExistsWhenItemIsMissing() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(new GetItemResult());
+
+		Assert.assertFalse(dynamoDBTemplate.exists(VersionedEntity.class, "1", null));
+	}
+
+	@Test
+	public void testDeleteByKeyIsConditionalOnExistence() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+
+		assertTrue(dynamoDBTemplate.deleteByKey(VersionedEntity.class, "1", null));
+
+		ArgumentCaptor<DeleteItemRequest> captor = ArgumentCaptor.forClass(DeleteItemRequest.class);
+		verify(dynamoDB).deleteItem(captor.capture());
+		assertEquals("versioned", captor.getValue().getTableName());
+		assertEquals(Collections.singletonMap("id", new AttributeValue("1")), captor.getValue().getKey());
+		assertEquals("attribute_exists(#h)", captor.getValue().getConditionExpression());
+		assertEquals(Collections.singletonMap("#h", "id"), captor.getValue().getExpressionAttributeNames());
+		verify(dynamoDBMapper, never()).load(VersionedEntity.class, "1");
+	}
+
+	@Test
+	public void testDeleteByKeyWhenItemIsMissing() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+		when(dynamoDB.deleteItem(any(DeleteItemRequest.class)))
+				.thenThrow(new ConditionalCheckFailedException("The conditional request failed"));
+
+		Assert.assertFalse(dynamoDBTemplate.deleteByKey(VersionedEntity.class, "1", null));
+	}
+
+	@Test
+	public void testEntityIsRequiredForDeleteIfEventsArePublished() {
+		dynamoDBTemplate.setPublishBatchEvents(true);
+		assertTrue(dynamoDBTemplate.isEntityRequiredForDelete(User.class));
+	}
+
+	@Test
+	public void testEntityIsRequiredForDeleteOnlyIfDeletesOfItsTypeAreObserved() {
+		AbstractDynamoDBEventListener<User> auditingListener = new AbstractDynamoDBEventListener<User>() {
+			@Override
+			public void onBeforeSave(User source) {
+			}
+		};
+		AbstractDynamoDBEventListener<Playlist> deleteListener = new AbstractDynamoDBEventListener<Playlist>() {
+			@Override
+			public void onAfterDelete(Playlist source) {
+			}
+		};
+		Map<String, ApplicationListener> listeners = new HashMap<>();
+		listeners.put("auditingListener", auditingListener);
+		listeners.put("deleteListener", deleteListener);
+		when(applicationContext.getBeansOfType(ApplicationListener.class)).thenReturn(listeners);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+
+		Assert.assertFalse(dynamoDBTemplate.isEntityRequiredForDelete(User.class));
+		assertTrue(dynamoDBTemplate.isEntityRequiredForDelete(Playlist.class));
+	}
+
+	@Test
+	public void testEntityIsRequiredForDeleteIfVersioned() {
+		dynamoDBTemplate.setPublishBatchEvents(false);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+
+		Assert.assertFalse(dynamoDBTemplate.isEntityRequiredForDelete(User.class));
+		assertTrue(dynamoDBTemplate.isEntityRequiredForDelete(VersionedEntity.class));
+	}
+
+	@Test
+	public void testDeleteAllDeletesScannedKeysInBatches() {
+		dynamoDBTemplate.setPublishBatchEvents(false);
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		List<Map<String, AttributeValue>> keys = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			keys.add(Collections.singletonMap("Id", new AttributeValue(Integer.toString(i))));
+		}
+		Map<String, AttributeValue> lastEvaluatedKey = keys.get(19);
+		when(dynamoDB.scan(any(ScanRequest.class))).thenReturn(
+				new ScanResult().withItems(keys.subList(0, 20)).withLastEvaluatedKey(lastEvaluatedKey),
+				new ScanResult().withItems(keys.subList(20, 30)));
+		when(dynamoDB.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(new BatchWriteItemResult());
+
+		assertTrue(dynamoDBTemplate.deleteAll(User.class, 1).isEmpty());
+
+		ArgumentCaptor<ScanRequest> scanCaptor = ArgumentCaptor.forClass(ScanRequest.class);
+		verify(dynamoDB, times(2)).scan(scanCaptor.capture());
+		assertEquals("user", scanCaptor.getValue().getTableName());
+		assertEquals("#k0", scanCaptor.getValue().getProjectionExpression());
+		assertEquals(Collections.singletonMap("#k0", "Id"), scanCaptor.getValue().getExpressionAttributeNames());
+
+		// One request per scanned page as both pages hold less than 25 keys
+		ArgumentCaptor<BatchWriteItemRequest> writeCaptor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+		verify(dynamoDB, times(2)).batchWriteItem(writeCaptor.capture());
+		assertEquals(20, writeCaptor.getAllValues().get(0).getRequestItems().get("user").size());
+		assertEquals(keys.get(29), writeCaptor.getAllValues().get(1).getRequestItems().get("user").get(9)
+				.getDeleteRequest().getKey());
+		verify(dynamoDBMapper, never()).batchDelete(anyList());
+	}
+
+	@Test
+	public void testDeleteAllDeletesScannedEntitiesIfEventsArePublished() {
+		dynamoDBTemplate.setPublishBatchEvents(true);
+		User user = new User();
+		ScanResultPage<User> page = new ScanResultPage<>();
+		page.setResults(Collections.singletonList(user));
+		when(dynamoDBMapper.scanPage(eq(User.class), any(DynamoDBScanExpression.class), eq(dynamoDBMapperConfig)))
+				.thenReturn(page);
+
+		assertTrue(dynamoDBTemplate.deleteAll(User.class, 1).isEmpty());
+
+		verify(dynamoDBMapper).batchDelete(Collections.singletonList(user));
+		verify(applicationContext).publishEvent(any(BeforeDeleteEvent.class));
+		verify(applicationContext).publishEvent(any(AfterDeleteEvent.class));
+		verify(dynamoDB, never()).scan(any(ScanRequest.class));
+	}
+
+	@Test
+	public void testUpdateOfKeyAttributeFails() {
+		when(dynamoDBMapper.getTableModel(VersionedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(VersionedEntity.class));
+		VersionedEntity entity = new VersionedEntity();
+		entity.setId("1");
+
+		expectedException.expect(IllegalArgumentException.class);
+		dynamoDBTemplate.update(entity, Collections.singletonList("id"));
+	}
+
+	private static CachedEntity cachedEntity(String id) {
+		CachedEntity entity = new CachedEntity();
+		entity.setId(id);
+		return entity;
+	}
+
+	@Test
+	public void testLoadOfCacheableEntityIsCachedUntilSaved() {
+		when(dynamoDBMapper.getTableModel(CachedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(CachedEntity.class));
+		when(dynamoDBMapper.load(CachedEntity.class, "1")).thenReturn(cachedEntity("1"));
+
+		assertEquals("1", dynamoDBTemplate.load(CachedEntity.class, "1").getId());
+		assertEquals("1", dynamoDBTemplate.load(CachedEntity.class, "1").getId());
+		verify(dynamoDBMapper, times(1)).load(CachedEntity.class, "1");
+
+		dynamoDBTemplate.save(cachedEntity("1"));
+		dynamoDBTemplate.load(CachedEntity.class, "1");
+		verify(dynamoDBMapper, times(2)).load(CachedEntity.class, "1");
+
+		EntityCacheMetrics metrics = dynamoDBTemplate.getEntityCacheMetrics();
+		assertEquals(1, metrics.getHits());
+		assertEquals(2, metrics.getMisses());
+		assertEquals(1, metrics.getInvalidations());
+	}
+
+	@Test
+	public void testLoadIsNotCachedIfEvictedMeanwhile() {
+		when(dynamoDBMapper.getTableModel(CachedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(CachedEntity.class));
+		// A concurrent save evicts the item while it is loaded
+		when(dynamoDBMapper.load(CachedEntity.class, "1")).thenAnswer(invocation -> {
+			dynamoDBTemplate.save(cachedEntity("1"));
+			return cachedEntity("1");
+		});
+
+		dynamoDBTemplate.load(CachedEntity.class, "1");
+		dynamoDBTemplate.load(CachedEntity.class, "1");
+
+		verify(dynamoDBMapper, times(2)).load(CachedEntity.class, "1");
+		assertEquals(0, dynamoDBTemplate.getEntityCacheMetrics().getHits());
+	}
+
+	@Test
+	public void testBatchLoadServesCachedEntities() {
+		when(dynamoDBMapper.getTableModel(CachedEntity.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(CachedEntity.class));
+		when(dynamoDBMapper.load(CachedEntity.class, "1")).thenReturn(cachedEntity("1"));
+		dynamoDBTemplate.load(CachedEntity.class, "1");
+		KeyPair uncached = new KeyPair().withHashKey("2");
+		when(dynamoDBMapper.batchLoad(Collections.<Class<?>, List<KeyPair>>singletonMap(CachedEntity.class,
+				Collections.singletonList(uncached))))
+						.thenReturn(Collections.singletonMap("cached", Collections.singletonList(cachedEntity("2"))));
+
+		List<CachedEntity> actual = dynamoDBTemplate.batchLoad(Collections.<Class<?>, List<KeyPair>>singletonMap(
+				CachedEntity.class, Arrays.asList(new KeyPair().withHashKey("1"), uncached)));
+
+		assertEquals(2, actual.size());
+		assertEquals(1, dynamoDBTemplate.getEntityCacheMetrics().getHits());
+		// The batch loaded entity is cached as well
+		dynamoDBTemplate.load(CachedEntity.class, "2");
+		assertEquals(2, dynamoDBTemplate.getEntityCacheMetrics().getHits());
+	}
+
+	@Test
+	public void testLoadWithBatchingWindowUsesBatchGet() {
+		dynamoDBTemplate.setLoadBatchingWindow(Duration.ofMillis(1));
+		when(dynamoDBMapper.getTableModel(User.class, dynamoDBMapperConfig))
+				.thenReturn(new DynamoDBMapper(dynamoDB).getTableModel(User.class));
+		User user = new User();
+		user.setId("1");
+		when(dynamoDBMapper.batchLoad(anyMap())).thenReturn(Collections.singletonMap("user", Arrays.asList(user)));
+
+		assertEquals(user, dynamoDBTemplate.load(User.class, "1"));
+
+		verify(dynamoDBMapper, times(0)).load(User.class, "1");
+		dynamoDBTemplate.setLoadBatchingWindow(null);
+	}
+
 	@Test
 	public void testLoadByHashKey_WhenDynamoDBMapperReturnsNull() {
 		User user = dynamoDBTemplate.load(User.class, "someHashKey");
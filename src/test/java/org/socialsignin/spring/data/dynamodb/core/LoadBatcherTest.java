@@ -0,0 +1,189 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LoadBatcherTest {
+
+	@Mock
+	private DynamoDBTemplate dynamoDBTemplate;
+	@Mock
+	private ScheduledExecutorService scheduler;
+	@Mock
+	private ExecutorService dispatchExecutor;
+	@Mock
+	private AmazonDynamoDB amazonDynamoDB;
+
+	private LoadBatcher loadBatcher;
+
+	@Before
+	public void setUp() {
+		when(dynamoDBTemplate.getTableModel(User.class))
+				.thenReturn(new DynamoDBMapper(amazonDynamoDB).getTableModel(User.class));
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(dispatchExecutor).execute(any(Runnable.class));
+		loadBatcher = new LoadBatcher(dynamoDBTemplate, 5, scheduler, dispatchExecutor);
+	}
+
+	private static User user(String id) {
+		User user = new User();
+		user.setId(id);
+		return user;
+	}
+
+	private Runnable scheduledDispatch() {
+		ArgumentCaptor<Runnable> dispatch = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(dispatch.capture(), eq(5L), eq(TimeUnit.MILLISECONDS));
+		return dispatch.getValue();
+	}
+
+	@Test
+	public void testConcurrentLoadsAreDispatchedAsOneBatch() {
+		when(dynamoDBTemplate.loadUncached(anyMap())).thenReturn(Arrays.asList(user("2"), user("1")));
+
+		CompletableFuture<User> first = loadBatcher.load(User.class, "1", null);
+		CompletableFuture<User> second = loadBatcher.load(User.class, "2", null);
+		CompletableFuture<User> missing = loadBatcher.load(User.class, "3", null);
+		assertFalse(first.isDone());
+
+		scheduledDispatch().run();
+
+		assertEquals("1", first.join().getId());
+		assertEquals("2", second.join().getId());
+		assertNull(missing.join());
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<Class<?>, List<KeyPair>>> itemsToGet = ArgumentCaptor.forClass(Map.class);
+		verify(dynamoDBTemplate).loadUncached(itemsToGet.capture());
+		assertEquals(3, itemsToGet.getValue().get(User.class).size());
+	}
+
+	@Test
+	public void testRepeatedKeyIsLoadedOnceButNotShared() {
+		when(dynamoDBTemplate.loadUncached(anyMap())).thenReturn(Collections.singletonList(user("1")));
+
+		CompletableFuture<User> first = loadBatcher.load(User.class, "1", null);
+		CompletableFuture<User> second = loadBatcher.load(User.class, "1", null);
+		scheduledDispatch().run();
+
+		assertEquals("1", first.join().getId());
+		assertEquals("1", second.join().getId());
+		assertNotSame(first.join(), second.join());
+	}
+
+	@Test
+	public void testFullBatchIsDispatchedImmediately() {
+		when(dynamoDBTemplate.loadUncached(anyMap())).thenReturn(Collections.emptyList());
+
+		for (int i = 0; i < LoadBatcher.MAX_BATCH_GET_SIZE; i++) {
+			loadBatcher.load(User.class, String.valueOf(i), null);
+		}
+		verify(dispatchExecutor).execute(any(Runnable.class));
+		// The window elapsing afterwards must not dispatch the batch again
+		scheduledDispatch().run();
+
+		verify(dynamoDBTemplate).loadUncached(anyMap());
+	}
+
+	@Test
+	public void testLoadWhileDispatchingIsDispatchedRightAway() {
+		AtomicReference<CompletableFuture<User>> nested = new AtomicReference<>();
+		when(dynamoDBTemplate.loadUncached(anyMap())).thenAnswer(invocation -> {
+			if (nested.get() == null) {
+				// E.g. a callback of a completed load blocking on another load
+				nested.set(loadBatcher.load(User.class, "2", null));
+				assertTrue(nested.get().isDone());
+				return Collections.singletonList(user("1"));
+			}
+			return Collections.singletonList(user("2"));
+		});
+
+		CompletableFuture<User> first = loadBatcher.load(User.class, "1", null);
+		scheduledDispatch().run();
+
+		assertEquals("1", first.join().getId());
+		assertEquals("2", nested.get().join().getId());
+		verify(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+	}
+
+	@Test
+	public void testShutdownDispatchesPendingBatches() {
+		when(dynamoDBTemplate.loadUncached(anyMap())).thenReturn(Collections.singletonList(user("1")));
+		CompletableFuture<User> pending = loadBatcher.load(User.class, "1", null);
+
+		loadBatcher.shutdown();
+
+		assertEquals("1", pending.join().getId());
+		verify(scheduler).shutdownNow();
+		verify(dispatchExecutor).shutdown();
+		// Loads after the shutdown are not batched anymore
+		assertTrue(loadBatcher.load(User.class, "1", null).isDone());
+	}
+
+	@Test
+	public void testFailureCompletesAllCallers() {
+		when(dynamoDBTemplate.loadUncached(anyMap())).thenThrow(new IllegalStateException("Test Exception"));
+
+		CompletableFuture<User> first = loadBatcher.load(User.class, "1", null);
+		CompletableFuture<User> second = loadBatcher.load(User.class, "2", null);
+		scheduledDispatch().run();
+
+		assertTrue(first.isCompletedExceptionally());
+		assertTrue(second.isCompletedExceptionally());
+		try {
+			first.join();
+		} catch (CompletionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBCacheable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class LocalEntityCacheTest {
+
+	@DynamoDBCacheable(ttl = 10, timeUnit = TimeUnit.MILLISECONDS, maxSize = 2)
+	private static class CachedEntity {
+	}
+
+	private final AtomicLong now = new AtomicLong();
+	private final LocalEntityCache cache = new LocalEntityCache(now::get);
+
+	private static Map<String, AttributeValue> key(String id) {
+		return Collections.singletonMap("Id", new AttributeValue(id));
+	}
+
+	@Test
+	public void testGetReturnsPutItem() {
+		cache.put("cached", CachedEntity.class, key("1"), key("1"));
+
+		assertEquals(key("1"), cache.get("cached", key("1")));
+		assertNull(cache.get("cached", key("2")));
+	}
+
+	@Test
+	public void testExpiresAfterTtl() {
+		cache.put("cached", CachedEntity.class, key("1"), key("1"));
+
+		now.set(9);
+		assertEquals(key("1"), cache.get("cached", key("1")));
+		now.set(10);
+		assertNull(cache.get("cached", key("1")));
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsedBeyondMaxSize() {
+		cache.put("cached", CachedEntity.class, key("1"), key("1"));
+		cache.put("cached", CachedEntity.class, key("2"), key("2"));
+		cache.get("cached", key("1"));
+		cache.put("cached", CachedEntity.class, key("3"), key("3"));
+
+		assertEquals(key("1"), cache.get("cached", key("1")));
+		assertNull(cache.get("cached", key("2")));
+		assertEquals(key("3"), cache.get("cached", key("3")));
+	}
+
+	@Test
+	public void testEvict() {
+		cache.put("cached", CachedEntity.class, key("1"), key("1"));
+		cache.evict("cached", key("1"));
+
+		assertNull(cache.get("cached", key("1")));
+	}
+
+	@Test
+	public void testEntityTypesShareTableRegion() {
+		cache.put("cached", CachedEntity.class, key("1"), key("1"));
+
+		assertEquals(key("1"), cache.get("cached", key("1")));
+		assertNull(cache.get("other", key("1")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRejectsTypesWithoutAnnotation() {
+		cache.put("user", User.class, key("1"), key("1"));
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Test;
+
+public class ContinuationTokenTest {
+
+	@Test
+	public void testRoundTrip() {
+		Map<String, AttributeValue> lastEvaluatedKey = new HashMap<>();
+		lastEvaluatedKey.put("id", new AttributeValue().withS("someId"));
+		lastEvaluatedKey.put("rangeKey", new AttributeValue().withN("42"));
+		lastEvaluatedKey.put("binary", new AttributeValue().withB(ByteBuffer.wrap(new byte[]{1, 2, 3})));
+
+		String token = ContinuationToken.encode(lastEvaluatedKey);
+
+		assertEquals(lastEvaluatedKey, ContinuationToken.decode(token));
+	}
+
+	@Test
+	public void testSegmentRoundTrip() {
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("id", new AttributeValue("someId"));
+
+		String token = ContinuationToken.encode(lastEvaluatedKey, 3);
+		assertEquals(lastEvaluatedKey, ContinuationToken.decode(token));
+		assertEquals(3, ContinuationToken.decodeSegment(token));
+
+		// Start at the beginning of the next segment
+		token = ContinuationToken.encode(null, 4);
+		assertNull(ContinuationToken.decode(token));
+		assertEquals(4, ContinuationToken.decodeSegment(token));
+
+		assertEquals(0, ContinuationToken.decodeSegment(ContinuationToken.encode(lastEvaluatedKey)));
+	}
+
+	@Test
+	public void testNothingToContinueWith() {
+		assertNull(ContinuationToken.encode(null));
+		assertNull(ContinuationToken.encode(Collections.emptyMap()));
+		assertNull(ContinuationToken.decode(null));
+		assertNull(ContinuationToken.decode(""));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMalformedToken() {
+		ContinuationToken.decode("not a token");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonScalarKey() {
+		ContinuationToken.encode(Collections.singletonMap("id", new AttributeValue().withSS("a", "b")));
+	}
+}
@@ -15,10 +15,14 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
@@ -26,10 +30,20 @@ import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class AbstractMultipleEntityQueryTest {
@@ -79,4 +93,43 @@ public class AbstractMultipleEntityQueryTest {
 
 		underTest.getSingleResult();
 	}
+
+	@Test
+	public void testExistsWithoutFilterReadsOneItem() {
+		when(dynamoDBOperations.queryPage(eq(User.class), any(QueryRequest.class)))
+				.thenReturn(queryResultPage(Collections.emptyList(), null));
+		underTest = new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, User.class,
+				new QueryRequest("user").withKeyConditionExpression("#h = :h"));
+
+		assertFalse(underTest.exists());
+
+		ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+		verify(dynamoDBOperations).queryPage(eq(User.class), captor.capture());
+		assertEquals(Integer.valueOf(1), captor.getValue().getLimit());
+	}
+
+	@Test
+	public void testExistsWithFilterReadsPagesUntilMatch() {
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("1"));
+		when(dynamoDBOperations.queryPage(eq(User.class), any(QueryRequest.class))).thenReturn(
+				queryResultPage(Collections.emptyList(), lastEvaluatedKey),
+				queryResultPage(Collections.singletonList(entity), lastEvaluatedKey));
+		underTest = new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, User.class,
+				new QueryRequest("user").withKeyConditionExpression("#h = :h").withFilterExpression("#n = :n"));
+
+		assertTrue(underTest.exists());
+
+		ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+		verify(dynamoDBOperations, times(2)).queryPage(eq(User.class), captor.capture());
+		assertNull(captor.getAllValues().get(0).getLimit());
+		assertEquals(lastEvaluatedKey, captor.getAllValues().get(1).getExclusiveStartKey());
+	}
+
+	private static QueryResultPage<User> queryResultPage(List<User> results,
+			Map<String, AttributeValue> lastEvaluatedKey) {
+		QueryResultPage<User> page = new QueryResultPage<>();
+		page.setResults(results);
+		page.setLastEvaluatedKey(lastEvaluatedKey);
+		return page;
+	}
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Test;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ResultPageFluxTest {
+
+	private final List<Map<String, AttributeValue>> requestedKeys = new ArrayList<>();
+
+	private static Map<String, AttributeValue> key(String value) {
+		return Collections.singletonMap("id", new AttributeValue(value));
+	}
+
+	/**
+	 * Three pages: [1, 2], [3, 4], [5]
+	 */
+	private final Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<Integer>>> threePages = key -> {
+		requestedKeys.add(key);
+		if (key == null) {
+			return CompletableFuture.completedFuture(new ResultPage<>(Arrays.asList(1, 2), key("2")));
+		} else if (key.equals(key("2"))) {
+			return CompletableFuture.completedFuture(new ResultPage<>(Arrays.asList(3, 4), key("4")));
+		} else {
+			return CompletableFuture.completedFuture(new ResultPage<>(Collections.singletonList(5), null));
+		}
+	};
+
+	@Test
+	public void testAllPages() {
+		StepVerifier.create(ResultPageFlux.from(threePages)).expectNext(1, 2, 3, 4, 5).verifyComplete();
+
+		assertEquals(3, requestedKeys.size());
+		assertNull(requestedKeys.get(0));
+		assertEquals(key("2"), requestedKeys.get(1));
+		assertEquals(key("4"), requestedKeys.get(2));
+	}
+
+	@Test
+	public void testPagesAreFetchedOnDemand() {
+		StepVerifier.create(ResultPageFlux.from(threePages), 0).then(() -> assertEquals(0, requestedKeys.size()))
+				.thenRequest(1).expectNext(1).then(() -> assertEquals(1, requestedKeys.size()))
+				.thenRequest(1).expectNext(2).then(() -> assertEquals(1, requestedKeys.size()))
+				.thenRequest(1).expectNext(3).then(() -> assertEquals(2, requestedKeys.size()))
+				.thenCancel().verify();
+
+		assertEquals(2, requestedKeys.size());
+	}
+
+	@Test
+	public void testEmptyPagesAreSkipped() {
+		Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<Integer>>> pages = key -> {
+			if (key == null) {
+				return CompletableFuture.completedFuture(new ResultPage<>(Collections.emptyList(), key("1")));
+			}
+			return CompletableFuture.completedFuture(new ResultPage<>(Collections.singletonList(1), null));
+		};
+
+		StepVerifier.create(ResultPageFlux.from(pages)).expectNext(1).verifyComplete();
+	}
+
+	@Test
+	public void testAsynchronousPages() {
+		Function<Map<String, AttributeValue>, CompletableFuture<ResultPage<Integer>>> pages = key -> CompletableFuture
+				.supplyAsync(() -> threePages.apply(key).join());
+
+		StepVerifier.create(ResultPageFlux.from(pages)).expectNext(1, 2, 3, 4, 5).verifyComplete();
+	}
+
+	@Test
+	public void testError() {
+		AmazonServiceException exception = new AmazonServiceException("boom");
+		CompletableFuture<ResultPage<Integer>> failed = new CompletableFuture<>();
+		failed.completeExceptionally(exception);
+
+		StepVerifier.create(ResultPageFlux.from(key -> failed)).verifyErrorMatches(e -> e == exception);
+	}
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResultPageIteratorTest {
+
+	private final List<Map<String, AttributeValue>> requestedKeys = new ArrayList<>();
+
+	private static Map<String, AttributeValue> key(String value) {
+		return Collections.singletonMap("id", new AttributeValue(value));
+	}
+
+	/**
+	 * Three pages: [1, 2], [], [3]
+	 */
+	private final Function<Map<String, AttributeValue>, ResultPage<Integer>> threePages = key -> {
+		requestedKeys.add(key);
+		if (key == null) {
+			return new ResultPage<>(Arrays.asList(1, 2), key("2"));
+		} else if (key.equals(key("2"))) {
+			return new ResultPage<>(Collections.emptyList(), key("x"));
+		} else {
+			return new ResultPage<>(Collections.singletonList(3), null);
+		}
+	};
+
+	@Test
+	public void testAllPages() {
+		ResultPageIterator<Integer> underTest = new ResultPageIterator<>(threePages);
+
+		List<Integer> actual = new ArrayList<>();
+		underTest.forEachRemaining(actual::add);
+
+		assertEquals(Arrays.asList(1, 2, 3), actual);
+		assertEquals(3, requestedKeys.size());
+		assertNull(requestedKeys.get(0));
+		assertEquals(key("2"), requestedKeys.get(1));
+		assertEquals(key("x"), requestedKeys.get(2));
+	}
+
+	@Test
+	public void testPagesAreFetchedLazily() {
+		ResultPageIterator<Integer> underTest = new ResultPageIterator<>(threePages);
+		assertEquals(0, requestedKeys.size());
+
+		assertEquals(Integer.valueOf(1), underTest.next());
+		assertEquals(Integer.valueOf(2), underTest.next());
+		assertEquals(1, requestedKeys.size());
+
+		assertTrue(underTest.hasNext());
+		assertEquals(3, requestedKeys.size());
+	}
+
+	@Test
+	public void testClose() {
+		ResultPageIterator<Integer> underTest = new ResultPageIterator<>(threePages);
+		assertEquals(Integer.valueOf(1), underTest.next());
+
+		underTest.close();
+
+		assertFalse(underTest.hasNext());
+		assertEquals(1, requestedKeys.size());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testNextAfterLastPage() {
+		ResultPageIterator<Integer> underTest = new ResultPageIterator<>(
+				key -> new ResultPage<>(Collections.emptyList(), null));
+
+		underTest.next();
+	}
+}
@@ -25,7 +25,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ScanExpressionCountQueryTest {
@@ -78,4 +80,14 @@ public class ScanExpressionCountQueryTest {
 
 		underTest.assertScanCountEnabled(false);
 	}
+
+	@Test
+	public void testParallelCount() {
+		when(dynamoDBOperations.count(User.class, scanExpression, 8)).thenReturn(42);
+		underTest = new ScanExpressionCountQuery<>(dynamoDBOperations, User.class, scanExpression, false);
+		underTest.setScanCountEnabled(true);
+		underTest.setScanParallelism(8);
+
+		assertEquals(Long.valueOf(42), underTest.getSingleResult());
+	}
 }
@@ -28,29 +28,72 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationToken;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetSlice;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.ResultPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
 @RunWith(MockitoJUnitRunner.class)
 public class AbstractDynamoDBQueryTest {
 
 	public static interface UserRepository extends CrudRepository<User, String> {
 		public Page<User> findByName(String name, Pageable pageable);
+
+		public CompletableFuture<List<User>> findByPostCode(String postCode);
+
+		public Flux<User> findByLeaveDate(Instant leaveDate);
+
+		public Stream<User> findByNumberOfPlaylists(Integer numberOfPlaylists);
+
+		public List<UserName> findByPostCodeAndName(String postCode, String name);
+
+		public Slice<User> findByPostCode(String postCode, Pageable pageable);
+
+		public CompletableFuture<Page<User>> findByNameAndPostCode(String name, String postCode, Pageable pageable);
+
+		public CompletableFuture<Slice<User>> findByNameAndLeaveDate(String name, Instant leaveDate,
+				Pageable pageable);
+
+		public Mono<Slice<User>> findByNameAndNumberOfPlaylists(String name, Integer numberOfPlaylists,
+				Pageable pageable);
+	}
+
+	public static interface UserName {
+		String getName();
 	}
 	@Mock
 	private Query<User> query;
@@ -68,6 +111,11 @@ public class AbstractDynamoDBQueryTest {
 			super(dynamoDBOperations, method);
 		}
 
+		public TestAbstractDynamoDBQuery(DynamoDBOperations dynamoDBOperations,
+				AsyncDynamoDBOperations asyncDynamoDBOperations, DynamoDBQueryMethod<User, String> method) {
+			super(dynamoDBOperations, asyncDynamoDBOperations, method);
+		}
+
 		@Override
 		protected Query<User> doCreateQuery(Object[] values) {
 			return query;
@@ -108,6 +156,8 @@ public class AbstractDynamoDBQueryTest {
 	@Mock
 	private DynamoDBOperations dynamoDBOperations;
 	@Mock
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	@Mock
 	private RepositoryMetadata metadata;
 	@Mock
 	private ProjectionFactory factory;
@@ -180,4 +230,341 @@ public class AbstractDynamoDBQueryTest {
 		verify(content).iterator();
 	}
 
+	@Test
+	public void testKeysetSlice() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		Map<String, AttributeValue> startKey = Collections.singletonMap("Id", new AttributeValue("0"));
+		Map<String, AttributeValue> intermediateKey = Collections.singletonMap("Id", new AttributeValue("1"));
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("2"));
+		List<User> firstPage = generateContent(1);
+		List<User> secondPage = generateContent(1);
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class, Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		// Filtered items are evaluated but not returned, so the page is continued
+		// with the missing number of items only
+		when(query.getResultPage(startKey, 2)).thenReturn(new ResultPage<>(firstPage, intermediateKey));
+		when(query.getResultPage(intermediateKey, 1)).thenReturn(new ResultPage<>(secondPage, lastEvaluatedKey));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		KeysetPageRequest pageable = KeysetPageRequest.of(3, 2, ContinuationToken.encode(startKey));
+		Object actual = underTest.execute(new Object[]{"postCode", pageable});
+
+		assertThat(actual, instanceOf(KeysetSlice.class));
+		KeysetSlice<?> actualSlice = (KeysetSlice<?>) actual;
+		List<User> expected = new ArrayList<>(firstPage);
+		expected.addAll(secondPage);
+		assertThat(actualSlice.getContent(), is(expected));
+		assertEquals(ContinuationToken.encode(lastEvaluatedKey), actualSlice.getContinuationToken());
+		assertEquals(pageable.next(ContinuationToken.encode(lastEvaluatedKey)), actualSlice.nextPageable());
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testAsync() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(2);
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultListAsync(asyncDynamoDBOperations)).thenReturn(CompletableFuture.completedFuture(content));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations,
+				asyncDynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{"postCode"});
+
+		assertThat(actual, instanceOf(CompletableFuture.class));
+		assertThat(((CompletableFuture<?>) actual).get(), is(content));
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testAsyncPaged() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(4);
+
+		Method method = UserRepository.class.getMethod("findByNameAndPostCode", String.class, String.class,
+				Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		// Only the items up to the requested page are read
+		when(query.getResultPageAsync(asyncDynamoDBOperations, null, 4))
+				.thenReturn(CompletableFuture.completedFuture(new ResultPage<>(content, null)));
+		when(countQuery.getSingleResultAsync(asyncDynamoDBOperations))
+				.thenReturn(CompletableFuture.completedFuture(7L));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations,
+				asyncDynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{"name", "postCode", PageRequest.of(1, 2)});
+
+		assertThat(actual, instanceOf(CompletableFuture.class));
+		Page<?> actualPage = (Page<?>) ((CompletableFuture<?>) actual).get();
+		assertThat(actualPage.getContent(), is(content.subList(2, 4)));
+		assertEquals(7, actualPage.getTotalElements());
+		verify(query, never()).getResultList();
+		verify(countQuery, never()).getSingleResult();
+	}
+
+	@Test
+	public void testAsyncSliced() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(3);
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("3"));
+
+		Method method = UserRepository.class.getMethod("findByNameAndLeaveDate", String.class, Instant.class,
+				Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		// One more item tells whether there is a next slice
+		when(query.getResultPageAsync(asyncDynamoDBOperations, null, 3))
+				.thenReturn(CompletableFuture.completedFuture(new ResultPage<>(content, lastEvaluatedKey)));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations,
+				asyncDynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{"name", Instant.now(), PageRequest.of(0, 2)});
+
+		assertThat(actual, instanceOf(CompletableFuture.class));
+		Slice<?> actualSlice = (Slice<?>) ((CompletableFuture<?>) actual).get();
+		assertThat(actualSlice.getContent(), is(content.subList(0, 2)));
+		assertThat(actualSlice.hasNext(), is(true));
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testAsyncWithoutAsyncOperations() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(2);
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultList()).thenReturn(content);
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		// Spring Data wraps the result into the CompletableFuture in that case
+		assertThat(underTest.execute(new Object[]{"postCode"}), is(content));
+	}
+
+	@Test
+	public void testReactive() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(2);
+
+		Method method = UserRepository.class.getMethod("findByLeaveDate", Instant.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultPageAsync(asyncDynamoDBOperations, null))
+				.thenReturn(CompletableFuture.completedFuture(new ResultPage<>(content, null)));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations,
+				asyncDynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{Instant.now()});
+
+		assertThat(actual, instanceOf(Flux.class));
+		// Nothing is fetched before subscription
+		verify(query, never()).getResultPageAsync(any(), any());
+		StepVerifier.create((Flux<?>) actual).expectNextSequence(content).verifyComplete();
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testReactiveSliced() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(2);
+
+		Method method = UserRepository.class.getMethod("findByNameAndNumberOfPlaylists", String.class,
+				Integer.class, Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultPageAsync(asyncDynamoDBOperations, null, 3))
+				.thenReturn(CompletableFuture.completedFuture(new ResultPage<>(content, null)));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations,
+				asyncDynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{"name", 1, PageRequest.of(0, 2)});
+
+		assertThat(actual, instanceOf(Mono.class));
+		// Nothing is fetched before subscription
+		verify(query, never()).getResultPageAsync(any(), any(), anyInt());
+		StepVerifier.create((Mono<?>) actual).assertNext(slice -> {
+			assertThat(((Slice<?>) slice).getContent(), is(content));
+			assertThat(((Slice<?>) slice).hasNext(), is(false));
+		}).verifyComplete();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testReactiveWithoutAsyncOperations() throws Exception {
+		Method method = UserRepository.class.getMethod("findByLeaveDate", Instant.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		underTest.execute(new Object[]{Instant.now()});
+	}
+
+	@Test
+	public void testClosedProjection() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(1);
+		content.get(0).setName("name");
+
+		Method method = UserRepository.class.getMethod("findByPostCodeAndName", String.class, String.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				new SpelAwareProxyProjectionFactory());
+
+		// Only the key and the projected attributes are read
+		assertEquals(Optional.of("#p0,#p1"), dynamoDBQueryMethod.getProjectionExpression());
+		Map<String, String> names = new LinkedHashMap<>();
+		names.put("#p0", "Id");
+		names.put("#p1", "name");
+		assertEquals(names, dynamoDBQueryMethod.getProjectionExpressionAttributeNames());
+
+		when(query.getResultList()).thenReturn(content);
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		List<?> actual = (List<?>) underTest.execute(new Object[]{"postCode", "name"});
+
+		assertEquals(1, actual.size());
+		assertThat(actual.get(0), instanceOf(UserName.class));
+		assertEquals("name", ((UserName) actual.get(0)).getName());
+	}
+
+	@Test
+	public void testStream() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		List<User> firstPage = generateContent(2);
+		List<User> secondPage = generateContent(1);
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("id", new AttributeValue("1"));
+
+		Method method = UserRepository.class.getMethod("findByNumberOfPlaylists", Integer.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultPage(null)).thenReturn(new ResultPage<>(firstPage, lastEvaluatedKey));
+		when(query.getResultPage(lastEvaluatedKey)).thenReturn(new ResultPage<>(secondPage, null));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{1});
+
+		assertThat(actual, instanceOf(Stream.class));
+		// Nothing is fetched before the stream is consumed
+		verify(query, never()).getResultPage(any());
+		List<User> expected = new ArrayList<>(firstPage);
+		expected.addAll(secondPage);
+		assertThat(((Stream<?>) actual).collect(Collectors.toList()), is(expected));
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testStreamClosed() throws Exception {
+		resultsRestrictionIfApplicable = null;
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("id", new AttributeValue("1"));
+
+		Method method = UserRepository.class.getMethod("findByNumberOfPlaylists", Integer.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultPage(null)).thenReturn(new ResultPage<>(generateContent(2), lastEvaluatedKey));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		try (Stream<?> actual = (Stream<?>) underTest.execute(new Object[]{1})) {
+			Iterator<?> iterator = actual.iterator();
+			iterator.next();
+			iterator.next();
+			actual.close();
+			assertThat(iterator.hasNext(), is(false));
+		}
+		verify(query, never()).getResultPage(lastEvaluatedKey);
+	}
+
+	@Test
+	public void testStreamWithResultsRestriction() throws Exception {
+		resultsRestrictionIfApplicable = 1;
+
+		Method method = UserRepository.class.getMethod("findByNumberOfPlaylists", Integer.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		List<User> content = generateContent(1);
+		// The restriction is passed on as limit of the requests
+		when(query.getResultPage(null, 1)).thenReturn(
+				new ResultPage<>(content, Collections.singletonMap("id", new AttributeValue("1"))));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Stream<?> actual = (Stream<?>) underTest.execute(new Object[]{1});
+
+		assertThat(actual.collect(Collectors.toList()), is(content));
+		verify(query, never()).getResultPage(any());
+	}
+
+	@Test
+	public void testCollectionWithResultsRestriction() throws Exception {
+		resultsRestrictionIfApplicable = 3;
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("id", new AttributeValue("1"));
+		List<User> firstPage = generateContent(1);
+		List<User> secondPage = generateContent(2);
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		// A filter dropped two of the three items evaluated by the first request
+		when(query.getResultPage(null, 3)).thenReturn(new ResultPage<>(firstPage, lastEvaluatedKey));
+		when(query.getResultPage(lastEvaluatedKey, 2)).thenReturn(
+				new ResultPage<>(secondPage, Collections.singletonMap("id", new AttributeValue("3"))));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		List<User> expected = new ArrayList<>(firstPage);
+		expected.addAll(secondPage);
+		assertThat(underTest.execute(new Object[]{"postCode"}), is(expected));
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testFilteredCollectionWithResultsRestriction() throws Exception {
+		resultsRestrictionIfApplicable = 3;
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("id", new AttributeValue("1"));
+		List<User> firstPage = generateContent(1);
+		List<User> secondPage = generateContent(4);
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		// The limit doubles with every request and the surplus is trimmed
+		when(query.isFiltered()).thenReturn(true);
+		when(query.getResultPage(null, 3)).thenReturn(new ResultPage<>(firstPage, lastEvaluatedKey));
+		when(query.getResultPage(lastEvaluatedKey, 6)).thenReturn(
+				new ResultPage<>(secondPage, Collections.singletonMap("id", new AttributeValue("3"))));
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		List<User> expected = new ArrayList<>(firstPage);
+		expected.addAll(secondPage.subList(0, 2));
+		assertThat(underTest.execute(new Object[]{"postCode"}), is(expected));
+		verify(query, never()).getResultList();
+	}
+
 }
@@ -15,10 +15,15 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.KeyPair;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedQueryList;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
 import com.amazonaws.services.dynamodbv2.model.Condition;
@@ -32,13 +37,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
 import org.socialsignin.spring.data.dynamodb.domain.sample.DynamoDBYearMarshaller;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterScanEvent;
+import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
+import org.springframework.context.ApplicationContext;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -56,12 +65,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.socialsignin.spring.data.dynamodb.repository.util.CollectionUtils.mapOf;
 
@@ -1752,6 +1765,184 @@ public class PartTreeDynamoDBQueryUnitTest {
         Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
     }
 
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testExecute_WhenFinderMethodIsFindingEntityList_WithIn_WhenFindingByHashKey() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findByIdIn", 1, "id", null);
+        when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+        when(mockDynamoDBUserQueryMethod.getConsistentReadMode()).thenReturn(QueryConstants.ConsistentReadMode.CONSISTENT);
+
+        List<String> inParams = Arrays.asList("someId", "someOtherId", "someId");
+
+        ArgumentCaptor<Map> keysCaptor = ArgumentCaptor.forClass(Map.class);
+        List<User> users = Arrays.asList(mockUser);
+        when(mockDynamoDBOperations.batchLoad(keysCaptor.capture(), Mockito.eq(DynamoDBMapperConfig.ConsistentReads.CONSISTENT)))
+                .thenReturn((List) users);
+
+        // Execute the query
+        Object[] parameters = new Object[]{inParams};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that we obtain the loaded entities
+        assertEquals(users, o);
+
+        // Assert that every distinct hash key is looked up once, instead of scanning
+        Map<Class<?>, List<KeyPair>> keys = keysCaptor.getValue();
+        assertEquals(1, keys.size());
+        List<KeyPair> keyPairs = keys.get(User.class);
+        assertEquals(2, keyPairs.size());
+        assertEquals("someId", keyPairs.get(0).getHashKey());
+        assertNull(keyPairs.get(0).getRangeKey());
+        assertEquals("someOtherId", keyPairs.get(1).getHashKey());
+        Mockito.verify(mockDynamoDBOperations, Mockito.never()).scan(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testExecute_WhenFinderMethodIsFindingEntityList_WithIn_WithFilterExpression_WhenFindingByHashKey() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findByIdIn", 1, "id", null);
+        when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+        when(mockDynamoDBUserQueryMethod.getFilterExpression()).thenReturn(Optional.of("attribute_exists(postCode)"));
+        when(mockDynamoDBUserQueryMethod.getExpressionAttributeNames()).thenReturn(new ExpressionAttribute[0]);
+        when(mockDynamoDBUserQueryMethod.getExpressionAttributeValues()).thenReturn(new ExpressionAttribute[0]);
+
+        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(mockUserScanResults);
+
+        // Execute the query
+        Object[] parameters = new Object[]{Arrays.asList("someId", "someOtherId")};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that the filter expression of the method is evaluated by a scan,
+        // as the items looked up by key would not be filtered
+        assertEquals(mockUserScanResults, o);
+        assertEquals("attribute_exists(postCode)", scanCaptor.getValue().getFilterExpression());
+        Mockito.verify(mockDynamoDBOperations, Mockito.never()).batchLoad(Mockito.anyMap(), Mockito.any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecute_WhenFinderMethodIsFindingEntityWithCompositeIdList_WithIn_WhenFindingByHashKey() {
+        setupCommonMocksForThisRepositoryMethod(mockPlaylistEntityMetadata, mockDynamoDBPlaylistQueryMethod,
+                Playlist.class, "findByUserNameIn", 1, "userName", "playlistName");
+        when(mockDynamoDBPlaylistQueryMethod.isCollectionQuery()).thenReturn(true);
+        Playlist someUser = new Playlist();
+        someUser.setUserName("someUserName");
+        Playlist someOtherUser = new Playlist();
+        someOtherUser.setUserName("someOtherUserName");
+        when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someUserName")).thenReturn(someUser);
+        when(mockPlaylistEntityMetadata.getHashKeyPropotypeEntityForHashKey("someOtherUserName"))
+                .thenReturn(someOtherUser);
+
+        ArgumentCaptor<List<DynamoDBQueryExpression<Playlist>>> queriesCaptor = ArgumentCaptor.forClass(List.class);
+        List<Playlist> playlists = Arrays.asList(mockPlaylist);
+        when(mockDynamoDBOperations.batchQuery(playlistClassCaptor.capture(), queriesCaptor.capture()))
+                .thenReturn(playlists);
+
+        // Execute the query
+        Object[] parameters = new Object[]{Arrays.asList("someUserName", "someOtherUserName")};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that we obtain the expected results
+        assertEquals(playlists, o);
+        assertEquals(Playlist.class, playlistClassCaptor.getValue());
+
+        // Assert that there is one query per hash key, instead of a scan
+        List<DynamoDBQueryExpression<Playlist>> queries = queriesCaptor.getValue();
+        assertEquals(2, queries.size());
+        assertEquals(someUser, queries.get(0).getHashKeyValues());
+        assertEquals(someOtherUser, queries.get(1).getHashKeyValues());
+        assertEquals(0, queries.get(0).getRangeKeyConditions().size());
+        Mockito.verify(mockDynamoDBOperations, Mockito.never()).scan(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecute_WhenFinderMethodIsFindingEntityList_WithOr_WhenFindingByHashKeyInAllBranches() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findByIdOrId", 2, "id", null);
+        when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+        when(mockDynamoDBOperations.getTableModel(User.class))
+                .thenReturn(new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class)).getTableModel(User.class));
+        when(mockDynamoDBOperations.batchRead(Mockito.anyList())).thenAnswer(invocation -> {
+            List<Supplier<?>> reads = invocation.getArgument(0);
+            return reads.stream().map(Supplier::get).collect(Collectors.toList());
+        });
+        User someUser = new User();
+        someUser.setId("someId");
+        User someOtherUser = new User();
+        someOtherUser.setId("someOtherId");
+        when(mockDynamoDBOperations.load(User.class, "someId")).thenReturn(someUser);
+        when(mockDynamoDBOperations.load(User.class, "someOtherId")).thenReturn(someOtherUser);
+
+        // Execute the query
+        Object[] parameters = new Object[]{"someId", "someOtherId"};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that both branches are loaded by key instead of scanning
+        assertEquals(Arrays.asList(someUser, someOtherUser), o);
+        Mockito.verify(mockDynamoDBOperations, Mockito.never()).scan(Mockito.any(), Mockito.any());
+
+        // Assert that an item matching both branches is returned once
+        parameters = new Object[]{"someId", "someId"};
+        o = partTreeDynamoDBQuery.execute(parameters);
+        assertEquals(Arrays.asList(someUser), o);
+    }
+
+    @Test
+    public void testExecute_WhenFinderMethodIsFindingEntityList_WithOr_WhenNotFindingByHashKeyInAllBranches() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findByIdOrName", 2, "id", null);
+        when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(mockUserScanResults);
+
+        // Execute the query
+        Object[] parameters = new Object[]{"someId", "someName"};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that we obtain the expected list of results
+        assertEquals(mockUserScanResults, o);
+
+        // Assert that a single scan evaluates the conditions of both branches
+        DynamoDBScanExpression scanExpression = scanCaptor.getValue();
+        assertEquals("#key1 = :value1 OR #key2 = :value2", scanExpression.getFilterExpression());
+        assertEquals(mapOf("#key1", "id", "#key2", "name"), scanExpression.getExpressionAttributeNames());
+        assertEquals(mapOf(
+                ":value1", new AttributeValue().withS("someId"),
+                ":value2", new AttributeValue().withS("someName")), scanExpression.getExpressionAttributeValues());
+        Mockito.verify(mockDynamoDBOperations, Mockito.never()).load(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testExecute_WhenFinderMethodIsInvokedRepeatedly_BindsValuesToCompiledFilterExpression() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findByNameAndPostCode", 2, "id", null);
+        when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(mockUserScanResults);
+
+        // Execute the query twice with different values
+        partTreeDynamoDBQuery.execute(new Object[]{"someName", "somePostCode"});
+        partTreeDynamoDBQuery.execute(new Object[]{"someOtherName", "someOtherPostCode"});
+
+        List<DynamoDBScanExpression> scanExpressions = scanCaptor.getAllValues();
+        assertEquals(2, scanExpressions.size());
+        for (DynamoDBScanExpression scanExpression : scanExpressions) {
+            assertEquals("#key1 = :value1 AND #key2 = :value2", scanExpression.getFilterExpression());
+            assertEquals(mapOf("#key1", "name", "#key2", "postCode"), scanExpression.getExpressionAttributeNames());
+        }
+
+        // Assert that every invocation binds its own values
+        assertEquals(mapOf(
+                ":value1", new AttributeValue().withS("someName"),
+                ":value2", new AttributeValue().withS("somePostCode")), scanExpressions.get(0).getExpressionAttributeValues());
+        assertEquals(mapOf(
+                ":value1", new AttributeValue().withS("someOtherName"),
+                ":value2", new AttributeValue().withS("someOtherPostCode")), scanExpressions.get(1).getExpressionAttributeValues());
+    }
+
     @Test
     public void testExecute_WhenFinderMethodIsFindingEntityList_WithSingleDateParameter_WhenNotFindingByHashKey() throws ParseException {
         String joinDateString = "2013-09-12T14:04:03.123Z";
@@ -3183,10 +3374,12 @@ public class PartTreeDynamoDBQueryUnitTest {
                 "existsByName", 1, "id", null);
         when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
 
-        // Mockito.when(mockUserScanResults.size()).thenReturn(0);
-        when(mockUserScanResults.isEmpty()).thenReturn(true);
-        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-                .thenReturn(mockUserScanResults);
+        // The filter is applied after the limit, so whole pages are read
+        when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenAnswer(invocation -> {
+                    assertNull(invocation.<DynamoDBScanExpression>getArgument(1).getLimit());
+                    return scanResultPage();
+                });
 
         // Execute the query
         Object[] parameters = new Object[]{"someName"};
@@ -3213,7 +3406,7 @@ public class PartTreeDynamoDBQueryUnitTest {
         assertThat(scanExpression.getFilterExpression(), containsString("#key1 = :value1"));
 
         // Verify that the expected DynamoDBOperations method was called
-        Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+        Mockito.verify(mockDynamoDBOperations).scanPage(userClassCaptor.getValue(), scanCaptor.getValue());
     }
 
 	@Test
@@ -3224,9 +3417,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 
         // Mockito.when(mockUserScanResults.get(0)).thenReturn(mockUser);
         // Mockito.when(mockUserScanResults.size()).thenReturn(1);
-        when(mockUserScanResults.isEmpty()).thenReturn(false);
-        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-                .thenReturn(mockUserScanResults);
+        when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(scanResultPage(new User()));
 
         // Execute the query
         Object[] parameters = new Object[]{"someName"};
@@ -3253,7 +3445,7 @@ public class PartTreeDynamoDBQueryUnitTest {
         assertThat(scanExpression.getFilterExpression(), containsString("#key1 = :value1"));
 
         // Verify that the expected DynamoDBOperations method was called
-        Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+        Mockito.verify(mockDynamoDBOperations).scanPage(userClassCaptor.getValue(), scanCaptor.getValue());
     }
 
 	@Test
@@ -3265,9 +3457,8 @@ public class PartTreeDynamoDBQueryUnitTest {
         // Mockito.when(mockUserScanResults.get(0)).thenReturn(mockUser);
         // Mockito.when(mockUserScanResults.get(1)).thenReturn(mockUser);
         // Mockito.when(mockUserScanResults.size()).thenReturn(2);
-        when(mockUserScanResults.isEmpty()).thenReturn(false);
-        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-                .thenReturn(mockUserScanResults);
+        when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(scanResultPage(new User(), new User()));
 
         // Execute the query
         Object[] parameters = new Object[]{"someName"};
@@ -3294,7 +3485,7 @@ public class PartTreeDynamoDBQueryUnitTest {
         assertThat(scanExpression.getFilterExpression(), containsString("#key1 = :value1"));
 
         // Verify that the expected DynamoDBOperations method was called
-        Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+        Mockito.verify(mockDynamoDBOperations).scanPage(userClassCaptor.getValue(), scanCaptor.getValue());
     }
 
 	@Test
@@ -3304,9 +3495,8 @@ public class PartTreeDynamoDBQueryUnitTest {
         when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
 
         // Mockito.when(mockUserScanResults.size()).thenReturn(0);
-        when(mockUserScanResults.isEmpty()).thenReturn(true);
-        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-                .thenReturn(mockUserScanResults);
+        when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(scanResultPage());
 
         // Execute the query
         Object[] parameters = new Object[]{"someName"};
@@ -3332,7 +3522,7 @@ public class PartTreeDynamoDBQueryUnitTest {
         assertThat(scanExpression.getFilterExpression(), containsString("#key1 = :value1"));
 
         // Verify that the expected DynamoDBOperations method was called
-        Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+        Mockito.verify(mockDynamoDBOperations).scanPage(userClassCaptor.getValue(), scanCaptor.getValue());
     }
 
 	@Test
@@ -3343,9 +3533,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 
         // Mockito.when(mockUserScanResults.get(0)).thenReturn(mockUser);
         // Mockito.when(mockUserScanResults.size()).thenReturn(1);
-        when(mockUserScanResults.isEmpty()).thenReturn(false);
-        when(mockDynamoDBOperations.scan(userClassCaptor.capture(), scanCaptor.capture()))
-                .thenReturn(mockUserScanResults);
+        when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(scanResultPage(new User()));
 
         // Execute the query
         Object[] parameters = new Object[]{"someName"};
@@ -3372,6 +3561,97 @@ public class PartTreeDynamoDBQueryUnitTest {
         assertThat(scanExpression.getFilterExpression(), containsString("#key1 = :value1"));
 
         // Verify that the expected DynamoDBOperations method was called
-        Mockito.verify(mockDynamoDBOperations).scan(userClassCaptor.getValue(), scanCaptor.getValue());
+        Mockito.verify(mockDynamoDBOperations).scanPage(userClassCaptor.getValue(), scanCaptor.getValue());
+    }
+
+    @Test
+    public void testExecute_WhenDeleteQueryReturnsCount_DeletesKeysPageByPage() {
+        when(mockDynamoDBUserQueryMethod.isVoidOrNumberQuery()).thenReturn(true);
+        when(mockDynamoDBUserQueryMethod.getKeyProjectionExpression()).thenReturn("#p0");
+        when(mockDynamoDBUserQueryMethod.getKeyProjectionExpressionAttributeNames()).thenReturn(mapOf("#p0", "id"));
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "deleteByName", 1, "id", null);
+        when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
+
+        User first = new User();
+        User second = new User();
+        User third = new User();
+        ScanResultPage<User> firstPage = scanResultPage(first, second);
+        firstPage.setLastEvaluatedKey(mapOf("id", new AttributeValue("2")));
+        when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(firstPage, scanResultPage(third));
+
+        // Execute the query
+        Object[] parameters = new Object[]{"someName"};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that the number of deleted items is returned
+        assertEquals(3L, o);
+
+        // Assert that only the keys are read
+        DynamoDBScanExpression scanExpression = scanCaptor.getValue();
+        assertEquals("#p0", scanExpression.getProjectionExpression());
+        assertEquals("id", scanExpression.getExpressionAttributeNames().get("#p0"));
+
+        // Verify that every page is deleted on its own
+        Mockito.verify(mockDynamoDBOperations).batchDelete(Arrays.asList(first, second));
+        Mockito.verify(mockDynamoDBOperations).batchDelete(Arrays.asList(third));
+        Mockito.verify(mockDynamoDBOperations, Mockito.never()).scan(userClassCaptor.getValue(), scanExpression);
+    }
+
+    @Test
+    public void testExecute_WhenDeleteQueryReturnsCount_WhenEntityIsRequiredForDelete_DeletesFullEntities() {
+        when(mockDynamoDBUserQueryMethod.isVoidOrNumberQuery()).thenReturn(true);
+        when(mockDynamoDBUserQueryMethod.getKeyProjectionExpression()).thenReturn("#p0");
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "deleteByName", 1, "id", null);
+        when(mockDynamoDBOperations.isEntityRequiredForDelete(User.class)).thenReturn(true);
+
+        User user = new User();
+        when(mockDynamoDBOperations.scanPage(userClassCaptor.capture(), scanCaptor.capture()))
+                .thenReturn(scanResultPage(user));
+
+        // Execute the query
+        Object[] parameters = new Object[]{"someName"};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that the full entities are read, as the deletes are observed
+        assertEquals(1L, o);
+        assertNull(scanCaptor.getValue().getProjectionExpression());
+        Mockito.verify(mockDynamoDBOperations).batchDelete(Arrays.asList(user));
+    }
+
+    @Test
+    public void testExecute_WhenFinderMethodIsLimited_PublishesAfterScanEventPerItem() {
+        setupCommonMocksForThisRepositoryMethod(mockUserEntityMetadata, mockDynamoDBUserQueryMethod, User.class,
+                "findTop3ByName", 1, "id", null);
+        when(mockDynamoDBUserQueryMethod.isCollectionQuery()).thenReturn(true);
+        when(mockUserEntityMetadata.getOverriddenAttributeName("name")).thenReturn(Optional.of("Name"));
+
+        // The limited finder reads single pages, which must be observed just like whole scans
+        DynamoDBMapper dynamoDBMapper = Mockito.mock(DynamoDBMapper.class);
+        ApplicationContext applicationContext = Mockito.mock(ApplicationContext.class);
+        DynamoDBTemplate dynamoDBTemplate = new DynamoDBTemplate(Mockito.mock(AmazonDynamoDB.class), dynamoDBMapper,
+                Mockito.mock(DynamoDBMapperConfig.class));
+        dynamoDBTemplate.setApplicationContext(applicationContext);
+        partTreeDynamoDBQuery = new PartTreeDynamoDBQuery<>(dynamoDBTemplate, mockDynamoDBUserQueryMethod);
+
+        List<User> users = Arrays.asList(new User(), new User(), new User());
+        when(dynamoDBMapper.scanPage(eq(User.class), any(DynamoDBScanExpression.class)))
+                .thenReturn(scanResultPage(users.toArray(new User[0])));
+
+        // Execute the query
+        Object[] parameters = new Object[]{"someName"};
+        Object o = partTreeDynamoDBQuery.execute(parameters);
+
+        // Assert that every item read is published
+        assertEquals(users, o);
+        Mockito.verify(applicationContext, Mockito.times(3)).publishEvent(any(AfterScanEvent.class));
     }
+
+	private static ScanResultPage<User> scanResultPage(User... users) {
+		ScanResultPage<User> page = new ScanResultPage<>();
+		page.setResults(Arrays.asList(users));
+		return page;
+	}
 }
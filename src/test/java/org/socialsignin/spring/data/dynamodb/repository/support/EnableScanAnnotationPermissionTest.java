@@ -25,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -39,6 +40,19 @@ public class EnableScanAnnotationPermissionTest {
 		List<User> findAll();
 	}
 
+	@EnableScan(parallelism = 16)
+	public interface SampleParallelRepository {
+		List<User> findAll();
+	}
+
+	public interface SampleParallelMethodRepository {
+		@EnableScan(parallelism = 8)
+		List<User> findAll();
+
+		@EnableScan
+		int count();
+	}
+
 	@EnableScanCount
 	public interface SampleMethodRepository {
 
@@ -96,4 +110,22 @@ public class EnableScanAnnotationPermissionTest {
 		assertFalse(underTest.isFindAllUnpaginatedScanEnabled());
 	}
 
+	@Test
+	public void testSampleParallelRepository() {
+		EnableScanAnnotationPermissions underTest = new EnableScanAnnotationPermissions(
+				SampleParallelRepository.class);
+
+		assertEquals(16, underTest.getFindAllScanParallelism());
+		assertEquals(16, underTest.getCountScanParallelism());
+	}
+
+	@Test
+	public void testSampleParallelMethodRepository() {
+		EnableScanAnnotationPermissions underTest = new EnableScanAnnotationPermissions(
+				SampleParallelMethodRepository.class);
+
+		assertEquals(8, underTest.getFindAllScanParallelism());
+		assertEquals(1, underTest.getCountScanParallelism());
+	}
+
 }
@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.PaginatedScanList;
@@ -32,13 +33,17 @@ import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.springframework.dao.EmptyResultDataAccessException;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.Assert.assertEquals;
@@ -115,17 +120,63 @@ public class SimpleDynamoDBCrudRepositoryTest {
 	@Test
 	public void deleteById() {
 		final long id = ThreadLocalRandom.current().nextLong();
-		User testResult = new User();
-		testResult.setId(Long.toString(id));
 
 		when(entityWithSimpleIdInformation.getHashKey(id)).thenReturn(id);
-		when(dynamoDBOperations.load(User.class, id)).thenReturn(testResult);
+		when(dynamoDBOperations.deleteByKey(User.class, id, null)).thenReturn(true);
 
 		repoForEntityWithOnlyHashKey.deleteById(id);
 
-		ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-		Mockito.verify(dynamoDBOperations).delete(captor.capture());
-		Assert.assertEquals(Long.toString(id), captor.getValue().getId());
+		verify(dynamoDBOperations, Mockito.never()).load(User.class, id);
+		verify(dynamoDBOperations, Mockito.never()).delete(any());
+	}
+
+	@Test
+	public void deleteByIdDeletesTheEntityIfRequired() {
+		when(entityWithSimpleIdInformation.getHashKey(1l)).thenReturn(1l);
+		when(dynamoDBOperations.isEntityRequiredForDelete(User.class)).thenReturn(true);
+
+		repoForEntityWithOnlyHashKey.deleteById(1l);
+
+		verify(dynamoDBOperations).delete(testUser);
+		verify(dynamoDBOperations, Mockito.never()).deleteByKey(any(), any(), any());
+	}
+
+	@Test
+	public void saveWithWriteBehindIsBufferedUntilFlushed() {
+		when(entityWithSimpleIdInformation.getId(testUser)).thenReturn(1l);
+		WriteBehindBuffer<User, Long> writeBehindBuffer = new WriteBehindBuffer<>(dynamoDBOperations,
+				entityWithSimpleIdInformation, 100, 25, 100, Mockito.mock(ScheduledExecutorService.class));
+		repoForEntityWithOnlyHashKey.setWriteBehindBuffer(writeBehindBuffer);
+
+		repoForEntityWithOnlyHashKey.save(testUser);
+
+		verify(dynamoDBOperations, Mockito.never()).save(testUser);
+		assertSame(testUser, repoForEntityWithOnlyHashKey.findById(1l).get());
+
+		writeBehindBuffer.close();
+
+		verify(dynamoDBOperations).batchSave(Collections.singletonList(testUser));
+	}
+
+	@Test
+	public void updateUsesOverriddenAttributeNames() {
+		when(entityWithSimpleIdInformation.getOverriddenAttributeName("name")).thenReturn(Optional.of("userName"));
+		when(entityWithSimpleIdInformation.getOverriddenAttributeName("postCode")).thenReturn(Optional.empty());
+
+		assertSame(testUser, repoForEntityWithOnlyHashKey.update(testUser, "name", "postCode"));
+
+		verify(dynamoDBOperations).update(testUser, Arrays.asList("userName", "postCode"));
+	}
+
+	@Test
+	public void incrementWithoutRead() {
+		when(entityWithCompositeIdInformation.getOverriddenAttributeName("views")).thenReturn(Optional.empty());
+		when(dynamoDBOperations.increment(Playlist.class, "michael", "playlist1", "views", 2))
+				.thenReturn(BigDecimal.valueOf(5));
+
+		assertEquals(BigDecimal.valueOf(5), repoForEntityWithHashAndRangeKey.increment(testPlaylistId, "views", 2));
+
+		verify(dynamoDBOperations, Mockito.never()).load(Playlist.class, "michael", "playlist1");
 	}
 
 	@Test
@@ -144,10 +195,22 @@ public class SimpleDynamoDBCrudRepositoryTest {
 
 	@Test
 	public void deleteAll() {
-		when(dynamoDBOperations.scan(eq(User.class), any(DynamoDBScanExpression.class))).thenReturn(findAllResultMock);
+		when(mockEnableScanPermissions.getFindAllScanParallelism()).thenReturn(4);
+		when(dynamoDBOperations.deleteAll(User.class, 4)).thenReturn(Collections.emptyList());
+
+		repoForEntityWithOnlyHashKey.deleteAll();
+
+		verify(dynamoDBOperations, Mockito.never()).scan(eq(User.class), any(DynamoDBScanExpression.class));
+		verify(dynamoDBOperations, Mockito.never()).batchDelete(any());
+	}
+
+	@Test(expected = BatchDeleteException.class)
+	public void deleteAllFailure() {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new AmazonClientException("unprocessed"));
+		when(dynamoDBOperations.deleteAll(User.class, 1)).thenReturn(Collections.singletonList(failedBatch));
 
 		repoForEntityWithOnlyHashKey.deleteAll();
-		verify(dynamoDBOperations).batchDelete(findAllResultMock);
 	}
 
 	@Test
@@ -159,6 +222,17 @@ public class SimpleDynamoDBCrudRepositoryTest {
 		assertSame(actual, findAllResultMock);
 	}
 
+	@Test
+	public void testFindAllParallel() {
+		when(mockEnableScanPermissions.getFindAllScanParallelism()).thenReturn(16);
+		when(dynamoDBOperations.parallelScan(eq(User.class), any(DynamoDBScanExpression.class), eq(16)))
+				.thenReturn(findAllResultMock);
+
+		List<User> actual = repoForEntityWithOnlyHashKey.findAll();
+
+		assertSame(actual, findAllResultMock);
+	}
+
 	/**
 	 * /**
 	 * 
@@ -185,7 +259,7 @@ public class SimpleDynamoDBCrudRepositoryTest {
 
 	@Test
 	public void existsEntityWithOnlyHashKey() {
-		when(dynamoDBOperations.load(User.class, 1l)).thenReturn(null);
+		when(dynamoDBOperations.exists(User.class, 1l, null)).thenReturn(false);
 
 		boolean actual = repoForEntityWithOnlyHashKey.existsById(1l);
 
@@ -199,6 +273,14 @@ public class SimpleDynamoDBCrudRepositoryTest {
 		verify(dynamoDBOperations).count(eq(User.class), any(DynamoDBScanExpression.class));
 	}
 
+	@Test
+	public void testCountParallel() {
+		when(mockEnableScanPermissions.getCountScanParallelism()).thenReturn(4);
+		when(dynamoDBOperations.count(eq(User.class), any(DynamoDBScanExpression.class), eq(4))).thenReturn(42);
+
+		assertEquals(42, repoForEntityWithOnlyHashKey.count());
+	}
+
 	@Test
 	public void findOneEntityWithOnlyHashKey() {
 		Optional<User> user = repoForEntityWithOnlyHashKey.findById(1l);
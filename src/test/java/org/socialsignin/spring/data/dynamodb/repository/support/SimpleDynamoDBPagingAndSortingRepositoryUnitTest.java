@@ -15,21 +15,37 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationToken;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.KeysetSlice;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.springframework.dao.EmptyResultDataAccessException;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -126,4 +142,39 @@ public class SimpleDynamoDBPagingAndSortingRepositoryUnitTest {
 
 		repoForEntityWithHashAndRangeKey.deleteById(playlistId);
 	}
+
+	@Test
+	public void findAllContinuesParallelScanAtContinuationToken() {
+		Map<String, AttributeValue> startKey = Collections.singletonMap("Id", new AttributeValue("0"));
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("1"));
+		User otherUser = new User();
+
+		when(mockEnableScanPermissions.isFindAllPaginatedScanEnabled()).thenReturn(true);
+		when(mockEnableScanPermissions.getFindAllScanParallelism()).thenReturn(2);
+		// The first segment is exhausted, the page is completed from the second one
+		ScanResultPage<User> firstSegmentPage = new ScanResultPage<>();
+		firstSegmentPage.setResults(Collections.singletonList(testUser));
+		ScanResultPage<User> secondSegmentPage = new ScanResultPage<>();
+		secondSegmentPage.setResults(Collections.singletonList(otherUser));
+		secondSegmentPage.setLastEvaluatedKey(lastEvaluatedKey);
+		when(dynamoDBOperations.scanPage(any(), any())).thenReturn(firstSegmentPage, secondSegmentPage);
+
+		KeysetSlice<User> slice = repoForEntityWithOnlyHashKey
+				.findAll(KeysetPageRequest.of(1, 2, ContinuationToken.encode(startKey, 0)));
+
+		assertEquals(Arrays.asList(testUser, otherUser), slice.getContent());
+		assertEquals(ContinuationToken.encode(lastEvaluatedKey, 1), slice.getContinuationToken());
+
+		ArgumentCaptor<DynamoDBScanExpression> scanExpressions = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		verify(dynamoDBOperations, times(2)).scanPage(Mockito.eq(User.class), scanExpressions.capture());
+		List<DynamoDBScanExpression> expressions = scanExpressions.getAllValues();
+		assertEquals(startKey, expressions.get(0).getExclusiveStartKey());
+		assertEquals(Integer.valueOf(0), expressions.get(0).getSegment());
+		assertEquals(Integer.valueOf(2), expressions.get(0).getLimit());
+		assertNull(expressions.get(1).getExclusiveStartKey());
+		assertEquals(Integer.valueOf(1), expressions.get(1).getSegment());
+		assertEquals(Integer.valueOf(1), expressions.get(1).getLimit());
+		// No count scan for slices
+		verify(dynamoDBOperations, never()).count(Mockito.eq(User.class), any(DynamoDBScanExpression.class));
+	}
 }
@@ -0,0 +1,254 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SimpleReactiveDynamoDBCrudRepositoryTest {
+	@Rule
+	public ExpectedException expectedException = ExpectedException.none();
+
+	@Mock
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	@Mock
+	private EnableScanPermissions mockEnableScanPermissions;
+	@Mock
+	private DynamoDBEntityInformation<User, Long> entityWithSimpleIdInformation;
+	@Mock
+	private DynamoDBEntityInformation<Playlist, PlaylistId> entityWithCompositeIdInformation;
+
+	private User testUser;
+	private Playlist testPlaylist;
+	private PlaylistId testPlaylistId;
+
+	private SimpleReactiveDynamoDBCrudRepository<User, Long> repoForEntityWithOnlyHashKey;
+	private SimpleReactiveDynamoDBCrudRepository<Playlist, PlaylistId> repoForEntityWithHashAndRangeKey;
+
+	@Before
+	public void setUp() {
+		testUser = new User();
+		testUser.setId("1");
+
+		testPlaylistId = new PlaylistId();
+		testPlaylistId.setUserName("michael");
+		testPlaylistId.setPlaylistName("playlist1");
+
+		testPlaylist = new Playlist(testPlaylistId);
+
+		when(entityWithSimpleIdInformation.getJavaType()).thenReturn(User.class);
+		when(entityWithCompositeIdInformation.getJavaType()).thenReturn(Playlist.class);
+
+		repoForEntityWithOnlyHashKey = new SimpleReactiveDynamoDBCrudRepository<>(entityWithSimpleIdInformation,
+				asyncDynamoDBOperations, mockEnableScanPermissions);
+		repoForEntityWithHashAndRangeKey = new SimpleReactiveDynamoDBCrudRepository<>(
+				entityWithCompositeIdInformation, asyncDynamoDBOperations, mockEnableScanPermissions);
+	}
+
+	private static <T> ScanResultPage<T> scanPage(List<T> results, Map<String, AttributeValue> lastEvaluatedKey) {
+		ScanResultPage<T> page = new ScanResultPage<>();
+		page.setResults(results);
+		page.setLastEvaluatedKey(lastEvaluatedKey);
+		return page;
+	}
+
+	@Test
+	public void testFindByIdIsLazy() {
+		when(entityWithSimpleIdInformation.getHashKey(1L)).thenReturn(1L);
+		when(asyncDynamoDBOperations.load(User.class, 1L)).thenReturn(CompletableFuture.completedFuture(testUser));
+
+		Mono<User> actual = repoForEntityWithOnlyHashKey.findById(1L);
+		verify(asyncDynamoDBOperations, never()).load(User.class, 1L);
+
+		StepVerifier.create(actual).expectNext(testUser).verifyComplete();
+	}
+
+	@Test
+	public void testFindByIdWithCompositeId() {
+		when(entityWithCompositeIdInformation.isRangeKeyAware()).thenReturn(true);
+		when(entityWithCompositeIdInformation.getHashKey(testPlaylistId)).thenReturn("michael");
+		when(entityWithCompositeIdInformation.getRangeKey(testPlaylistId)).thenReturn("playlist1");
+		when(asyncDynamoDBOperations.load(Playlist.class, "michael", "playlist1"))
+				.thenReturn(CompletableFuture.completedFuture(testPlaylist));
+
+		StepVerifier.create(repoForEntityWithHashAndRangeKey.findById(testPlaylistId)).expectNext(testPlaylist)
+				.verifyComplete();
+	}
+
+	@Test
+	public void testExistsById() {
+		when(entityWithSimpleIdInformation.getHashKey(1L)).thenReturn(1L);
+		when(entityWithSimpleIdInformation.getHashKey(2L)).thenReturn(2L);
+		when(asyncDynamoDBOperations.load(User.class, 1L)).thenReturn(CompletableFuture.completedFuture(testUser));
+		when(asyncDynamoDBOperations.load(User.class, 2L)).thenReturn(CompletableFuture.completedFuture(null));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.existsById(1L)).expectNext(true).verifyComplete();
+		StepVerifier.create(repoForEntityWithOnlyHashKey.existsById(Flux.just(2L))).expectNext(false)
+				.verifyComplete();
+	}
+
+	@Test
+	public void testFindAllFetchesPagesOnDemand() {
+		User otherUser = new User();
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", new AttributeValue("1"));
+		ArgumentCaptor<DynamoDBScanExpression> scanCaptor = ArgumentCaptor.forClass(DynamoDBScanExpression.class);
+		when(mockEnableScanPermissions.isFindAllUnpaginatedScanEnabled()).thenReturn(true);
+		when(asyncDynamoDBOperations.scanPage(eq(User.class), scanCaptor.capture())).thenReturn(
+				CompletableFuture.completedFuture(scanPage(Collections.singletonList(testUser), lastEvaluatedKey)),
+				CompletableFuture.completedFuture(scanPage(Collections.singletonList(otherUser), null)));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.findAll(), 1).expectNext(testUser)
+				.then(() -> verify(asyncDynamoDBOperations, times(1)).scanPage(eq(User.class),
+						any(DynamoDBScanExpression.class)))
+				.thenRequest(1).expectNext(otherUser).verifyComplete();
+
+		assertNull(scanCaptor.getAllValues().get(0).getExclusiveStartKey());
+		assertEquals(lastEvaluatedKey, scanCaptor.getAllValues().get(1).getExclusiveStartKey());
+	}
+
+	@Test
+	public void testFindAllScanNotEnabled() {
+		expectedException.expect(IllegalArgumentException.class);
+		expectedException.expectMessage("Scanning for unpaginated findAll() queries is not enabled.");
+
+		repoForEntityWithOnlyHashKey.findAll();
+	}
+
+	@Test
+	public void testCount() {
+		when(mockEnableScanPermissions.isCountUnpaginatedScanEnabled()).thenReturn(true);
+		when(asyncDynamoDBOperations.count(eq(User.class), any(DynamoDBScanExpression.class)))
+				.thenReturn(CompletableFuture.completedFuture(42));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.count()).expectNext(42L).verifyComplete();
+	}
+
+	@Test
+	public void testSaveAllPublisherIsBatched() {
+		when(asyncDynamoDBOperations.batchSave(anyIterable()))
+				.thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+		Flux<User> users = Flux.range(0, 30).map(i -> new User());
+		StepVerifier.create(repoForEntityWithOnlyHashKey.saveAll(users)).expectNextCount(30).verifyComplete();
+
+		verify(asyncDynamoDBOperations, times(2)).batchSave(anyIterable());
+	}
+
+	@Test
+	public void testSaveAllFailed() {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new Exception("Test Exception"));
+		when(asyncDynamoDBOperations.batchSave(anyIterable()))
+				.thenReturn(CompletableFuture.completedFuture(Collections.singletonList(failedBatch)));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.saveAll(Arrays.asList(testUser, new User())))
+				.verifyError(BatchWriteException.class);
+	}
+
+	@Test
+	public void testDeleteById() {
+		when(asyncDynamoDBOperations.isEntityRequiredForDelete(User.class)).thenReturn(true);
+		when(entityWithSimpleIdInformation.getHashKey(1L)).thenReturn(1L);
+		when(asyncDynamoDBOperations.load(User.class, 1L)).thenReturn(CompletableFuture.completedFuture(testUser));
+		when(asyncDynamoDBOperations.delete(testUser)).thenReturn(CompletableFuture.completedFuture(testUser));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.deleteById(1L)).verifyComplete();
+
+		verify(asyncDynamoDBOperations).delete(testUser);
+	}
+
+	@Test
+	public void testDeleteByIdNotFound() {
+		when(asyncDynamoDBOperations.isEntityRequiredForDelete(User.class)).thenReturn(true);
+		when(entityWithSimpleIdInformation.getHashKey(2L)).thenReturn(2L);
+		when(asyncDynamoDBOperations.load(User.class, 2L)).thenReturn(CompletableFuture.completedFuture(null));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.deleteById(2L))
+				.verifyError(EmptyResultDataAccessException.class);
+	}
+
+	@Test
+	public void testDeleteByIdWithoutReading() {
+		when(entityWithCompositeIdInformation.isRangeKeyAware()).thenReturn(true);
+		when(entityWithCompositeIdInformation.getHashKey(testPlaylistId)).thenReturn("michael");
+		when(entityWithCompositeIdInformation.getRangeKey(testPlaylistId)).thenReturn("playlist1");
+		when(asyncDynamoDBOperations.deleteByKey(Playlist.class, "michael", "playlist1"))
+				.thenReturn(CompletableFuture.completedFuture(true));
+
+		StepVerifier.create(repoForEntityWithHashAndRangeKey.deleteById(testPlaylistId)).verifyComplete();
+
+		verify(asyncDynamoDBOperations, never()).load(any(), any(), any());
+		verify(asyncDynamoDBOperations, never()).delete(any());
+	}
+
+	@Test
+	public void testDeleteByIdWithoutReadingNotFound() {
+		when(entityWithSimpleIdInformation.getHashKey(2L)).thenReturn(2L);
+		when(asyncDynamoDBOperations.deleteByKey(User.class, 2L, null))
+				.thenReturn(CompletableFuture.completedFuture(false));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.deleteById(2L))
+				.verifyError(EmptyResultDataAccessException.class);
+	}
+
+	@Test
+	public void testDeleteAllFailed() {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new Exception("Test Exception"));
+		when(asyncDynamoDBOperations.batchDelete(anyIterable()))
+				.thenReturn(CompletableFuture.completedFuture(Collections.singletonList(failedBatch)));
+
+		StepVerifier.create(repoForEntityWithOnlyHashKey.deleteAll(Collections.singletonList(testUser)))
+				.verifyError(BatchDeleteException.class);
+	}
+}
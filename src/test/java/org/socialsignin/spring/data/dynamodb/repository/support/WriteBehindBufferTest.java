@@ -0,0 +1,293 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WriteBehindBufferTest {
+	@Rule
+	public ExpectedException expectedException = ExpectedException.none();
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private DynamoDBEntityInformation<User, String> entityInformation;
+	@Mock
+	private ScheduledExecutorService scheduler;
+
+	private final DynamoDBMapperTableModel<User> tableModel = new DynamoDBMapper(mock(AmazonDynamoDB.class))
+			.getTableModel(User.class);
+	private List<List<User>> writtenBatches;
+
+	@Before
+	public void setUp() {
+		when(entityInformation.getId(any(User.class))).thenAnswer(invocation -> {
+			User user = invocation.getArgument(0);
+			return user.getId();
+		});
+		when(entityInformation.getHashKey(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		writtenBatches = new ArrayList<>();
+		when(dynamoDBOperations.batchSave(anyList())).thenAnswer(invocation -> {
+			List<User> batch = invocation.getArgument(0);
+			writtenBatches.add(new ArrayList<>(batch));
+			return Collections.emptyList();
+		});
+	}
+
+	private WriteBehindBuffer<User, String> buffer(int maxBatch, int capacity) {
+		return new WriteBehindBuffer<>(dynamoDBOperations, entityInformation, tableModel, 100, maxBatch, capacity,
+				scheduler);
+	}
+
+	private static User user(String id, String name) {
+		User user = new User();
+		user.setId(id);
+		user.setName(name);
+		return user;
+	}
+
+	@Test
+	public void testSchedulesSingleDelayedFlush() {
+		doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+				any(TimeUnit.class));
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+
+		buffer.add(user("1", "first"));
+		buffer.add(user("2", "second"));
+
+		verify(scheduler).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+		verify(dynamoDBOperations, times(0)).batchSave(anyList());
+	}
+
+	@Test
+	public void testCoalescesRepeatedSavesOfSameKey() {
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		User second = user("2", "second");
+		User firstUpdated = user("1", "updated");
+
+		buffer.add(user("1", "first"));
+		buffer.add(second);
+		buffer.add(firstUpdated);
+		buffer.close();
+
+		assertEquals(Collections.singletonList(Arrays.asList(firstUpdated, second)), writtenBatches);
+		verify(scheduler).shutdown();
+	}
+
+	@Test
+	public void testWritesInChunksOfMaxBatch() {
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		for (int i = 0; i < 30; i++) {
+			buffer.add(user(String.valueOf(i), null));
+		}
+		// Only one flush is requested once maxBatch is reached
+		verify(scheduler).execute(any(Runnable.class));
+
+		buffer.close();
+
+		assertEquals(2, writtenBatches.size());
+		assertEquals(25, writtenBatches.get(0).size());
+		assertEquals(5, writtenBatches.get(1).size());
+	}
+
+	@Test
+	public void testFullBufferIsFlushedByCaller() {
+		WriteBehindBuffer<User, String> buffer = buffer(2, 3);
+
+		buffer.add(user("1", null));
+		buffer.add(user("2", null));
+		buffer.add(user("3", null));
+
+		assertEquals(2, writtenBatches.size());
+		assertEquals(2, writtenBatches.get(0).size());
+		assertEquals(1, writtenBatches.get(1).size());
+	}
+
+	@Test
+	public void testFlushCompletesOnceWritten() throws Exception {
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		buffer.add(user("1", null));
+
+		CompletableFuture<Void> flushed = buffer.flush();
+		assertFalse(flushed.isDone());
+
+		ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).execute(flush.capture());
+		flush.getValue().run();
+
+		assertTrue(flushed.isDone());
+		flushed.get();
+		assertEquals(1, writtenBatches.size());
+	}
+
+	@Test
+	public void testFlushFailsWithBatchWriteException() throws Exception {
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new RuntimeException("Test Exception"));
+		when(dynamoDBOperations.batchSave(anyList())).thenReturn(Collections.singletonList(failedBatch));
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		buffer.add(user("1", null));
+
+		CompletableFuture<Void> flushed = buffer.flush();
+		ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).execute(flush.capture());
+		flush.getValue().run();
+
+		expectedException.expect(ExecutionException.class);
+		expectedException.expectCause(instanceOf(BatchWriteException.class));
+		flushed.get();
+	}
+
+	@Test
+	public void testFailedEntitiesAreWrittenWithNextFlush() {
+		User first = user("1", "first");
+		User second = user("2", "second");
+		FailedBatch failedBatch = new FailedBatch();
+		failedBatch.setException(new RuntimeException("Test Exception"));
+		failedBatch.setUnprocessedItems(Collections.singletonMap("user",
+				Collections.singletonList(new WriteRequest(new PutRequest(tableModel.convert(second))))));
+		when(dynamoDBOperations.batchSave(anyList())).thenReturn(Collections.singletonList(failedBatch))
+				.thenReturn(Collections.emptyList());
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		buffer.add(first);
+		buffer.add(second);
+
+		CompletableFuture<Void> flushed = buffer.flush();
+		ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).execute(flush.capture());
+		flush.getValue().run();
+
+		assertTrue(flushed.isCompletedExceptionally());
+		assertEquals(Optional.empty(), buffer.get("1"));
+		assertEquals(Optional.of(second), buffer.get("2"));
+
+		buffer.close();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<User>> batches = ArgumentCaptor.forClass(List.class);
+		verify(dynamoDBOperations, times(2)).batchSave(batches.capture());
+		assertEquals(Arrays.asList(Arrays.asList(first, second), Collections.singletonList(second)),
+				batches.getAllValues());
+	}
+
+	@Test
+	public void testCloseFailsIfEntitiesCannotBeWritten() {
+		when(dynamoDBOperations.batchSave(anyList())).thenThrow(new IllegalStateException("Test Exception"));
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		buffer.add(user("1", null));
+
+		expectedException.expect(IllegalStateException.class);
+		buffer.close();
+	}
+
+	@Test
+	public void testBuffersCopyOfEntity() {
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		User user = user("1", "saved");
+		buffer.add(user);
+
+		user.setName("changed");
+
+		assertEquals(Optional.of(user("1", "saved")), buffer.get("1"));
+		buffer.close();
+		assertEquals(Collections.singletonList(Collections.singletonList(user("1", "saved"))), writtenBatches);
+	}
+
+	@Test
+	public void testGetAndDiscard() {
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		User user = user("1", null);
+		buffer.add(user);
+
+		assertEquals(Optional.of(user), buffer.get("1"));
+		buffer.discard("1");
+		assertEquals(Optional.empty(), buffer.get("1"));
+
+		buffer.close();
+		assertTrue(writtenBatches.isEmpty());
+	}
+
+	@Test
+	public void testEntityWithoutKeyIsSavedRightAway() {
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		User user = user(null, "generated");
+
+		buffer.add(user);
+
+		verify(dynamoDBOperations).save(user);
+		buffer.close();
+		assertTrue(writtenBatches.isEmpty());
+	}
+
+	@Test
+	public void testAddAfterCloseIsRejected() {
+		when(entityInformation.getJavaType()).thenReturn(User.class);
+		WriteBehindBuffer<User, String> buffer = buffer(25, 100);
+		buffer.close();
+
+		expectedException.expect(IllegalStateException.class);
+		buffer.add(user("1", null));
+	}
+
+	@Test
+	public void testMaxBatchIsLimitedToBatchWriteItemSize() {
+		expectedException.expect(IllegalArgumentException.class);
+		buffer(26, 100);
+	}
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplateTest.VersionedEntity;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.WriteBehind;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WriteBehindBuffersTest {
+	@Rule
+	public ExpectedException expectedException = ExpectedException.none();
+
+	@WriteBehind
+	private interface WriteBehindRepository {
+	}
+
+	private final WriteBehind writeBehind = WriteBehindRepository.class.getAnnotation(WriteBehind.class);
+	private final DynamoDBMapper dynamoDBMapper = new DynamoDBMapper(mock(AmazonDynamoDB.class));
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private DynamoDBEntityInformation<User, String> userInformation;
+	@Mock
+	private DynamoDBEntityInformation<Playlist, PlaylistId> playlistInformation;
+
+	@Before
+	public void setUp() {
+		when(userInformation.getJavaType()).thenReturn(User.class);
+		when(userInformation.getDynamoDBTableName()).thenReturn("user");
+		when(dynamoDBOperations.getTableModel(User.class)).thenReturn(dynamoDBMapper.getTableModel(User.class));
+		when(dynamoDBOperations.getOverriddenTableName(User.class, "user")).thenReturn("shared");
+	}
+
+	@Test
+	public void testRepositoriesOfSameTableShareBuffer() {
+		WriteBehindBuffer<User, String> first = WriteBehindBuffers.acquire(dynamoDBOperations, userInformation,
+				writeBehind);
+		WriteBehindBuffer<User, String> second = WriteBehindBuffers.acquire(dynamoDBOperations, userInformation,
+				writeBehind);
+
+		assertSame(first, second);
+
+		WriteBehindBuffers.release(dynamoDBOperations, first);
+		WriteBehindBuffers.release(dynamoDBOperations, second);
+	}
+
+	@Test
+	public void testBufferIsClosedByLastRelease() {
+		WriteBehindBuffer<User, String> first = WriteBehindBuffers.acquire(dynamoDBOperations, userInformation,
+				writeBehind);
+		WriteBehindBuffer<User, String> second = WriteBehindBuffers.acquire(dynamoDBOperations, userInformation,
+				writeBehind);
+		User user = new User();
+		user.setId("1");
+		when(userInformation.getId(user)).thenReturn("1");
+		when(userInformation.getHashKey("1")).thenReturn("1");
+
+		WriteBehindBuffers.release(dynamoDBOperations, first);
+		WriteBehindBuffers.release(dynamoDBOperations, second);
+
+		expectedException.expect(IllegalStateException.class);
+		second.add(user);
+	}
+
+	@Test
+	public void testTableOfOtherEntityTypeIsRejected() {
+		when(playlistInformation.getJavaType()).thenReturn(Playlist.class);
+		when(playlistInformation.getDynamoDBTableName()).thenReturn("playlist");
+		when(dynamoDBOperations.getTableModel(Playlist.class))
+				.thenReturn(dynamoDBMapper.getTableModel(Playlist.class));
+		when(dynamoDBOperations.getOverriddenTableName(Playlist.class, "playlist")).thenReturn("shared");
+		WriteBehindBuffer<User, String> buffer = WriteBehindBuffers.acquire(dynamoDBOperations, userInformation,
+				writeBehind);
+
+		try {
+			expectedException.expect(IllegalStateException.class);
+			WriteBehindBuffers.acquire(dynamoDBOperations, playlistInformation, writeBehind);
+		} finally {
+			WriteBehindBuffers.release(dynamoDBOperations, buffer);
+		}
+	}
+
+	@Test
+	public void testVersionedEntityIsRejected() {
+		@SuppressWarnings("unchecked")
+		DynamoDBEntityInformation<VersionedEntity, String> versionedInformation = mock(
+				DynamoDBEntityInformation.class);
+		when(versionedInformation.getJavaType()).thenReturn(VersionedEntity.class);
+		when(dynamoDBOperations.getTableModel(VersionedEntity.class))
+				.thenReturn(dynamoDBMapper.getTableModel(VersionedEntity.class));
+
+		expectedException.expect(IllegalStateException.class);
+		WriteBehindBuffers.acquire(dynamoDBOperations, versionedInformation, writeBehind);
+	}
+}